@@ -1,15 +1,21 @@
 package com.ctrls.auto_enter_view;
 
+import com.ctrls.auto_enter_view.config.WorkerModeInitializer;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
 public class AutoEnterViewApplication {
 
   public static void main(String[] args) {
 
-    SpringApplication.run(AutoEnterViewApplication.class, args);
+    SpringApplication application = new SpringApplication(AutoEnterViewApplication.class);
+    // --spring.profiles.active=worker 로 실행하면 API 없이 작업만 실행
+    application.addInitializers(new WorkerModeInitializer());
+    application.run(args);
   }
 }
\ No newline at end of file
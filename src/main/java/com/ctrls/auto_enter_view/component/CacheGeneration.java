@@ -0,0 +1,86 @@
+package com.ctrls.auto_enter_view.component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 캐시 네임스페이스의 세대 번호로 캐시를 무효화
+ * <p>
+ * 캐시 키에 네임스페이스의 현재 세대를 포함하고, 무효화할 때는 세대만 INCR 로 올린다. 이전 세대의 캐시는 더 이상 조회되지 않고 만료 시간이
+ * 지나면 삭제되므로, KEYS 로 키를 찾아 지우지 않아도 되고 무효화 비용이 캐시 키 수와 상관없다. 세대를 올린 뒤에는
+ * INVALIDATION_CHANNEL 로 새 세대를 알려 각 노드의 로컬 캐시(TwoTierCache)도 비운다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheGeneration {
+
+  // 무효화 메시지 채널, 메시지는 namespace:generation
+  public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+
+  private final RedisTemplate<String, String> redisStringTemplate;
+
+  /**
+   * 네임스페이스의 현재 세대, 요청마다 한 번만 조회하여 같은 세대의 키로 조회하고 저장
+   *
+   * @param namespace 캐시 네임스페이스
+   * @return 현재 세대, 한 번도 무효화되지 않았다면 0
+   */
+  public long current(String namespace) {
+
+    String generation = redisStringTemplate.opsForValue().get(generationKey(namespace));
+
+    return generation == null ? 0 : Long.parseLong(generation);
+  }
+
+  /**
+   * 네임스페이스의 세대를 올려 이전 세대의 캐시를 모두 무효화
+   * <p>
+   * 트랜잭션 안에서 호출하면 커밋된 뒤에 세대를 올려, 커밋 전의 데이터가 새 세대에 캐시되지 않도록 한다.
+   *
+   * @param namespace 캐시 네임스페이스
+   */
+  public void invalidate(String namespace) {
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          increment(namespace);
+        }
+      });
+      return;
+    }
+
+    increment(namespace);
+  }
+
+  /**
+   * 세대를 포함한 캐시 키
+   *
+   * @param namespace  캐시 네임스페이스
+   * @param generation current 로 조회한 세대
+   * @param key        네임스페이스 안에서의 키
+   * @return namespace:generation:key
+   */
+  public static String key(String namespace, long generation, String key) {
+
+    return namespace + ":" + generation + ":" + key;
+  }
+
+  private void increment(String namespace) {
+
+    Long generation = redisStringTemplate.opsForValue().increment(generationKey(namespace));
+    redisStringTemplate.convertAndSend(INVALIDATION_CHANNEL, namespace + ":" + generation);
+    log.info("캐시 무효화 - {} 세대 {}", namespace, generation);
+  }
+
+  private static String generationKey(String namespace) {
+
+    return namespace + ":generation";
+  }
+}
@@ -0,0 +1,281 @@
+package com.ctrls.auto_enter_view.component;
+
+import com.ctrls.auto_enter_view.config.QuartzConfig;
+import com.ctrls.auto_enter_view.entity.MailAlarmInfoEntity;
+import com.ctrls.auto_enter_view.repository.JobPostingRepository;
+import com.ctrls.auto_enter_view.repository.MailAlarmInfoRepository;
+import com.ctrls.auto_enter_view.service.ClosingSweepService;
+import com.ctrls.auto_enter_view.service.MailAlarmInfoService;
+import com.ctrls.auto_enter_view.util.RateLimiter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버가 내려가 있는 동안 밀린 작업을 재시작 후 순서대로 나누어 처리
+ * <p>
+ * 밀린 예약 메일과 마감 처리 트리거는 재시작 시 바로 실행되지 않고(미스파이어 시 실행하지 않음), 이 클래스가 예약 메일 -> 채점 -> 필터링
+ * 순서로 다시 실행한다. 예약 메일은 최대 concurrency 개씩, 초당 rate-per-second 건까지만 발송하고, 채점과 필터링은 마감 처리 작업이
+ * scoring.executor.parallelism 개씩 진행한다. 밀린 작업이 모두 끝날 때까지 진행 상황을 주기적으로 기록한다. 모든 노드가 시작할 때
+ * 실행되지만 리스 잠금을 가진 노드에서만 처리한다.
+ */
+@Component
+@Slf4j
+public class CatchUpCoordinator {
+
+  public static final String LOCK_NAME = "catch-up";
+
+  @Value("${jobs.enabled:true}")
+  private boolean jobsEnabled;
+
+  @Value("${catch-up.concurrency:2}")
+  private int concurrency;
+
+  @Value("${catch-up.rate-per-second:5}")
+  private double ratePerSecond;
+
+  // 이보다 오래 지난 예약 메일은 의미가 없으므로 발송하지 않음
+  @Value("${catch-up.mail-max-delay-hours:6}")
+  private long mailMaxDelayHours;
+
+  // 이보다 최근에 예약 시간이 된 메일은 Quartz 가 발송
+  @Value("${catch-up.mail-grace-seconds:60}")
+  private long mailGraceSeconds;
+
+  @Value("${catch-up.progress-interval-millis:10000}")
+  private long progressIntervalMillis;
+
+  // 남은 채용 공고 수가 이 횟수만큼 연속으로 줄지 않으면 진행 상황 기록을 멈춤
+  @Value("${catch-up.stall-polls:6}")
+  private int stallPolls;
+
+  private final JobPostingRepository jobPostingRepository;
+  private final MailAlarmInfoRepository mailAlarmInfoRepository;
+  private final MailAlarmInfoService mailAlarmInfoService;
+  private final Scheduler closingScheduler;
+  private final LeaseLock leaseLock;
+
+  private final AtomicBoolean running = new AtomicBoolean();
+
+  private ExecutorService executorService;
+  private ExecutorService coordinatorService;
+  private RateLimiter rateLimiter;
+
+  public CatchUpCoordinator(JobPostingRepository jobPostingRepository,
+      MailAlarmInfoRepository mailAlarmInfoRepository, MailAlarmInfoService mailAlarmInfoService,
+      @Qualifier("closingScheduler") Scheduler closingScheduler, LeaseLock leaseLock) {
+
+    this.jobPostingRepository = jobPostingRepository;
+    this.mailAlarmInfoRepository = mailAlarmInfoRepository;
+    this.mailAlarmInfoService = mailAlarmInfoService;
+    this.closingScheduler = closingScheduler;
+    this.leaseLock = leaseLock;
+  }
+
+  @PostConstruct
+  protected void init() {
+
+    executorService = Executors.newFixedThreadPool(concurrency,
+        new CustomizableThreadFactory("catch-up-"));
+    coordinatorService = Executors.newSingleThreadExecutor(
+        new CustomizableThreadFactory("catch-up-coordinator-"));
+    rateLimiter = new RateLimiter(ratePerSecond);
+  }
+
+  @PreDestroy
+  protected void shutdown() throws InterruptedException {
+
+    coordinatorService.shutdownNow();
+    executorService.shutdown();
+
+    if (!executorService.awaitTermination(30, TimeUnit.SECONDS)) {
+      executorService.shutdownNow();
+    }
+  }
+
+  // 재시작 후 밀린 작업 처리, 애플리케이션 시작을 막지 않도록 별도 스레드에서 실행
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+
+    if (!jobsEnabled) {
+      return;
+    }
+
+    coordinatorService.execute(this::catchUp);
+  }
+
+  // 실행 중에도 메일 레인이 밀려 미스파이어된 예약 메일을 주기적으로 발송
+  @Scheduled(initialDelayString = "${catch-up.interval-millis:300000}",
+      fixedDelayString = "${catch-up.interval-millis:300000}")
+  public void replayMissedMails() {
+
+    if (!jobsEnabled || !running.compareAndSet(false, true)) {
+      return;
+    }
+
+    try {
+      leaseLock.runExclusively(LOCK_NAME, () -> {
+        try {
+          replayOverdueMails();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+    } finally {
+      running.set(false);
+    }
+  }
+
+  /**
+   * 밀린 예약 메일을 모두 발송한 뒤 밀린 마감 처리 실행
+   */
+  public void catchUp() {
+
+    if (!running.compareAndSet(false, true)) {
+      log.info("밀린 작업 처리가 이미 실행 중");
+      return;
+    }
+
+    try {
+      leaseLock.runExclusively(LOCK_NAME, () -> {
+        try {
+          replayOverdueMails();
+          catchUpClosing();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } catch (Exception e) {
+          log.error("밀린 작업 처리 실패", e);
+        }
+      });
+    } finally {
+      running.set(false);
+    }
+  }
+
+  /**
+   * 예약 시간이 지났지만 발송되지 않은 예약 메일을 예약 시간 순서대로 발송
+   * <p>
+   * 최대 concurrency 개씩 동시에, 초당 rate-per-second 건까지만 발송하고 모두 끝날 때까지 대기한다. 이미 다른 노드나 Quartz 작업이
+   * 발송한 예약 메일은 건너뛴다.
+   *
+   * @return 발송한 예약 메일 수
+   * @throws InterruptedException 대기 중 인터럽트된 경우
+   */
+  public int replayOverdueMails() throws InterruptedException {
+
+    LocalDateTime now = LocalDateTime.now();
+    List<MailAlarmInfoEntity> overdueMails = mailAlarmInfoRepository.findAllByMailSentAtIsNullAndMailSendDateTimeBetweenOrderByMailSendDateTimeAsc(
+        now.minusHours(mailMaxDelayHours), now.minusSeconds(mailGraceSeconds));
+
+    if (overdueMails.isEmpty()) {
+      return 0;
+    }
+
+    log.info("밀린 예약 메일 {}건 발송 시작 - 동시 발송 수 {}, 초당 {}건", overdueMails.size(), concurrency,
+        ratePerSecond);
+
+    AtomicInteger doneCount = new AtomicInteger();
+    AtomicInteger sentCount = new AtomicInteger();
+    AtomicInteger failedCount = new AtomicInteger();
+
+    // 작업 큐가 FIFO 이므로 예약 시간이 빠른 메일부터 발송
+    CompletableFuture<?>[] futures = overdueMails.stream()
+        .map(mailAlarmInfo -> CompletableFuture.runAsync(() -> {
+          try {
+            rateLimiter.acquire();
+
+            if (mailAlarmInfoService.sendMailAlarm(mailAlarmInfo.getId())) {
+              sentCount.incrementAndGet();
+            }
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          } catch (Exception e) {
+            failedCount.incrementAndGet();
+            log.error("밀린 예약 메일 발송 실패 - mailId: {}", mailAlarmInfo.getId(), e);
+          } finally {
+            doneCount.incrementAndGet();
+          }
+        }, executorService))
+        .toArray(CompletableFuture[]::new);
+
+    CompletableFuture<Void> all = CompletableFuture.allOf(futures);
+
+    while (true) {
+      try {
+        all.get(progressIntervalMillis, TimeUnit.MILLISECONDS);
+        break;
+      } catch (TimeoutException e) {
+        log.info("밀린 예약 메일 발송 중 - {}/{}건", doneCount.get(), overdueMails.size());
+      } catch (ExecutionException e) {
+        // 각 작업에서 예외를 처리하므로 발생하지 않음
+        break;
+      }
+    }
+
+    log.info("밀린 예약 메일 발송 완료 - 발송 {}건, 이미 발송 {}건, 실패 {}건", sentCount.get(),
+        overdueMails.size() - sentCount.get() - failedCount.get(), failedCount.get());
+
+    return sentCount.get();
+  }
+
+  /**
+   * 마감일이 지난 채용 공고를 마감하고 마감 처리 작업을 바로 실행한 뒤, 채점과 필터링이 끝날 때까지 남은 채용 공고 수를 기록
+   *
+   * @return 이번에 채점과 필터링이 끝난 채용 공고 수
+   * @throws SchedulerException   마감 처리 작업을 실행하지 못한 경우
+   * @throws InterruptedException 대기 중 인터럽트된 경우
+   */
+  public long catchUpClosing() throws SchedulerException, InterruptedException {
+
+    jobPostingRepository.closeExpiredJobPostings(LocalDate.now());
+    long backlog = jobPostingRepository.countByStatusIn(ClosingSweepService.PENDING_STATUSES);
+
+    if (backlog == 0) {
+      return 0;
+    }
+
+    log.info("밀린 마감 처리 채용 공고 {}건 - 마감 처리 작업 실행", backlog);
+    closingScheduler.triggerJob(QuartzConfig.CLOSING_SWEEP_JOB_KEY);
+
+    long remaining = backlog;
+    int stalled = 0;
+
+    while (remaining > 0 && stalled < stallPolls) {
+      TimeUnit.MILLISECONDS.sleep(progressIntervalMillis);
+
+      long current = jobPostingRepository.countByStatusIn(ClosingSweepService.PENDING_STATUSES);
+      stalled = current < remaining ? 0 : stalled + 1;
+      remaining = current;
+
+      log.info("밀린 마감 처리 진행 중 - {}/{}건 완료", Math.max(0, backlog - remaining), backlog);
+    }
+
+    if (remaining > 0) {
+      log.warn("밀린 마감 처리가 진행되지 않음 - 남은 채용 공고 {}건, 다음 마감 처리 작업에서 계속", remaining);
+    } else {
+      log.info("밀린 마감 처리 완료 - {}건", backlog);
+    }
+
+    return Math.max(0, backlog - remaining);
+  }
+}
@@ -0,0 +1,195 @@
+package com.ctrls.auto_enter_view.component;
+
+import com.ctrls.auto_enter_view.entity.ScoringProgressEntity;
+import com.ctrls.auto_enter_view.enums.JobPostingStatus;
+import com.ctrls.auto_enter_view.repository.JobPostingRepository;
+import com.ctrls.auto_enter_view.repository.ScoringProgressRepository;
+import com.ctrls.auto_enter_view.service.FilteringService;
+import com.ctrls.auto_enter_view.service.ScoringService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 마감된 여러 채용 공고를 동시에 채점하고, 채점이 커밋된 채용 공고를 바로 이어서 필터링하는 실행기
+ * <p>
+ * 채용 공고마다 채점 -> SCORED 상태 변경 -> 필터링을 같은 스레드에서 순서대로 실행하므로, 지원자가 적은 채용 공고는 다른 채용 공고의
+ * 채점을 기다리지 않고, 지원자가 많은 채용 공고는 채점이 모두 끝나기 전에 필터링되지 않는다. 동시에 사용하는 DB 커넥션 수는 최대
+ * parallelism 개로 제한된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClosingPipelineExecutor {
+
+  @Value("${scoring.executor.parallelism:4}")
+  private int parallelism;
+
+  @Value("${closing-sweep.max-failure-count:5}")
+  private int maxFailureCount;
+
+  private final FilteringService filteringService;
+  private final JobPostingRepository jobPostingRepository;
+  private final ScoringProgressRepository scoringProgressRepository;
+  private final ScoringService scoringService;
+
+  private ExecutorService executorService;
+
+  @PostConstruct
+  protected void init() {
+
+    executorService = Executors.newFixedThreadPool(parallelism,
+        new CustomizableThreadFactory("closing-pipeline-"));
+  }
+
+  @PreDestroy
+  protected void shutdown() throws InterruptedException {
+
+    executorService.shutdown();
+
+    if (!executorService.awaitTermination(30, TimeUnit.SECONDS)) {
+      executorService.shutdownNow();
+    }
+  }
+
+  /**
+   * 채용 공고들을 최대 parallelism 개씩 동시에 채점, 필터링하고 모두 끝날 때까지 대기
+   * <p>
+   * 한 채용 공고가 실패해도 나머지 채용 공고는 계속 진행되며, 실패한 채용 공고는 마지막으로 완료된 단계의 상태로 남고 실패 횟수가
+   * 기록된다. 실패 횟수가 maxFailureCount 에 도달한 채용 공고는 ClosingSweepService 가 더 이상 다시 처리하지 않는다.
+   *
+   * @param jobPostingKeys CLOSED 또는 SCORED 상태의 채용 공고 키 목록
+   * @return 채용 공고별 도달한 상태와 단계별 소요 시간
+   */
+  public List<Result> runAll(Collection<String> jobPostingKeys) {
+
+    log.info("채용 공고 {}건 마감 처리 시작 - 동시 실행 수 {}", jobPostingKeys.size(), parallelism);
+    long startTime = System.nanoTime();
+
+    List<CompletableFuture<Result>> futures = jobPostingKeys.stream()
+        .map(jobPostingKey -> CompletableFuture.supplyAsync(() -> run(jobPostingKey, startTime),
+            executorService))
+        .toList();
+
+    List<Result> results = futures.stream()
+        .map(CompletableFuture::join)
+        .toList();
+
+    log.info("채용 공고 {}건 마감 처리 완료 - 총 {}ms, 필터링 {}건, 최대 대기 {}ms, 최대 채점 {}ms, 최대 필터링 {}ms",
+        results.size(), toMillis(System.nanoTime() - startTime),
+        results.stream().filter(Result::isFiltered).count(),
+        max(results, Result::getWaitMillis), max(results, Result::getScoringMillis),
+        max(results, Result::getFilteringMillis));
+
+    return results;
+  }
+
+  // 채용 공고 하나를 채점한 뒤 바로 필터링하고 단계별 소요 시간 기록
+  private Result run(String jobPostingKey, long submittedTime) {
+
+    long scoringStartTime = System.nanoTime();
+    Result.ResultBuilder result = Result.builder()
+        .jobPostingKey(jobPostingKey)
+        .status(JobPostingStatus.CLOSED)
+        .waitMillis(toMillis(scoringStartTime - submittedTime));
+
+    try {
+      // 채점은 끝났지만 상태를 바꾸기 전에 중단된 채용 공고는 다시 채점하지 않음
+      boolean scored = scoringProgressRepository.findById(jobPostingKey)
+          .map(ScoringProgressEntity::isCompleted)
+          .orElse(false);
+
+      // 분산 채점 중인 범위가 남아 있으면 실패로 기록하지 않고 CLOSED 로 두어 다음 마감 처리에서 다시 확인
+      if (!scored && !scoringService.scoreApplicants(jobPostingKey)) {
+        return finish(result.scoringMillis(toMillis(System.nanoTime() - scoringStartTime)));
+      }
+
+      jobPostingRepository.updateStatus(jobPostingKey, JobPostingStatus.CLOSED,
+          JobPostingStatus.SCORED);
+      result.status(JobPostingStatus.SCORED)
+          .scoringMillis(toMillis(System.nanoTime() - scoringStartTime));
+
+      long filteringStartTime = System.nanoTime();
+
+      if (filteringService.filterCandidates(jobPostingKey)) {
+        result.status(JobPostingStatus.FILTERED);
+      }
+      result.filteringMillis(toMillis(System.nanoTime() - filteringStartTime));
+    } catch (Exception e) {
+      log.error("채용 공고 마감 처리 실패 - jobPostingKey: {}", jobPostingKey, e);
+      recordFailure(jobPostingKey);
+    }
+
+    return finish(result);
+  }
+
+  // 도달한 상태와 단계별 소요 시간 기록
+  private static Result finish(Result.ResultBuilder result) {
+
+    Result finished = result.build();
+    log.info("채용 공고 마감 처리 소요 시간 - jobPostingKey: {}, 상태 {}, 대기 {}ms, 채점 {}ms, 필터링 {}ms",
+        finished.getJobPostingKey(), finished.getStatus(), finished.getWaitMillis(),
+        finished.getScoringMillis(), finished.getFilteringMillis());
+
+    return finished;
+  }
+
+  // 실패 횟수를 기록하고 최대 횟수에 도달하면 더 이상 다시 처리하지 않음을 기록
+  private void recordFailure(String jobPostingKey) {
+
+    try {
+      ScoringProgressEntity progress = scoringProgressRepository.findById(jobPostingKey)
+          .orElseGet(() -> ScoringProgressEntity.builder().jobPostingKey(jobPostingKey).build());
+      int failureCount = progress.fail();
+      scoringProgressRepository.save(progress);
+
+      if (failureCount >= maxFailureCount) {
+        log.error("채용 공고 마감 처리 {}번 실패, 더 이상 다시 처리하지 않음 - jobPostingKey: {}", failureCount,
+            jobPostingKey);
+      }
+    } catch (Exception e) {
+      log.error("채용 공고 마감 처리 실패 횟수 기록 실패 - jobPostingKey: {}", jobPostingKey, e);
+    }
+  }
+
+  private static long toMillis(long nanos) {
+
+    return TimeUnit.NANOSECONDS.toMillis(nanos);
+  }
+
+  private static long max(List<Result> results, ToLongFunction<Result> stageMillis) {
+
+    return results.stream().mapToLong(stageMillis).max().orElse(0);
+  }
+
+  @Builder
+  @Getter
+  public static class Result {
+
+    private String jobPostingKey;
+    // 마지막으로 완료된 단계의 상태
+    private JobPostingStatus status;
+    // 실행을 요청한 뒤 스레드를 할당받기까지 대기한 시간
+    private long waitMillis;
+    private long scoringMillis;
+    private long filteringMillis;
+
+    public boolean isFiltered() {
+
+      return status == JobPostingStatus.FILTERED;
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package com.ctrls.auto_enter_view.component;
+
+import com.ctrls.auto_enter_view.service.ClosingSweepService;
+import lombok.RequiredArgsConstructor;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 마감된 채용 공고를 주기적으로 채점하고 필터링하는 작업
+ * <p>
+ * 채용 공고마다 작업을 등록하지 않고 하나의 작업이 주기적으로 실행되며, 이전 실행이 끝나지 않았으면 다음 실행은 기다린다. 여러 노드에서
+ * 동시에 실행되지 않도록 리스 잠금을 가진 노드에서만 마감 처리한다.
+ */
+@Component
+@DisallowConcurrentExecution
+@RequiredArgsConstructor
+public class ClosingSweepJob implements Job {
+
+  public static final String LOCK_NAME = "closing-sweep";
+
+  private final ClosingSweepService closingSweepService;
+  private final LeaseLock leaseLock;
+
+  @Override
+  public void execute(JobExecutionContext jobExecutionContext) throws JobExecutionException {
+
+    try {
+      leaseLock.runExclusively(LOCK_NAME, closingSweepService::sweep);
+    } catch (Exception e) {
+      throw new JobExecutionException("Failed to sweep closed job postings", e);
+    }
+  }
+}
@@ -0,0 +1,204 @@
+package com.ctrls.auto_enter_view.component;
+
+import com.ctrls.auto_enter_view.entity.JobPostingEntity;
+import com.ctrls.auto_enter_view.entity.JobPostingListingEntity;
+import com.ctrls.auto_enter_view.entity.JobPostingTechStackEntity;
+import com.ctrls.auto_enter_view.enums.JobPostingStatus;
+import com.ctrls.auto_enter_view.enums.TechStack;
+import com.ctrls.auto_enter_view.repository.CompanyRepository;
+import com.ctrls.auto_enter_view.repository.JobPostingListingRepository;
+import com.ctrls.auto_enter_view.repository.JobPostingRepository;
+import com.ctrls.auto_enter_view.repository.JobPostingTechStackRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Main 화면 채용 공고 목록 읽기 모델(JobPostingListingEntity) 갱신
+ * <p>
+ * 채용 공고나 기술 스택이 바뀌면 refresh 로 행을 다시 만들고, 채용 공고 삭제와 회사 탈퇴 시 행을 삭제한다. 지원 가능한(OPEN) 상태가
+ * 아니거나 회사가 탈퇴한 채용 공고는 행을 남기지 않는다. 읽기 모델이 없던 때 등록된 채용 공고는 서버 시작 시 한 노드에서 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobPostingListingUpdater {
+
+  public static final String LOCK_NAME = "job-posting-listing-rebuild";
+
+  @Value("${jobs.enabled:true}")
+  private boolean jobsEnabled;
+
+  @Value("${job-posting-listing.rebuild-batch-size:500}")
+  private int batchSize;
+
+  private final CompanyRepository companyRepository;
+  private final JobPostingListingRepository jobPostingListingRepository;
+  private final JobPostingRepository jobPostingRepository;
+  private final JobPostingTechStackRepository jobPostingTechStackRepository;
+  private final LeaseLock leaseLock;
+
+  /**
+   * 채용 공고의 목록 행을 현재 채용 공고, 회사, 기술 스택으로 다시 만듦
+   *
+   * @param jobPostingKey 채용 공고 KEY, 채용 공고가 없으면 행 삭제
+   */
+  public void refresh(String jobPostingKey) {
+
+    jobPostingRepository.findByJobPostingKey(jobPostingKey)
+        .ifPresentOrElse(this::refresh, () -> delete(jobPostingKey));
+  }
+
+  /**
+   * 채용 공고의 목록 행을 현재 채용 공고, 회사, 기술 스택으로 다시 만듦
+   *
+   * @param jobPosting 저장된 채용 공고 ENTITY
+   */
+  public void refresh(JobPostingEntity jobPosting) {
+
+    refreshAll(List.of(jobPosting));
+  }
+
+  // 채용 공고 삭제
+  public void delete(String jobPostingKey) {
+
+    jobPostingListingRepository.deleteById(jobPostingKey);
+  }
+
+  // 회사 탈퇴
+  public void deleteAllByCompanyKey(String companyKey) {
+
+    int deletedCount = jobPostingListingRepository.deleteAllByCompanyKey(companyKey);
+    log.info("탈퇴한 회사의 채용 공고 {}건 목록에서 제거 - companyKey: {}", deletedCount, companyKey);
+  }
+
+  /**
+   * 채용 공고들의 목록 행을 회사 이름, 기술 스택 IN 쿼리 두 번으로 다시 만듦
+   *
+   * @param jobPostings 채용 공고 ENTITY 목록
+   * @return 목록에 저장된 채용 공고 수
+   */
+  public int refreshAll(List<JobPostingEntity> jobPostings) {
+
+    List<JobPostingEntity> openJobPostings = new ArrayList<>();
+    List<String> removedJobPostingKeys = new ArrayList<>();
+
+    for (JobPostingEntity jobPosting : jobPostings) {
+      if (jobPosting.getStatus() == JobPostingStatus.OPEN) {
+        openJobPostings.add(jobPosting);
+      } else {
+        removedJobPostingKeys.add(jobPosting.getJobPostingKey());
+      }
+    }
+
+    List<JobPostingListingEntity> listings = new ArrayList<>(openJobPostings.size());
+
+    if (!openJobPostings.isEmpty()) {
+      Set<String> companyKeys = openJobPostings.stream()
+          .map(JobPostingEntity::getCompanyKey)
+          .collect(Collectors.toSet());
+      List<String> jobPostingKeys = openJobPostings.stream()
+          .map(JobPostingEntity::getJobPostingKey)
+          .toList();
+
+      // 회사 키 - 회사 이름
+      Map<String, String> companyNames = new HashMap<>();
+      for (Object[] row : companyRepository.findCompanyNamesByCompanyKeyIn(companyKeys)) {
+        companyNames.put((String) row[0], (String) row[1]);
+      }
+
+      // 채용 공고 키 - 기술 스택
+      Map<String, List<TechStack>> techStacks = jobPostingTechStackRepository.findAllByJobPostingKeyIn(
+              jobPostingKeys).stream()
+          .collect(Collectors.groupingBy(JobPostingTechStackEntity::getJobPostingKey,
+              Collectors.mapping(JobPostingTechStackEntity::getTechName, Collectors.toList())));
+
+      for (JobPostingEntity jobPosting : openJobPostings) {
+        String companyName = companyNames.get(jobPosting.getCompanyKey());
+
+        // 탈퇴한 회사의 채용 공고는 목록에 나오지 않음
+        if (companyName == null) {
+          removedJobPostingKeys.add(jobPosting.getJobPostingKey());
+          continue;
+        }
+
+        listings.add(JobPostingListingEntity.of(jobPosting, companyName,
+            techStacks.getOrDefault(jobPosting.getJobPostingKey(), List.of())));
+      }
+    }
+
+    if (!removedJobPostingKeys.isEmpty()) {
+      jobPostingListingRepository.deleteAllById(removedJobPostingKeys);
+    }
+    jobPostingListingRepository.saveAll(listings);
+
+    return listings.size();
+  }
+
+  // 서버 시작 시 다른 노드가 채우고 있지 않으면 별도 스레드에서 지원 가능한 모든 채용 공고의 목록 행을 채움
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+
+    if (!jobsEnabled) {
+      return;
+    }
+
+    new CustomizableThreadFactory("job-posting-listing-")
+        .newThread(() -> leaseLock.runExclusively(LOCK_NAME, this::rebuild))
+        .start();
+  }
+
+  /**
+   * 지원 가능한 모든 채용 공고의 목록 행을 채용 공고 키 순서로 batchSize 개씩 다시 만듦
+   *
+   * @return 목록에 저장된 채용 공고 수
+   */
+  public int rebuild() {
+
+    String lastJobPostingKey = "";
+    int savedCount = 0;
+    List<String> jobPostingKeys;
+
+    do {
+      jobPostingKeys = jobPostingRepository.findAllJobPostingKeysByStatusIn(
+          EnumSet.of(JobPostingStatus.OPEN), lastJobPostingKey, Limit.of(batchSize));
+
+      if (jobPostingKeys.isEmpty()) {
+        break;
+      }
+
+      savedCount += refreshAll(jobPostingRepository.findAllById(jobPostingKeys));
+      lastJobPostingKey = jobPostingKeys.get(jobPostingKeys.size() - 1);
+    } while (jobPostingKeys.size() == batchSize);
+
+    log.info("채용 공고 목록 {}건 갱신 완료", savedCount);
+
+    return savedCount;
+  }
+
+  // 마감일이 지난 채용 공고의 목록 행 삭제, 목록 조회는 마감일로 거르므로 테이블 크기만 줄임
+  @Scheduled(cron = "${job-posting-listing.purge-cron:0 10 0 * * *}")
+  public void purgeExpired() {
+
+    if (!jobsEnabled) {
+      return;
+    }
+
+    int deletedCount = jobPostingListingRepository.deleteAllByEndDateBefore(LocalDate.now());
+    log.info("마감일이 지난 채용 공고 {}건 목록에서 제거", deletedCount);
+  }
+}
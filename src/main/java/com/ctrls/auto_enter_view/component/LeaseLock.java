@@ -0,0 +1,181 @@
+package com.ctrls.auto_enter_view.component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 노드 중 한 곳에서만 실행해야 하는 작업(마감 처리, 밀린 작업 처리)을 위한 Redis 리스 잠금
+ * <p>
+ * 잠금은 만료 시간이 있는 Redis 키로, 잠금을 가진 노드가 실행하는 동안 만료 시간의 1/3 마다 연장한다. 노드가 종료되어 연장하지 못하면
+ * 만료 시간이 지난 뒤 다른 노드가 잠금을 가져간다. 연장과 해제는 키의 값이 자신의 토큰인 경우에만 하므로 만료 후 다른 노드가 가져간 잠금을
+ * 건드리지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LeaseLock {
+
+  private static final String KEY_PREFIX = "lock:";
+
+  // 값이 자신의 토큰인 경우에만 만료 시간 연장
+  private static final RedisScript<Long> RENEW_SCRIPT = RedisScript.of(
+      "if redis.call('get', KEYS[1]) == ARGV[1] then "
+          + "return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end", Long.class);
+
+  // 값이 자신의 토큰인 경우에만 삭제
+  private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of(
+      "if redis.call('get', KEYS[1]) == ARGV[1] then "
+          + "return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+  // 노드가 종료된 뒤 다른 노드가 잠금을 가져가기까지 걸리는 최대 시간
+  @Value("${lease-lock.lease-millis:30000}")
+  private long leaseMillis;
+
+  private final RedisTemplate<String, String> redisStringTemplate;
+
+  // 잠금 값에 포함하여 어느 노드가 잠금을 가지고 있는지 확인할 수 있도록 함
+  private final String nodeName = ManagementFactory.getRuntimeMXBean().getName();
+
+  private ScheduledExecutorService renewalExecutor;
+
+  @PostConstruct
+  protected void init() {
+
+    renewalExecutor = Executors.newSingleThreadScheduledExecutor(
+        new CustomizableThreadFactory("lease-lock-renewal-"));
+  }
+
+  @PreDestroy
+  protected void shutdown() {
+
+    renewalExecutor.shutdownNow();
+  }
+
+  /**
+   * 잠금을 가져와서 작업을 실행하고 해제
+   *
+   * @param name 잠금 이름
+   * @param task 실행할 작업
+   * @return 작업을 실행했다면 true, 다른 노드가 잠금을 가지고 있다면 false
+   */
+  public boolean runExclusively(String name, Runnable task) {
+
+    Optional<Lease> lease = tryAcquire(name);
+
+    if (lease.isEmpty()) {
+      log.info("다른 노드가 실행 중이므로 건너뜀 - lock: {}", name);
+      return false;
+    }
+
+    try (Lease ignored = lease.get()) {
+      task.run();
+    }
+
+    return true;
+  }
+
+  /**
+   * 잠금을 가져오고 해제할 때까지 백그라운드에서 연장
+   * <p>
+   * Redis 에 연결할 수 없으면 잠금을 가져오지 못한 것으로 본다.
+   *
+   * @param name 잠금 이름
+   * @return 가져온 잠금, 다른 노드가 잠금을 가지고 있다면 빈 값
+   */
+  public Optional<Lease> tryAcquire(String name) {
+
+    String key = KEY_PREFIX + name;
+    String token = nodeName + ":" + UUID.randomUUID();
+
+    try {
+      Boolean acquired = redisStringTemplate.opsForValue()
+          .setIfAbsent(key, token, Duration.ofMillis(leaseMillis));
+
+      if (!Boolean.TRUE.equals(acquired)) {
+        return Optional.empty();
+      }
+    } catch (Exception e) {
+      log.error("잠금을 가져오지 못함 - lock: {}", name, e);
+      return Optional.empty();
+    }
+
+    Lease lease = new Lease(key, token);
+    long renewIntervalMillis = Math.max(1, leaseMillis / 3);
+    lease.renewal = renewalExecutor.scheduleAtFixedRate(lease::renew, renewIntervalMillis,
+        renewIntervalMillis, TimeUnit.MILLISECONDS);
+
+    return Optional.of(lease);
+  }
+
+  /**
+   * 가져온 잠금, close 하면 연장을 멈추고 해제
+   */
+  @RequiredArgsConstructor
+  public class Lease implements AutoCloseable {
+
+    private final String key;
+    private final String token;
+
+    private final AtomicBoolean held = new AtomicBoolean(true);
+    private ScheduledFuture<?> renewal;
+
+    /**
+     * @return 연장에 실패하여 잠금을 잃었거나 해제했다면 false
+     */
+    public boolean isHeld() {
+
+      return held.get();
+    }
+
+    private void renew() {
+
+      try {
+        Long renewed = redisStringTemplate.execute(RENEW_SCRIPT, List.of(key), token,
+            String.valueOf(leaseMillis));
+
+        if (renewed == null || renewed == 0) {
+          held.set(false);
+          renewal.cancel(false);
+          log.warn("잠금이 만료되어 다른 노드가 가져갈 수 있음 - key: {}", key);
+        }
+      } catch (Exception e) {
+        // 만료 전까지 다음 연장에서 다시 시도
+        log.error("잠금 연장 실패 - key: {}", key, e);
+      }
+    }
+
+    @Override
+    public void close() {
+
+      renewal.cancel(false);
+
+      if (!held.getAndSet(false)) {
+        return;
+      }
+
+      try {
+        redisStringTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+      } catch (Exception e) {
+        // 해제하지 못해도 만료 시간이 지나면 다른 노드가 가져감
+        log.error("잠금 해제 실패 - key: {}", key, e);
+      }
+    }
+  }
+}
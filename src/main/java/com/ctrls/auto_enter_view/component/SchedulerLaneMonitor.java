@@ -0,0 +1,182 @@
+package com.ctrls.auto_enter_view.component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobExecutionContext;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.Trigger.CompletedExecutionInstruction;
+import org.quartz.TriggerListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스케줄러 레인(메일, 마감 처리)별 대기 트리거 수와 발화 지연 시간을 기록
+ * <p>
+ * 발화 지연은 트리거가 예정된 시간보다 늦게 실행된 시간으로, 레인의 스레드가 모두 사용 중이거나 트리거를 늦게 가져온 경우 커진다. 대기 트리거
+ * 수는 실행 시간이 지났지만 아직 어느 노드에서도 실행되지 않은 트리거 수로 QRTZ_TRIGGERS 에서 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SchedulerLaneMonitor {
+
+  private static final String DUE_TRIGGER_COUNT_SQL = "SELECT COUNT(*) FROM QRTZ_TRIGGERS "
+      + "WHERE SCHED_NAME = ? AND TRIGGER_STATE IN ('WAITING', 'ACQUIRED') "
+      + "AND NEXT_FIRE_TIME <= ?";
+
+  @Value("${quartz.lane.fire-lag-warn-millis:5000}")
+  private long fireLagWarnMillis;
+
+  private final JdbcTemplate jdbcTemplate;
+  // 스케줄러가 이 모니터의 리스너를 사용하므로 조회할 때만 가져옴
+  private final ObjectProvider<Scheduler> schedulers;
+
+  // 스케줄러 이름 - 레인 리스너
+  private final Map<String, LaneListener> listeners = new ConcurrentHashMap<>();
+
+  /**
+   * 스케줄러에 전역 트리거 리스너로 등록할 레인 리스너
+   *
+   * @param schedulerName 레인 스케줄러 이름
+   * @return 발화 지연을 기록하는 리스너
+   */
+  public TriggerListener listenerFor(String schedulerName) {
+
+    return listeners.computeIfAbsent(schedulerName, LaneListener::new);
+  }
+
+  /**
+   * 레인의 현재 상태와 마지막 조회 이후 발화 지연 통계
+   *
+   * @param scheduler 레인 스케줄러
+   * @param reset     true 인 경우 발화 지연 통계를 초기화
+   * @return 레인 상태
+   * @throws SchedulerException 스케줄러 정보를 조회하지 못한 경우
+   */
+  public LaneStats snapshot(Scheduler scheduler, boolean reset) throws SchedulerException {
+
+    String schedulerName = scheduler.getSchedulerName();
+    LaneListener listener = listeners.computeIfAbsent(schedulerName, LaneListener::new);
+
+    Long dueTriggerCount = jdbcTemplate.queryForObject(DUE_TRIGGER_COUNT_SQL, Long.class,
+        schedulerName, System.currentTimeMillis());
+
+    return LaneStats.builder()
+        .schedulerName(schedulerName)
+        .threadPoolSize(scheduler.getMetaData().getThreadPoolSize())
+        .executingJobCount(scheduler.getCurrentlyExecutingJobs().size())
+        .dueTriggerCount(dueTriggerCount == null ? 0 : dueTriggerCount)
+        .firedCount(reset ? listener.firedCount.sumThenReset() : listener.firedCount.sum())
+        .misfiredCount(reset ? listener.misfiredCount.sumThenReset() : listener.misfiredCount.sum())
+        .totalFireLagMillis(reset ? listener.totalFireLagMillis.sumThenReset()
+            : listener.totalFireLagMillis.sum())
+        .maxFireLagMillis(reset ? listener.maxFireLagMillis.getThenReset()
+            : listener.maxFireLagMillis.get())
+        .lastFireLagMillis(listener.lastFireLagMillis.get())
+        .build();
+  }
+
+  // 레인별 상태를 주기적으로 기록하고 발화 지연 통계 초기화
+  @Scheduled(fixedDelayString = "${quartz.lane.report-interval-millis:60000}")
+  public void report() {
+
+    for (Scheduler scheduler : schedulers) {
+      try {
+        LaneStats stats = snapshot(scheduler, true);
+
+        log.info("스케줄러 레인 {} - 스레드 {}/{}, 대기 트리거 {}건, 실행 {}건, 미스파이어 {}건, 발화 지연 평균 {}ms 최대 {}ms",
+            stats.getSchedulerName(), stats.getExecutingJobCount(), stats.getThreadPoolSize(),
+            stats.getDueTriggerCount(), stats.getFiredCount(), stats.getMisfiredCount(),
+            stats.getAverageFireLagMillis(), stats.getMaxFireLagMillis());
+      } catch (Exception e) {
+        log.error("스케줄러 레인 상태 조회 실패", e);
+      }
+    }
+  }
+
+  @Builder
+  @Getter
+  public static class LaneStats {
+
+    private String schedulerName;
+    private int threadPoolSize;
+    private int executingJobCount;
+    // 실행 시간이 지났지만 아직 실행되지 않은 트리거 수
+    private long dueTriggerCount;
+    private long firedCount;
+    private long misfiredCount;
+    private long totalFireLagMillis;
+    private long maxFireLagMillis;
+    private long lastFireLagMillis;
+
+    public long getAverageFireLagMillis() {
+
+      return firedCount == 0 ? 0 : totalFireLagMillis / firedCount;
+    }
+  }
+
+  // 트리거가 실행될 때 예정 시간과 실제 실행 시간의 차이를 기록
+  @RequiredArgsConstructor
+  private class LaneListener implements TriggerListener {
+
+    private final String schedulerName;
+
+    private final LongAdder firedCount = new LongAdder();
+    private final LongAdder misfiredCount = new LongAdder();
+    private final LongAdder totalFireLagMillis = new LongAdder();
+    private final LongAccumulator maxFireLagMillis = new LongAccumulator(Math::max, 0);
+    private final AtomicLong lastFireLagMillis = new AtomicLong();
+
+    @Override
+    public String getName() {
+
+      return "laneMonitor-" + schedulerName;
+    }
+
+    @Override
+    public void triggerFired(Trigger trigger, JobExecutionContext context) {
+
+      long fireLagMillis = context.getScheduledFireTime() == null ? 0
+          : Math.max(0, context.getFireTime().getTime() - context.getScheduledFireTime().getTime());
+
+      firedCount.increment();
+      totalFireLagMillis.add(fireLagMillis);
+      maxFireLagMillis.accumulate(fireLagMillis);
+      lastFireLagMillis.set(fireLagMillis);
+
+      if (fireLagMillis > fireLagWarnMillis) {
+        log.warn("스케줄러 레인 {} 발화 지연 {}ms - trigger: {}", schedulerName, fireLagMillis,
+            trigger.getKey());
+      }
+    }
+
+    @Override
+    public boolean vetoJobExecution(Trigger trigger, JobExecutionContext context) {
+
+      return false;
+    }
+
+    @Override
+    public void triggerMisfired(Trigger trigger) {
+
+      misfiredCount.increment();
+    }
+
+    @Override
+    public void triggerComplete(Trigger trigger, JobExecutionContext context,
+        CompletedExecutionInstruction triggerInstructionCode) {
+    }
+  }
+}
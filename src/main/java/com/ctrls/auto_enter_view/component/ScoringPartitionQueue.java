@@ -0,0 +1,157 @@
+package com.ctrls.auto_enter_view.component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 분산 채점 파티션 작업 큐, Redis Stream 과 소비자 그룹으로 구현
+ * <p>
+ * 작업자는 소비자 그룹으로 작업을 나누어 가져가고, 채점이 커밋된 뒤 ack 한다. ack 되지 않은 작업은 소비자 그룹의 대기 목록에 남아 있다가
+ * 일정 시간이 지나면 다른 작업자가 가져가므로, 작업자가 채점 도중 종료되어도 작업이 유실되지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScoringPartitionQueue {
+
+  public static final String STREAM_KEY = "scoring:partitions";
+  public static final String GROUP = "scoring-workers";
+
+  private static final String PARTITION_ID = "partitionId";
+
+  private final RedisTemplate<String, String> redisStringTemplate;
+
+  private volatile boolean groupCreated;
+
+  /**
+   * 파티션 작업 발행
+   *
+   * @param partitionId 채점할 파티션 ID
+   */
+  public void publish(Long partitionId) {
+
+    createGroupIfAbsent();
+    redisStringTemplate.opsForStream().add(MapRecord.create(STREAM_KEY,
+        Map.of(PARTITION_ID, String.valueOf(partitionId))));
+  }
+
+  /**
+   * 다른 작업자에게 전달되지 않은 새 작업을 가져옴, 기다리지 않음
+   *
+   * @param consumer 작업자 이름
+   * @param count    최대 작업 수
+   * @return 가져온 작업
+   */
+  @SuppressWarnings("unchecked") // 하나의 StreamOffset<String> 만 전달하므로 제네릭 가변 인자 배열은 안전함
+  public List<Task> read(String consumer, int count) {
+
+    createGroupIfAbsent();
+    StreamOffset<String> offset = StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed());
+    List<MapRecord<String, Object, Object>> records = redisStringTemplate.opsForStream().read(
+        Consumer.from(GROUP, consumer), StreamReadOptions.empty().count(count), offset);
+
+    return toTasks(records);
+  }
+
+  /**
+   * 다른 작업자가 가져간 뒤 minIdle 동안 ack 하지 않은 작업을 가져옴
+   *
+   * @param consumer 작업자 이름
+   * @param minIdle  작업자가 종료된 것으로 볼 시간
+   * @param count    최대 작업 수
+   * @return 가져온 작업
+   */
+  public List<Task> claimStale(String consumer, Duration minIdle, int count) {
+
+    createGroupIfAbsent();
+    PendingMessages pendingMessages = redisStringTemplate.opsForStream()
+        .pending(STREAM_KEY, GROUP, Range.unbounded(), count);
+
+    RecordId[] staleRecordIds = pendingMessages.stream()
+        .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+        .map(PendingMessage::getId)
+        .toArray(RecordId[]::new);
+
+    if (staleRecordIds.length == 0) {
+      return List.of();
+    }
+
+    // 같은 작업을 다른 작업자가 먼저 가져갔다면 idle 시간이 초기화되어 제외됨
+    List<MapRecord<String, Object, Object>> records = redisStringTemplate.opsForStream()
+        .claim(STREAM_KEY, GROUP, consumer, minIdle, staleRecordIds);
+
+    if (!records.isEmpty()) {
+      log.warn("ack 되지 않은 분산 채점 작업 {}건 다시 가져옴 - consumer: {}", records.size(), consumer);
+    }
+
+    return toTasks(records);
+  }
+
+  /**
+   * 작업 완료, 대기 목록과 Stream 에서 삭제
+   *
+   * @param task 완료한 작업
+   */
+  public void ack(Task task) {
+
+    redisStringTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP, task.getRecordId());
+    redisStringTemplate.opsForStream().delete(STREAM_KEY, task.getRecordId());
+  }
+
+  // 소비자 그룹이 없으면 Stream 과 함께 생성
+  private void createGroupIfAbsent() {
+
+    if (groupCreated) {
+      return;
+    }
+
+    try {
+      redisStringTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.from("0"), GROUP);
+    } catch (RedisSystemException e) {
+      // 다른 노드가 먼저 생성한 경우 BUSYGROUP 오류
+      if (e.getMostSpecificCause().getMessage() == null
+          || !e.getMostSpecificCause().getMessage().contains("BUSYGROUP")) {
+        throw e;
+      }
+    }
+
+    groupCreated = true;
+  }
+
+  private static List<Task> toTasks(List<MapRecord<String, Object, Object>> records) {
+
+    if (records == null) {
+      return List.of();
+    }
+
+    return records.stream()
+        .map(record -> new Task(record.getId(),
+            Long.valueOf((String) record.getValue().get(PARTITION_ID))))
+        .toList();
+  }
+
+  @AllArgsConstructor
+  @Getter
+  public static class Task {
+
+    private RecordId recordId;
+    private Long partitionId;
+  }
+}
@@ -0,0 +1,144 @@
+package com.ctrls.auto_enter_view.component;
+
+import com.ctrls.auto_enter_view.component.ScoringPartitionQueue.Task;
+import com.ctrls.auto_enter_view.service.ScoringService;
+import jakarta.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 분산 채점 파티션 작업자
+ * <p>
+ * scoring.partition.enabled=true 인 모든 노드에서 worker-threads 개의 스레드가 파티션 작업을 가져와 채점하고, 채점이 커밋되면
+ * ack 한다. 다른 작업자가 claim-idle-millis 동안 ack 하지 않은 작업을 새 작업보다 먼저 가져가므로, 작업자가 종료되어도 채점이 이어진다.
+ * claim-idle-millis 는 파티션 하나를 채점하는 시간보다 길어야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScoringPartitionWorker {
+
+  @Value("${scoring.partition.enabled:false}")
+  private boolean enabled;
+
+  @Value("${jobs.enabled:true}")
+  private boolean jobsEnabled;
+
+  @Value("${scoring.partition.worker-threads:2}")
+  private int workerThreads;
+
+  @Value("${scoring.partition.poll-interval-millis:1000}")
+  private long pollIntervalMillis;
+
+  @Value("${scoring.partition.claim-idle-millis:300000}")
+  private long claimIdleMillis;
+
+  private final ScoringPartitionQueue scoringPartitionQueue;
+  private final ScoringService scoringService;
+
+  private ExecutorService executorService;
+  private volatile boolean running;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+
+    if (!enabled || !jobsEnabled) {
+      return;
+    }
+
+    running = true;
+    executorService = Executors.newFixedThreadPool(workerThreads,
+        new CustomizableThreadFactory("scoring-partition-"));
+
+    String nodeName = ManagementFactory.getRuntimeMXBean().getName();
+
+    for (int i = 0; i < workerThreads; i++) {
+      String consumer = nodeName + "-" + i;
+      executorService.execute(() -> poll(consumer));
+    }
+
+    log.info("분산 채점 작업자 시작 - 스레드 {}", workerThreads);
+  }
+
+  @PreDestroy
+  protected void shutdown() throws InterruptedException {
+
+    running = false;
+
+    if (executorService == null) {
+      return;
+    }
+
+    executorService.shutdown();
+
+    // 채점 중인 파티션은 ack 되지 않으므로 종료를 기다리지 못해도 다른 작업자가 다시 채점
+    if (!executorService.awaitTermination(30, TimeUnit.SECONDS)) {
+      executorService.shutdownNow();
+    }
+  }
+
+  // 작업이 없으면 poll-interval-millis 동안 대기한 뒤 다시 조회
+  private void poll(String consumer) {
+
+    while (running && !Thread.currentThread().isInterrupted()) {
+      try {
+        if (!processNext(consumer)) {
+          TimeUnit.MILLISECONDS.sleep(pollIntervalMillis);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (Exception e) {
+        log.error("분산 채점 작업 조회 실패 - consumer: {}", consumer, e);
+        sleepQuietly();
+      }
+    }
+  }
+
+  /**
+   * ack 되지 않은 작업이나 새 작업 하나를 가져와 채점
+   *
+   * @param consumer 작업자 이름
+   * @return 작업을 가져왔다면 true
+   */
+  public boolean processNext(String consumer) {
+
+    List<Task> tasks = scoringPartitionQueue.claimStale(consumer,
+        Duration.ofMillis(claimIdleMillis), 1);
+
+    if (tasks.isEmpty()) {
+      tasks = scoringPartitionQueue.read(consumer, 1);
+    }
+
+    for (Task task : tasks) {
+      try {
+        scoringService.scorePartition(task.getPartitionId());
+        scoringPartitionQueue.ack(task);
+      } catch (Exception e) {
+        // ack 하지 않으므로 claim-idle-millis 후 다시 채점
+        log.error("파티션 채점 실패 - partitionId: {}", task.getPartitionId(), e);
+      }
+    }
+
+    return !tasks.isEmpty();
+  }
+
+  private void sleepQuietly() {
+
+    try {
+      TimeUnit.MILLISECONDS.sleep(pollIntervalMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,209 @@
+package com.ctrls.auto_enter_view.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 메모리(L1) + Redis(L2) 2단계 캐시
+ * <p>
+ * L1 은 역직렬화된 객체를 크기와 시간 제한 안에서 보관하여, 자주 조회되는 데이터는 Redis 왕복과 JSON 역직렬화 없이 반환한다. 캐시 키에는
+ * CacheGeneration 의 세대를 포함하며, 각 노드는 네임스페이스의 세대도 로컬에 보관하다가 무효화 메시지를 받으면 새 세대로 바꾸고 이전
+ * 세대의 L1 항목을 비운다. 메시지를 놓치더라도 로컬 세대와 L1 항목은 ttl-seconds 가 지나면 Redis 에서 다시 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TwoTierCache implements MessageListener {
+
+  @Value("${cache.local.maximum-size:1000}")
+  private long maximumSize;
+
+  @Value("${cache.local.ttl-seconds:30}")
+  private long ttlSeconds;
+
+  private final CacheGeneration cacheGeneration;
+  private final RedisTemplate<String, Object> redisObjectTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+  private final LongAdder localInvalidatedCount = new LongAdder();
+  private final LongAdder remoteHitCount = new LongAdder();
+  private final LongAdder remoteMissCount = new LongAdder();
+  private final LongAdder remoteInvalidatedCount = new LongAdder();
+
+  // 세대를 포함한 캐시 키 - 역직렬화된 값
+  private Cache<String, Object> localCache;
+  // 네임스페이스 - 이 노드가 알고 있는 최신 세대
+  private Cache<String, Long> generations;
+
+  @PostConstruct
+  protected void init() {
+
+    localCache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .recordStats()
+        .build();
+    generations = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .build();
+
+    redisMessageListenerContainer.addMessageListener(this,
+        new ChannelTopic(CacheGeneration.INVALIDATION_CHANNEL));
+  }
+
+  /**
+   * L1 -> L2 순서로 조회하고, 모두 없으면 loader 로 만든 값을 L2 와 L1 에 저장
+   *
+   * @param namespace 캐시 네임스페이스, CacheGeneration.invalidate 로 무효화
+   * @param key       네임스페이스 안에서의 키
+   * @param type      값 타입
+   * @param ttl       L2 보관 시간
+   * @param loader    캐시가 없을 때 값을 만드는 함수
+   * @return 캐시된 값 또는 loader 로 만든 값
+   */
+  public <T> T get(String namespace, String key, Class<T> type, Duration ttl,
+      Supplier<T> loader) {
+
+    long generation = generations.get(namespace, cacheGeneration::current);
+    String cacheKey = CacheGeneration.key(namespace, generation, key);
+
+    Object localValue = localCache.getIfPresent(cacheKey);
+    if (localValue != null) {
+      return type.cast(localValue);
+    }
+
+    Object remoteValue = redisObjectTemplate.opsForValue().get(cacheKey);
+    if (remoteValue != null) {
+      remoteHitCount.increment();
+      T value = fromRemote(remoteValue, type);
+      localCache.put(cacheKey, value);
+      return value;
+    }
+
+    remoteMissCount.increment();
+    T value = loader.get();
+
+    if (value != null) {
+      redisObjectTemplate.opsForValue().set(cacheKey, value, ttl);
+      localCache.put(cacheKey, value);
+    }
+
+    return value;
+  }
+
+  // JSON 으로 저장된 Long 은 값이 작으면 Integer 로 읽히므로 요청한 타입으로 변환
+  private static <T> T fromRemote(Object remoteValue, Class<T> type) {
+
+    if (type == Long.class && remoteValue instanceof Number number) {
+      return type.cast(number.longValue());
+    }
+
+    return type.cast(remoteValue);
+  }
+
+  // 다른 노드(또는 이 노드)에서 세대를 올린 경우 로컬 세대를 바꾸고 이전 세대의 L1 항목 삭제
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    int separator = body.lastIndexOf(':');
+
+    if (separator < 0) {
+      log.warn("잘못된 캐시 무효화 메시지 - {}", body);
+      return;
+    }
+
+    String namespace = body.substring(0, separator);
+    long generation = Long.parseLong(body.substring(separator + 1));
+
+    generations.asMap().merge(namespace, generation, Math::max);
+    remoteInvalidatedCount.increment();
+
+    String prefix = namespace + ":";
+    localCache.asMap().keySet().removeIf(cacheKey -> {
+      if (cacheKey.startsWith(prefix)) {
+        localInvalidatedCount.increment();
+        return true;
+      }
+      return false;
+    });
+
+    log.debug("로컬 캐시 무효화 - {} 세대 {}", namespace, generation);
+  }
+
+  /**
+   * 단계별 조회, 삭제 횟수
+   * <p>
+   * L1 삭제는 크기 또는 시간 제한으로 밀려난 항목과 무효화 메시지로 지운 항목의 합이고, L2 삭제는 세대가 바뀌어 더 이상 조회되지 않게 된
+   * 횟수(무효화 메시지 수)이다. L2 항목은 Redis 의 만료 시간에 삭제된다.
+   *
+   * @return L1, L2 순서의 통계
+   */
+  public List<TierStats> snapshot() {
+
+    CacheStats localStats = localCache.stats();
+
+    return List.of(
+        TierStats.builder()
+            .tier("L1")
+            .hitCount(localStats.hitCount())
+            .missCount(localStats.missCount())
+            .evictionCount(localStats.evictionCount() + localInvalidatedCount.sum())
+            .size(localCache.estimatedSize())
+            .build(),
+        TierStats.builder()
+            .tier("L2")
+            .hitCount(remoteHitCount.sum())
+            .missCount(remoteMissCount.sum())
+            .evictionCount(remoteInvalidatedCount.sum())
+            .build());
+  }
+
+  // 단계별 통계를 주기적으로 기록
+  @Scheduled(fixedDelayString = "${cache.report-interval-millis:60000}")
+  public void report() {
+
+    for (TierStats stats : snapshot()) {
+      log.info("캐시 {} - 적중 {}건, 실패 {}건, 적중률 {}%, 삭제 {}건, 항목 {}건", stats.getTier(),
+          stats.getHitCount(), stats.getMissCount(), stats.getHitRatePercent(),
+          stats.getEvictionCount(), stats.getSize());
+    }
+  }
+
+  @Builder
+  @Getter
+  public static class TierStats {
+
+    private String tier;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    // L1 의 현재 항목 수, L2 는 0
+    private long size;
+
+    public long getHitRatePercent() {
+
+      long requestCount = hitCount + missCount;
+      return requestCount == 0 ? 0 : hitCount * 100 / requestCount;
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package com.ctrls.auto_enter_view.component.scoring;
+
+import com.ctrls.auto_enter_view.entity.JobPostingEntity;
+import com.ctrls.auto_enter_view.enums.PriorityType;
+import org.springframework.stereotype.Component;
+
+// 경력 점수, 채용 공고와 같은 직무이고 요구 경력 년수 이상인 경력마다 (경력 - 요구 경력 + 1) * 5점
+@Component
+public class CareerRule implements ScoringRule {
+
+  private static final int CAREER_SCORE = 5;
+
+  @Override
+  public PriorityType getPriorityType() {
+
+    return PriorityType.CAREER;
+  }
+
+  @Override
+  public Evaluator compile(JobPostingEntity jobPostingEntity, long jobPostingTechStackMask) {
+
+    Integer career = jobPostingEntity.getCareer();
+
+    // 경력 무관인 경우
+    if (career == null || career == -1) {
+      return resumeFeature -> 0;
+    }
+
+    int requiredCareer = career;
+    int jobCategoryIndex = jobPostingEntity.getJobCategory().ordinal();
+
+    return resumeFeature -> {
+      int score = 0;
+
+      for (int calculatedCareer : resumeFeature.getCareerYears()[jobCategoryIndex]) {
+        if (calculatedCareer >= requiredCareer) {
+          score += (calculatedCareer - requiredCareer + 1) * CAREER_SCORE;
+        }
+      }
+
+      return score;
+    };
+  }
+}
@@ -0,0 +1,37 @@
+package com.ctrls.auto_enter_view.component.scoring;
+
+import com.ctrls.auto_enter_view.entity.JobPostingEntity;
+import com.ctrls.auto_enter_view.enums.Education;
+import com.ctrls.auto_enter_view.enums.PriorityType;
+import org.springframework.stereotype.Component;
+
+// 학력 점수, 학력 무관이 아니고 채용 공고의 학력 이상인 경우 이력서 학력의 점수
+@Component
+public class EducationRule implements ScoringRule {
+
+  @Override
+  public PriorityType getPriorityType() {
+
+    return PriorityType.EDUCATION;
+  }
+
+  @Override
+  public Evaluator compile(JobPostingEntity jobPostingEntity, long jobPostingTechStackMask) {
+
+    Education jobPostingEducation = jobPostingEntity.getEducation();
+
+    if (jobPostingEducation == Education.NONE) {
+      return resumeFeature -> 0;
+    }
+
+    return resumeFeature -> {
+      Education resumeEducation = resumeFeature.getEducation();
+
+      if (resumeEducation != null && resumeEducation.compareTo(jobPostingEducation) >= 0) {
+        return resumeEducation.getScore();
+      }
+
+      return 0;
+    };
+  }
+}
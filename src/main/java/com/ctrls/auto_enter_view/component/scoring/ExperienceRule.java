@@ -0,0 +1,24 @@
+package com.ctrls.auto_enter_view.component.scoring;
+
+import com.ctrls.auto_enter_view.entity.JobPostingEntity;
+import com.ctrls.auto_enter_view.enums.PriorityType;
+import org.springframework.stereotype.Component;
+
+// 경험 점수, 경험 하나당 1점
+@Component
+public class ExperienceRule implements ScoringRule {
+
+  private static final int EXPERIENCE_SCORE = 1;
+
+  @Override
+  public PriorityType getPriorityType() {
+
+    return null;
+  }
+
+  @Override
+  public Evaluator compile(JobPostingEntity jobPostingEntity, long jobPostingTechStackMask) {
+
+    return resumeFeature -> resumeFeature.getExperienceCount() * EXPERIENCE_SCORE;
+  }
+}
@@ -0,0 +1,24 @@
+package com.ctrls.auto_enter_view.component.scoring;
+
+import com.ctrls.auto_enter_view.entity.JobPostingEntity;
+import com.ctrls.auto_enter_view.enums.PriorityType;
+import org.springframework.stereotype.Component;
+
+// 포트폴리오 점수, 포트폴리오가 있으면 3점
+@Component
+public class PortfolioRule implements ScoringRule {
+
+  private static final int PORTFOLIO_SCORE = 3;
+
+  @Override
+  public PriorityType getPriorityType() {
+
+    return null;
+  }
+
+  @Override
+  public Evaluator compile(JobPostingEntity jobPostingEntity, long jobPostingTechStackMask) {
+
+    return resumeFeature -> resumeFeature.isHasPortfolio() ? PORTFOLIO_SCORE : 0;
+  }
+}
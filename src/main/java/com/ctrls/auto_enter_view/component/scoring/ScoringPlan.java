@@ -0,0 +1,112 @@
+package com.ctrls.auto_enter_view.component.scoring;
+
+import com.ctrls.auto_enter_view.component.scoring.ScoringRule.Evaluator;
+import com.ctrls.auto_enter_view.entity.ResumeFeatureEntity;
+import com.ctrls.auto_enter_view.entity.ScoreBreakdown;
+import com.ctrls.auto_enter_view.enums.PriorityType;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * 채용 공고 하나에 대해 컴파일된 채점 계획
+ * <p>
+ * 평가기와 가중치를 배열로만 들고 있는 불변 객체로, 채점 한 번 동안 모든 지원자에게 재사용된다.
+ */
+public final class ScoringPlan {
+
+  // values() 는 호출할 때마다 배열을 복사하므로 한 번만 생성
+  private static final PriorityType[] PRIORITY_TYPES = PriorityType.values();
+
+  private final Evaluator[] evaluators;
+  private final PriorityType[] priorityTypes;
+  // 가중치 유형 ordinal 별 가중치, 해당 유형의 규칙이 없으면 1
+  private final int[] priorityWeights;
+
+  ScoringPlan(Evaluator[] evaluators, PriorityType[] priorityTypes, int[] weights) {
+
+    this.evaluators = evaluators;
+    this.priorityTypes = priorityTypes;
+    this.priorityWeights = new int[PRIORITY_TYPES.length];
+    Arrays.fill(priorityWeights, 1);
+
+    for (int i = 0; i < priorityTypes.length; i++) {
+      if (priorityTypes[i] != null) {
+        priorityWeights[priorityTypes[i].ordinal()] = weights[i];
+      }
+    }
+  }
+
+  /**
+   * 모든 항목의 점수를 가중치 적용 전 값으로 계산
+   *
+   * @param resumeFeature 채점용 이력서 정보
+   * @return 항목별 점수
+   */
+  public ScoreBreakdown breakdown(ResumeFeatureEntity resumeFeature) {
+
+    return recompute(null, null, resumeFeature);
+  }
+
+  /**
+   * 바뀐 가중치 유형의 항목만 다시 계산하고 나머지 항목은 이전 점수를 유지
+   *
+   * @param previous          이전 항목별 점수, changedComponents 가 null 이면 사용하지 않음
+   * @param changedComponents 다시 계산할 가중치 유형, null 이면 모든 항목
+   * @param resumeFeature     채점용 이력서 정보
+   * @return 항목별 점수
+   */
+  public ScoreBreakdown recompute(ScoreBreakdown previous, Set<PriorityType> changedComponents,
+      ResumeFeatureEntity resumeFeature) {
+
+    boolean all = changedComponents == null;
+    int baseScore = all ? 0 : previous.get(null);
+    int educationScore = recomputes(changedComponents, PriorityType.EDUCATION) ? 0
+        : previous.get(PriorityType.EDUCATION);
+    int careerScore = recomputes(changedComponents, PriorityType.CAREER) ? 0
+        : previous.get(PriorityType.CAREER);
+    int techStackScore = recomputes(changedComponents, PriorityType.TECH_STACK) ? 0
+        : previous.get(PriorityType.TECH_STACK);
+
+    for (int i = 0; i < evaluators.length; i++) {
+      PriorityType priorityType = priorityTypes[i];
+
+      if (priorityType == null) {
+        if (all) {
+          baseScore += evaluators[i].evaluate(resumeFeature);
+        }
+      } else if (recomputes(changedComponents, priorityType)) {
+        int score = evaluators[i].evaluate(resumeFeature);
+
+        switch (priorityType) {
+          case EDUCATION -> educationScore += score;
+          case CAREER -> careerScore += score;
+          case TECH_STACK -> techStackScore += score;
+        }
+      }
+    }
+
+    return new ScoreBreakdown(baseScore, educationScore, careerScore, techStackScore);
+  }
+
+  /**
+   * 항목별 점수에 이 채용 공고의 가중치를 적용한 총점
+   *
+   * @param scoreBreakdown 항목별 점수
+   * @return 총점
+   */
+  public int total(ScoreBreakdown scoreBreakdown) {
+
+    int totalScore = scoreBreakdown.get(null);
+
+    for (int i = 0; i < PRIORITY_TYPES.length; i++) {
+      totalScore += scoreBreakdown.get(PRIORITY_TYPES[i]) * priorityWeights[i];
+    }
+
+    return totalScore;
+  }
+
+  private boolean recomputes(Set<PriorityType> changedComponents, PriorityType priorityType) {
+
+    return changedComponents == null || changedComponents.contains(priorityType);
+  }
+}
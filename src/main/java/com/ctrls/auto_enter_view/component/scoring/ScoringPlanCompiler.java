@@ -0,0 +1,75 @@
+package com.ctrls.auto_enter_view.component.scoring;
+
+import com.ctrls.auto_enter_view.component.scoring.ScoringRule.Evaluator;
+import com.ctrls.auto_enter_view.entity.JobPostingEntity;
+import com.ctrls.auto_enter_view.enums.PriorityType;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ScoringPlanCompiler {
+
+  // SQL 채점에서도 같은 점수를 계산하는 기본 채점 규칙
+  private static final Set<Class<? extends ScoringRule>> DEFAULT_RULES = Set.of(
+      EducationRule.class, ExperienceRule.class, CertificateRule.class, PortfolioRule.class,
+      TechStackRule.class, CareerRule.class);
+
+  private final List<ScoringRule> scoringRules;
+
+  /**
+   * 등록된 채점 규칙과 채용 공고의 우선순위 가중치로 채점 계획 생성
+   *
+   * @param jobPostingEntity        채점할 채용 공고
+   * @param jobPostingTechStackMask 채용 공고 기술스택 비트마스크
+   * @return 채점 계획
+   */
+  public ScoringPlan compile(JobPostingEntity jobPostingEntity, long jobPostingTechStackMask) {
+
+    Evaluator[] evaluators = new Evaluator[scoringRules.size()];
+    PriorityType[] priorityTypes = new PriorityType[scoringRules.size()];
+    int[] weights = new int[scoringRules.size()];
+
+    for (int i = 0; i < scoringRules.size(); i++) {
+      ScoringRule scoringRule = scoringRules.get(i);
+
+      evaluators[i] = scoringRule.compile(jobPostingEntity, jobPostingTechStackMask);
+      priorityTypes[i] = scoringRule.getPriorityType();
+      weights[i] = getWeight(jobPostingEntity, priorityTypes[i]);
+    }
+
+    return new ScoringPlan(evaluators, priorityTypes, weights);
+  }
+
+  /**
+   * 등록된 채점 규칙이 모두 기본 채점 규칙인지 확인
+   *
+   * @return 기본 채점 규칙 외의 규칙이 없으면 true
+   */
+  public boolean hasOnlyDefaultRules() {
+
+    return scoringRules.stream().allMatch(e -> DEFAULT_RULES.contains(e.getClass()));
+  }
+
+  /**
+   * 우선순위 배수 지정, 1순위 4배 / 2순위 3배 / 3순위 2배 / 우선순위 없음 1배
+   *
+   * @param jobPostingEntity 채용 공고
+   * @param priorityType     가중치 유형, null 이면 1배
+   * @return 가중치
+   */
+  public int getWeight(JobPostingEntity jobPostingEntity, PriorityType priorityType) {
+
+    int multiplier = 1;
+
+    List<PriorityType> priorities = jobPostingEntity.getPriority();
+
+    if (priorityType != null && priorities != null && priorities.contains(priorityType)) {
+      multiplier = 4 - priorities.indexOf(priorityType);
+    }
+
+    return multiplier;
+  }
+}
@@ -0,0 +1,38 @@
+package com.ctrls.auto_enter_view.component.scoring;
+
+import com.ctrls.auto_enter_view.entity.JobPostingEntity;
+import com.ctrls.auto_enter_view.entity.ResumeFeatureEntity;
+import com.ctrls.auto_enter_view.enums.PriorityType;
+
+/**
+ * 채점 규칙
+ * <p>
+ * 빈으로 등록된 규칙은 ScoringPlanCompiler 가 모두 모아 채용 공고별 채점 계획으로 컴파일한다. 새로운 규칙은 이 인터페이스를 구현한 빈을
+ * 추가하는 것으로 등록된다.
+ */
+public interface ScoringRule {
+
+  /**
+   * 채용 공고의 우선순위 중 이 규칙에 적용할 가중치 유형
+   *
+   * @return 가중치 유형, 가중치를 적용하지 않는 규칙은 null
+   */
+  PriorityType getPriorityType();
+
+  /**
+   * 채용 공고의 조건을 미리 꺼내 둔 평가기를 생성
+   * <p>
+   * 평가기는 지원자마다 호출되므로 추가 조회나 객체 생성 없이 이력서 정보만으로 점수를 계산해야 한다.
+   *
+   * @param jobPostingEntity        채점할 채용 공고
+   * @param jobPostingTechStackMask 채용 공고 기술스택 비트마스크
+   * @return 가중치 적용 전 점수를 계산하는 평가기
+   */
+  Evaluator compile(JobPostingEntity jobPostingEntity, long jobPostingTechStackMask);
+
+  @FunctionalInterface
+  interface Evaluator {
+
+    int evaluate(ResumeFeatureEntity resumeFeature);
+  }
+}
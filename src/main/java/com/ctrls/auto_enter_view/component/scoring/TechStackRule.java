@@ -0,0 +1,26 @@
+package com.ctrls.auto_enter_view.component.scoring;
+
+import com.ctrls.auto_enter_view.entity.JobPostingEntity;
+import com.ctrls.auto_enter_view.enums.PriorityType;
+import org.springframework.stereotype.Component;
+
+// 기술스택 점수, 채용 공고 기술스택과 겹치는 기술스택 하나당 5점
+@Component
+public class TechStackRule implements ScoringRule {
+
+  private static final int TECH_STACK_SCORE = 5;
+
+  @Override
+  public PriorityType getPriorityType() {
+
+    return PriorityType.TECH_STACK;
+  }
+
+  @Override
+  public Evaluator compile(JobPostingEntity jobPostingEntity, long jobPostingTechStackMask) {
+
+    return resumeFeature ->
+        Long.bitCount(jobPostingTechStackMask & resumeFeature.getTechStackMask())
+            * TECH_STACK_SCORE;
+  }
+}
@@ -1,14 +1,75 @@
 package com.ctrls.auto_enter_view.config;
 
+import com.ctrls.auto_enter_view.component.ClosingSweepJob;
+import com.ctrls.auto_enter_view.component.SchedulerLaneMonitor;
+import java.util.Properties;
+import javax.sql.DataSource;
+import org.quartz.CronScheduleBuilder;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
 import org.quartz.spi.JobFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.DataSourceInitializer;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
 import org.springframework.scheduling.quartz.SchedulerFactoryBean;
 
 @Configuration
 public class QuartzConfig {
 
+  // 클러스터의 모든 노드가 같은 이름을 사용해야 QRTZ_ 테이블의 작업과 트리거를 공유
+  // 예약 메일 레인, 마감일에 채점이 길어져도 메일 발송이 밀리지 않도록 마감 처리와 스레드를 나눔
+  public static final String MAIL_SCHEDULER_NAME = "autoEnterViewMailScheduler";
+
+  // 마감 처리(채점 + 필터링) 레인
+  public static final String CLOSING_SCHEDULER_NAME = "autoEnterViewClosingScheduler";
+
+  public static final String SCHEMA_LOCATION = "db/quartz/schema.sql";
+
+  public static final JobKey CLOSING_SWEEP_JOB_KEY = JobKey.jobKey("closingSweepJob",
+      "closingGroup");
+
+  /**
+   * 클러스터링된 JDBC JobStore 설정
+   * <p>
+   * 트리거를 한 번에 threadCount 개까지 가져오고, 가져오는 동안 다른 노드와 겹치지 않도록 QRTZ_LOCKS 의 행 잠금 안에서 가져온다.
+   *
+   * @param instanceId     노드 ID, AUTO 인 경우 호스트 이름과 시작 시간으로 생성
+   * @param threadCount    동시에 실행할 수 있는 작업 수
+   * @param threadPriority 작업 스레드 우선순위
+   * @return Quartz 설정
+   */
+  public static Properties quartzProperties(String instanceId, int threadCount,
+      int threadPriority) {
+
+    Properties properties = new Properties();
+    properties.setProperty("org.quartz.scheduler.instanceId", instanceId);
+    properties.setProperty("org.quartz.scheduler.batchTriggerAcquisitionMaxCount",
+        String.valueOf(threadCount));
+    properties.setProperty("org.quartz.scheduler.batchTriggerAcquisitionFireAheadTimeWindow",
+        "1000");
+    properties.setProperty("org.quartz.threadPool.threadCount", String.valueOf(threadCount));
+    properties.setProperty("org.quartz.threadPool.threadPriority",
+        String.valueOf(threadPriority));
+    properties.setProperty("org.quartz.jobStore.driverDelegateClass",
+        "org.quartz.impl.jdbcjobstore.StdJDBCDelegate");
+    properties.setProperty("org.quartz.jobStore.tablePrefix", "QRTZ_");
+    properties.setProperty("org.quartz.jobStore.isClustered", "true");
+    properties.setProperty("org.quartz.jobStore.clusterCheckinInterval", "15000");
+    properties.setProperty("org.quartz.jobStore.acquireTriggersWithinLock", "true");
+    properties.setProperty("org.quartz.jobStore.misfireThreshold", "60000");
+    properties.setProperty("org.quartz.jobStore.maxMisfiresToHandleAtATime", "50");
+    return properties;
+  }
+
   @Bean
   public JobFactory jobFactory(AutowireCapableBeanFactory beanFactory) {
     AutowiringSpringBeanJobFactory jobFactory = new AutowiringSpringBeanJobFactory();
@@ -16,10 +77,82 @@ public class QuartzConfig {
     return jobFactory;
   }
 
+  // QRTZ_ 테이블이 없으면 생성, 이미 있으면 등록된 작업을 유지
+  @Bean
+  public DataSourceInitializer quartzDataSourceInitializer(DataSource dataSource) {
+    DataSourceInitializer initializer = new DataSourceInitializer();
+    initializer.setDataSource(dataSource);
+    initializer.setDatabasePopulator(
+        new ResourceDatabasePopulator(new ClassPathResource(SCHEMA_LOCATION)));
+    return initializer;
+  }
+
+  // 마감된 채용 공고 채점 + 필터링 작업, 채용 공고 수와 상관없이 하나만 등록
+  @Bean
+  public JobDetail closingSweepJobDetail() {
+    return JobBuilder.newJob(ClosingSweepJob.class)
+        .withIdentity(CLOSING_SWEEP_JOB_KEY)
+        .storeDurably()
+        .build();
+  }
+
+  @Bean
+  public Trigger closingSweepTrigger(JobDetail closingSweepJobDetail,
+      @Value("${closing-sweep.cron:0 */5 * * * ?}") String cron) {
+    return TriggerBuilder.newTrigger()
+        .forJob(closingSweepJobDetail)
+        .withIdentity("closingSweepTrigger", "closingGroup")
+        // 서버가 내려가 있는 동안 지난 실행은 건너뛰고, 재시작 시에는 CatchUpCoordinator 가 메일 발송 후 실행
+        .withSchedule(CronScheduleBuilder.cronSchedule(cron)
+            .withMisfireHandlingInstructionDoNothing())
+        .build();
+  }
+
+  // 예약 메일 작업을 DB 에 저장하여 재시작 후에도 유지하고, 여러 노드 중 한 곳에서만 실행
   @Bean
-  public SchedulerFactoryBean schedulerFactoryBean(JobFactory jobFactory) {
+  @Primary
+  @DependsOn("quartzDataSourceInitializer")
+  public SchedulerFactoryBean mailScheduler(JobFactory jobFactory, DataSource dataSource,
+      SchedulerLaneMonitor schedulerLaneMonitor,
+      @Value("${quartz.instance-id:AUTO}") String instanceId,
+      @Value("${quartz.mail.thread-count:10}") int threadCount,
+      @Value("${jobs.enabled:true}") boolean jobsEnabled) {
+    return createSchedulerFactory(MAIL_SCHEDULER_NAME, jobFactory, dataSource,
+        schedulerLaneMonitor, quartzProperties(instanceId, threadCount, Thread.NORM_PRIORITY + 2),
+        jobsEnabled);
+  }
+
+  // 마감 처리 작업, 채점은 ClosingPipelineExecutor 의 스레드에서 실행되므로 적은 스레드로 충분
+  @Bean
+  @DependsOn("quartzDataSourceInitializer")
+  public SchedulerFactoryBean closingScheduler(JobFactory jobFactory, DataSource dataSource,
+      SchedulerLaneMonitor schedulerLaneMonitor, JobDetail closingSweepJobDetail,
+      Trigger closingSweepTrigger,
+      @Value("${quartz.instance-id:AUTO}") String instanceId,
+      @Value("${quartz.closing.thread-count:2}") int threadCount,
+      @Value("${jobs.enabled:true}") boolean jobsEnabled) {
+    SchedulerFactoryBean schedulerFactory = createSchedulerFactory(CLOSING_SCHEDULER_NAME,
+        jobFactory, dataSource, schedulerLaneMonitor,
+        quartzProperties(instanceId, threadCount, Thread.NORM_PRIORITY - 1), jobsEnabled);
+    // 설정이 바뀐 경우 DB 에 저장된 마감 처리 작업과 트리거를 덮어씀
+    schedulerFactory.setOverwriteExistingJobs(true);
+    schedulerFactory.setJobDetails(closingSweepJobDetail);
+    schedulerFactory.setTriggers(closingSweepTrigger);
+    return schedulerFactory;
+  }
+
+  // jobsEnabled=false 인 노드(API 전용)는 작업을 등록만 하고 실행하지 않으며, 실행은 다른 노드가 DB 에서 가져감
+  private SchedulerFactoryBean createSchedulerFactory(String schedulerName, JobFactory jobFactory,
+      DataSource dataSource, SchedulerLaneMonitor schedulerLaneMonitor, Properties properties,
+      boolean jobsEnabled) {
     SchedulerFactoryBean schedulerFactory = new SchedulerFactoryBean();
+    schedulerFactory.setSchedulerName(schedulerName);
+    schedulerFactory.setDataSource(dataSource);
+    schedulerFactory.setQuartzProperties(properties);
     schedulerFactory.setJobFactory(jobFactory);
+    schedulerFactory.setGlobalTriggerListeners(schedulerLaneMonitor.listenerFor(schedulerName));
+    schedulerFactory.setWaitForJobsToCompleteOnShutdown(true);
+    schedulerFactory.setAutoStartup(jobsEnabled);
     return schedulerFactory;
   }
 }
@@ -0,0 +1,134 @@
+package com.ctrls.auto_enter_view.config;
+
+import com.ctrls.auto_enter_view.enums.JobPostingStatus;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 기존 데이터가 있는 테이블에 컬럼을 추가하면서 기존 행의 값을 채우는 마이그레이션
+ * <p>
+ * Hibernate 가 컬럼을 추가하면 기존 행이 모두 DB 기본값이나 null 로 채워지므로, EntityManagerFactory 가 스키마를 갱신하기 전에 컬럼을 직접
+ * 추가하고 기존 행에 맞는 값을 채운다. 컬럼이 이미 있으면 아무것도 하지 않으므로 처음 시작한 노드에서 한 번만 실행된다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class SchemaMigration implements InitializingBean {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  // 스키마 갱신과 마감 처리 작업보다 먼저 실행되도록 EntityManagerFactory 가 이 빈에 의존하게 함
+  @Bean
+  public static EntityManagerFactoryDependsOnPostProcessor schemaMigrationDependsOnPostProcessor() {
+    return new EntityManagerFactoryDependsOnPostProcessor(SchemaMigration.class);
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    migrateJobPostingStatus(LocalDate.now());
+    migrateMailSentAt(LocalDateTime.now());
+  }
+
+  /**
+   * job_posting.status 컬럼 추가
+   * <p>
+   * 이전 버전에서는 마감일에 채점과 필터링이 끝났으므로, 기존 채용 공고는 FILTERED 로 추가한 뒤 아직 지원 가능한 채용 공고만 OPEN 으로
+   * 되돌린다. 합격자가 이미 등록된 채용 공고는 마감일이 바뀌었더라도 FILTERED 로 두어 다시 채점되지 않도록 한다. 이후 새로 등록되는 채용
+   * 공고를 위해 기본값을 OPEN 으로 바꾼다.
+   *
+   * @param currentDate 이 날짜 이후에 마감되는 채용 공고를 OPEN 으로 변경
+   * @return 컬럼을 추가한 경우 true
+   */
+  public boolean migrateJobPostingStatus(LocalDate currentDate) {
+
+    if (!tableExists("job_posting") || columnExists("job_posting", "status")) {
+      return false;
+    }
+
+    String statuses = Arrays.stream(JobPostingStatus.values())
+        .map(status -> "'" + status.name() + "'")
+        .collect(Collectors.joining(","));
+
+    jdbcTemplate.execute("ALTER TABLE job_posting ADD COLUMN status ENUM(" + statuses + ") "
+        + "DEFAULT '" + JobPostingStatus.FILTERED.name() + "' NOT NULL");
+
+    int openCount = jdbcTemplate.update("UPDATE job_posting jp SET status = ? "
+            + "WHERE jp.end_date >= ? AND NOT EXISTS (SELECT 1 FROM candidate_list cl "
+            + "WHERE cl.job_posting_key = jp.job_posting_key)",
+        JobPostingStatus.OPEN.name(), currentDate);
+
+    jdbcTemplate.execute("ALTER TABLE job_posting ALTER COLUMN status SET DEFAULT '"
+        + JobPostingStatus.OPEN.name() + "'");
+
+    log.info("job_posting.status 컬럼 추가 - OPEN {}건, 나머지 FILTERED", openCount);
+    return true;
+  }
+
+  /**
+   * mail_alarm_info.mail_sent_at 컬럼 추가
+   * <p>
+   * 이전 버전에서는 발송 시간이 지난 예약 메일은 이미 발송되었으므로 발송 시간을 발송 시작 시간으로 채운다. 비워 두면 재시작 후
+   * CatchUpCoordinator 가 지난 예약 메일로 보고 지원자에게 다시 발송한다.
+   *
+   * @param now 이 시간까지 발송 예정이던 예약 메일을 발송된 것으로 처리
+   * @return 컬럼을 추가한 경우 true
+   */
+  public boolean migrateMailSentAt(LocalDateTime now) {
+
+    if (!tableExists("mail_alarm_info") || columnExists("mail_alarm_info", "mail_sent_at")) {
+      return false;
+    }
+
+    jdbcTemplate.execute("ALTER TABLE mail_alarm_info ADD COLUMN mail_sent_at DATETIME(6)");
+
+    int sentCount = jdbcTemplate.update("UPDATE mail_alarm_info "
+        + "SET mail_sent_at = mail_send_date_time WHERE mail_send_date_time <= ?", now);
+
+    log.info("mail_alarm_info.mail_sent_at 컬럼 추가 - 발송된 예약 메일 {}건", sentCount);
+    return true;
+  }
+
+  private boolean tableExists(String table) {
+
+    return hasMetaData(table, null);
+  }
+
+  private boolean columnExists(String table, String column) {
+
+    return hasMetaData(table, column);
+  }
+
+  // 현재 데이터베이스에서 테이블 또는 컬럼을 찾음, 식별자를 대문자로 저장하는 DB(H2)도 찾을 수 있도록 대소문자를 맞춤
+  private boolean hasMetaData(String table, String column) {
+
+    return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+      DatabaseMetaData metaData = connection.getMetaData();
+      boolean upperCase = metaData.storesUpperCaseIdentifiers();
+      String tableName = upperCase ? table.toUpperCase() : table;
+
+      if (column == null) {
+        try (ResultSet resultSet = metaData.getTables(connection.getCatalog(),
+            connection.getSchema(), tableName, new String[]{"TABLE"})) {
+          return resultSet.next();
+        }
+      }
+
+      try (ResultSet resultSet = metaData.getColumns(connection.getCatalog(),
+          connection.getSchema(), tableName, upperCase ? column.toUpperCase() : column)) {
+        return resultSet.next();
+      }
+    }));
+  }
+}
@@ -0,0 +1,26 @@
+package com.ctrls.auto_enter_view.config;
+
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Profiles;
+
+/**
+ * worker 프로필로 실행한 경우 컴포넌트 스캔 전에 WorkerTypeExcludeFilter 를 등록
+ * <p>
+ * 서블릿 컨테이너를 띄우지 않는 설정은 application-worker.properties 에 있다. API 노드에서 작업을 실행하지 않으려면
+ * jobs.enabled=false 로 실행한다.
+ */
+public class WorkerModeInitializer implements
+    ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+  public static final String WORKER_PROFILE = "worker";
+
+  @Override
+  public void initialize(ConfigurableApplicationContext applicationContext) {
+
+    if (applicationContext.getEnvironment().acceptsProfiles(Profiles.of(WORKER_PROFILE))) {
+      applicationContext.getBeanFactory().registerSingleton("workerTypeExcludeFilter",
+          new WorkerTypeExcludeFilter());
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package com.ctrls.auto_enter_view.config;
+
+import com.ctrls.auto_enter_view.component.S3ImageUpload;
+import com.ctrls.auto_enter_view.service.ClosingSweepService;
+import com.ctrls.auto_enter_view.service.FilteringService;
+import com.ctrls.auto_enter_view.service.MailAlarmInfoService;
+import com.ctrls.auto_enter_view.service.ScoringService;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.stereotype.Controller;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+
+/**
+ * 작업 전용 노드(worker 프로필)에서 API 에만 필요한 빈을 컴포넌트 스캔에서 제외
+ * <p>
+ * 컨트롤러, 예외 처리기, 보안 설정, Swagger, S3 업로드와 작업에서 사용하지 않는 서비스를 제외하고, 스케줄러와 채점, 필터링, 메일 발송
+ * 서비스, 레포지토리만 남긴다.
+ */
+public class WorkerTypeExcludeFilter extends TypeExcludeFilter {
+
+  private static final String SECURITY_PACKAGE = "com.ctrls.auto_enter_view.security.";
+
+  // 작업 전용 노드에서 실행하는 서비스
+  private static final Set<String> WORKER_SERVICES = names(ClosingSweepService.class,
+      FilteringService.class, MailAlarmInfoService.class, ScoringService.class);
+
+  // 컨트롤러와 보안 설정 외에 API 에서만 사용하는 빈
+  private static final Set<String> WEB_ONLY_TYPES = names(S3Config.class, S3ImageUpload.class,
+      SwaggerConfig.class);
+
+  @Override
+  public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) {
+
+    String className = metadataReader.getClassMetadata().getClassName();
+    AnnotationMetadata annotationMetadata = metadataReader.getAnnotationMetadata();
+
+    if (annotationMetadata.hasMetaAnnotation(Controller.class.getName())
+        || annotationMetadata.hasAnnotation(Controller.class.getName())
+        || annotationMetadata.hasMetaAnnotation(ControllerAdvice.class.getName())
+        || annotationMetadata.hasAnnotation(ControllerAdvice.class.getName())) {
+      return true;
+    }
+
+    if (className.startsWith(SECURITY_PACKAGE) || WEB_ONLY_TYPES.contains(className)) {
+      return true;
+    }
+
+    return annotationMetadata.hasAnnotation(Service.class.getName())
+        && !WORKER_SERVICES.contains(className);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+
+    return obj != null && getClass() == obj.getClass();
+  }
+
+  @Override
+  public int hashCode() {
+
+    return getClass().hashCode();
+  }
+
+  private static Set<String> names(Class<?>... types) {
+
+    return Stream.of(types).map(Class::getName).collect(Collectors.toUnmodifiableSet());
+  }
+}
@@ -34,6 +34,25 @@ public class CommonJobPostingController {
     return ResponseEntity.ok(response);
   }
 
+  /**
+   * Main 화면에 보여질 채용 공고 커서 기반 조회하기
+   *
+   * @param cursor    이전 응답의 nextCursor, 첫 페이지는 생략
+   * @param size      한번에 가져오는 size 24
+   * @param withTotal 전체 채용 공고 수 포함 여부
+   * @return MainJobPostingDto.CursorResponse
+   */
+  @GetMapping("/cursor")
+  public ResponseEntity<MainJobPostingDto.CursorResponse> getAllJobPostingByCursor(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "24") int size,
+      @RequestParam(defaultValue = "false") boolean withTotal) {
+
+    MainJobPostingDto.CursorResponse response = jobPostingService.getAllJobPostingByCursor(cursor,
+        size, withTotal);
+    return ResponseEntity.ok(response);
+  }
+
   /**
    * 채용 공고 상세 조회하기
    *
@@ -2,6 +2,7 @@ package com.ctrls.auto_enter_view.controller;
 
 import com.ctrls.auto_enter_view.dto.jobPosting.JobPostingDto;
 import com.ctrls.auto_enter_view.dto.jobPosting.JobPostingInfoDto;
+import com.ctrls.auto_enter_view.dto.jobPosting.ScoreDistributionDto;
 import com.ctrls.auto_enter_view.entity.JobPostingEntity;
 import com.ctrls.auto_enter_view.enums.ErrorCode;
 import com.ctrls.auto_enter_view.enums.ResponseMessage;
@@ -126,6 +127,19 @@ public class JobPostingController {
     return ResponseEntity.ok(jobPostingService.getJobPostingsByCompanyKey(userDetails, companyKey));
   }
 
+  /**
+   * 채용 공고 지원자 점수 분포 조회
+   *
+   * @param userDetails 로그인 된 사용자 정보
+   * @param jobPostingKey 채용 공고 PK
+   * @return ScoreDistributionDto.Response
+   */
+  @GetMapping("/job-postings/{jobPostingKey}/score-distribution")
+  public ResponseEntity<ScoreDistributionDto.Response> getScoreDistribution(
+      @AuthenticationPrincipal UserDetails userDetails, @PathVariable String jobPostingKey) {
+    return ResponseEntity.ok(jobPostingService.getScoreDistribution(userDetails, jobPostingKey));
+  }
+
   /**
    * (지원자) 채용 공고 지원하기
    *
@@ -0,0 +1,52 @@
+package com.ctrls.auto_enter_view.converter;
+
+import com.ctrls.auto_enter_view.enums.JobCategory;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * 직무별 경력 년수 배열을 하나의 문자열 컬럼으로 변환
+ * <p>
+ * JobCategory 순서대로 ';' 로 직무를 구분하고, 한 직무의 경력들은 ',' 로 구분한다. (예: "3,1;5;;;")
+ */
+@Converter
+public class CareerYearsConverter implements AttributeConverter<int[][], String> {
+
+  private static final String CATEGORY_DELIMITER = ";";
+  private static final String CAREER_DELIMITER = ",";
+
+  @Override
+  public String convertToDatabaseColumn(int[][] careerYears) {
+
+    if (careerYears == null) {
+      return null;
+    }
+
+    return Arrays.stream(careerYears)
+        .map(years -> Arrays.stream(years)
+            .mapToObj(String::valueOf)
+            .collect(Collectors.joining(CAREER_DELIMITER)))
+        .collect(Collectors.joining(CATEGORY_DELIMITER));
+  }
+
+  @Override
+  public int[][] convertToEntityAttribute(String dbData) {
+
+    int[][] careerYears = new int[JobCategory.values().length][];
+    String[] categories = dbData == null ? new String[0] : dbData.split(CATEGORY_DELIMITER, -1);
+
+    for (int i = 0; i < careerYears.length; i++) {
+      if (i >= categories.length || categories[i].isEmpty()) {
+        careerYears[i] = new int[0];
+      } else {
+        careerYears[i] = Arrays.stream(categories[i].split(CAREER_DELIMITER))
+            .mapToInt(Integer::parseInt)
+            .toArray();
+      }
+    }
+
+    return careerYears;
+  }
+}
@@ -0,0 +1,39 @@
+package com.ctrls.auto_enter_view.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * long 배열을 ',' 로 구분한 하나의 문자열 컬럼으로 변환 (예: "0,3,5")
+ */
+@Converter
+public class LongArrayConverter implements AttributeConverter<long[], String> {
+
+  private static final String DELIMITER = ",";
+
+  @Override
+  public String convertToDatabaseColumn(long[] values) {
+
+    if (values == null) {
+      return null;
+    }
+
+    return Arrays.stream(values)
+        .mapToObj(String::valueOf)
+        .collect(Collectors.joining(DELIMITER));
+  }
+
+  @Override
+  public long[] convertToEntityAttribute(String dbData) {
+
+    if (dbData == null || dbData.isEmpty()) {
+      return new long[0];
+    }
+
+    return Arrays.stream(dbData.split(DELIMITER))
+        .mapToLong(Long::parseLong)
+        .toArray();
+  }
+}
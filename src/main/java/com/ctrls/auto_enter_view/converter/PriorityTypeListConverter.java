@@ -0,0 +1,41 @@
+package com.ctrls.auto_enter_view.converter;
+
+import com.ctrls.auto_enter_view.enums.PriorityType;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 우선순위 목록을 순서를 유지한 채 ',' 로 구분된 문자열 컬럼으로 변환 (예: "TECH_STACK,CAREER")
+ */
+@Converter
+public class PriorityTypeListConverter implements AttributeConverter<List<PriorityType>, String> {
+
+  private static final String DELIMITER = ",";
+
+  @Override
+  public String convertToDatabaseColumn(List<PriorityType> priorities) {
+
+    if (priorities == null || priorities.isEmpty()) {
+      return null;
+    }
+
+    return priorities.stream()
+        .map(PriorityType::name)
+        .collect(Collectors.joining(DELIMITER));
+  }
+
+  @Override
+  public List<PriorityType> convertToEntityAttribute(String dbData) {
+
+    if (dbData == null || dbData.isEmpty()) {
+      return List.of();
+    }
+
+    return Arrays.stream(dbData.split(DELIMITER))
+        .map(PriorityType::valueOf)
+        .toList();
+  }
+}
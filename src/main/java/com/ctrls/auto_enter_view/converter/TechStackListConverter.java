@@ -0,0 +1,41 @@
+package com.ctrls.auto_enter_view.converter;
+
+import com.ctrls.auto_enter_view.enums.TechStack;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 기술 스택 목록을 순서를 유지한 채 ',' 로 구분된 문자열 컬럼으로 변환 (예: "JAVA,SPRING")
+ */
+@Converter
+public class TechStackListConverter implements AttributeConverter<List<TechStack>, String> {
+
+  private static final String DELIMITER = ",";
+
+  @Override
+  public String convertToDatabaseColumn(List<TechStack> techStacks) {
+
+    if (techStacks == null || techStacks.isEmpty()) {
+      return null;
+    }
+
+    return techStacks.stream()
+        .map(TechStack::name)
+        .collect(Collectors.joining(DELIMITER));
+  }
+
+  @Override
+  public List<TechStack> convertToEntityAttribute(String dbData) {
+
+    if (dbData == null || dbData.isEmpty()) {
+      return List.of();
+    }
+
+    return Arrays.stream(dbData.split(DELIMITER))
+        .map(TechStack::valueOf)
+        .toList();
+  }
+}
@@ -1,9 +1,11 @@
 package com.ctrls.auto_enter_view.dto.common;
 
 import com.ctrls.auto_enter_view.entity.JobPostingEntity;
+import com.ctrls.auto_enter_view.entity.JobPostingListingEntity;
 import com.ctrls.auto_enter_view.enums.TechStack;
 import java.io.Serializable;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,6 +25,19 @@ public class MainJobPostingDto {
     private long totalElements;
   }
 
+  @Getter
+  @AllArgsConstructor
+  @NoArgsConstructor
+  @Builder(toBuilder = true)
+  public static class CursorResponse implements Serializable {
+
+    private List<JobPostingMainInfo> jobPostingsList;
+    // 다음 페이지 커서, 마지막 페이지인 경우 null
+    private String nextCursor;
+    // 전체 채용 공고 수, withTotal 로 요청한 경우에만 포함
+    private Long totalElements;
+  }
+
   @Getter
   @AllArgsConstructor
   @NoArgsConstructor
@@ -46,5 +61,16 @@ public class MainJobPostingDto {
           .endDate(entity.getEndDate())
           .build();
     }
+
+    public static JobPostingMainInfo from(JobPostingListingEntity entity) {
+
+      return JobPostingMainInfo.builder()
+          .jobPostingKey(entity.getJobPostingKey())
+          .companyName(entity.getCompanyName())
+          .title(entity.getTitle())
+          .techStack(new ArrayList<>(entity.getTechStack()))
+          .endDate(entity.getEndDate())
+          .build();
+    }
   }
 }
\ No newline at end of file
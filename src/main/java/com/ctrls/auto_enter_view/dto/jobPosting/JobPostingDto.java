@@ -5,17 +5,20 @@ import com.ctrls.auto_enter_view.entity.JobPostingStepEntity;
 import com.ctrls.auto_enter_view.entity.JobPostingTechStackEntity;
 import com.ctrls.auto_enter_view.enums.Education;
 import com.ctrls.auto_enter_view.enums.JobCategory;
+import com.ctrls.auto_enter_view.enums.PriorityType;
 import com.ctrls.auto_enter_view.enums.TechStack;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import java.time.LocalDate;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.validator.constraints.UniqueElements;
 
 public class JobPostingDto {
 
@@ -65,6 +68,10 @@ public class JobPostingDto {
     @Min(value = 1, message = "구인수는 1명 이상이어야 합니다.")
     private int passingNumber;
 
+    @Size(max = 3, message = "우선순위는 최대 3개까지 입력할 수 있습니다.")
+    @UniqueElements(message = "우선순위는 중복될 수 없습니다.")
+    private List<PriorityType> priority;
+
     public static JobPostingEntity toEntity(String key, String companyKey, Request request) {
 
       return JobPostingEntity.builder()
@@ -82,6 +89,7 @@ public class JobPostingDto {
           .workTime(request.getWorkTime())
           .jobPostingContent(request.getJobPostingContent())
           .passingNumber(request.getPassingNumber())
+          .priority(request.getPriority())
           .build();
     }
 
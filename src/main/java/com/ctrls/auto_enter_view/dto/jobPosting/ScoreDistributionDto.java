@@ -0,0 +1,116 @@
+package com.ctrls.auto_enter_view.dto.jobPosting;
+
+import com.ctrls.auto_enter_view.entity.ScoreDistributionEntity;
+import com.ctrls.auto_enter_view.entity.ScoreHistogram;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+public class ScoreDistributionDto {
+
+  private static final int[] PERCENTILES = {50, 75, 90, 95, 99};
+
+  @Getter
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Response {
+
+    private String jobPostingKey;
+
+    private int passingNumber;
+
+    private long applicantCount;
+
+    private Integer minScore;
+
+    private Integer maxScore;
+
+    private Double averageScore;
+
+    // 점수 상위 passingNumber 명에 들기 위한 추정 점수
+    private Integer passingScore;
+
+    // 백분위 - 추정 점수
+    private Map<Integer, Integer> percentiles;
+
+    private int bucketWidth;
+
+    private List<Bucket> buckets;
+
+    public static Response from(ScoreDistributionEntity scoreDistributionEntity,
+        int passingNumber) {
+
+      ScoreHistogram scoreHistogram = scoreDistributionEntity.getScoreHistogram();
+      long applicantCount = scoreHistogram.getScoreCount();
+
+      Map<Integer, Integer> percentiles = new LinkedHashMap<>();
+
+      for (int percentile : PERCENTILES) {
+        percentiles.put(percentile, scoreHistogram.quantile(percentile / 100.0));
+      }
+
+      Integer passingScore = null;
+
+      if (passingNumber > 0 && applicantCount > 0) {
+        passingScore = passingNumber >= applicantCount ? scoreHistogram.getMinScore()
+            : scoreHistogram.quantile(
+                (double) (applicantCount - passingNumber + 1) / applicantCount);
+      }
+
+      return Response.builder()
+          .jobPostingKey(scoreDistributionEntity.getJobPostingKey())
+          .passingNumber(passingNumber)
+          .applicantCount(applicantCount)
+          .minScore(scoreHistogram.getMinScore())
+          .maxScore(scoreHistogram.getMaxScore())
+          .averageScore(scoreHistogram.getAverageScore())
+          .passingScore(passingScore)
+          .percentiles(percentiles)
+          .bucketWidth(ScoreHistogram.BUCKET_WIDTH)
+          .buckets(Bucket.from(scoreHistogram))
+          .build();
+    }
+  }
+
+  @Getter
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Bucket {
+
+    private int fromScore;
+
+    // 마지막 구간은 상한이 없으므로 null
+    private Integer toScore;
+
+    private long count;
+
+    // 지원자가 있는 구간만 변환
+    private static List<Bucket> from(ScoreHistogram scoreHistogram) {
+
+      long[] bucketCounts = scoreHistogram.getBucketCounts();
+      List<Bucket> buckets = new ArrayList<>();
+
+      for (int i = 0; i < bucketCounts.length; i++) {
+        if (bucketCounts[i] == 0) {
+          continue;
+        }
+
+        buckets.add(Bucket.builder()
+            .fromScore(i * ScoreHistogram.BUCKET_WIDTH)
+            .toScore(i == bucketCounts.length - 1 ? null
+                : (i + 1) * ScoreHistogram.BUCKET_WIDTH - 1)
+            .count(bucketCounts[i])
+            .build());
+      }
+
+      return buckets;
+    }
+  }
+}
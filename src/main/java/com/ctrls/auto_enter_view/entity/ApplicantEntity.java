@@ -1,11 +1,14 @@
 package com.ctrls.auto_enter_view.entity;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,7 +19,9 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "applicant")
+// 필터링에서 점수 상위 지원자만 정렬된 순서로 읽기 위한 인덱스
+@Table(name = "applicant", indexes = @Index(name = "idx_applicant_job_posting_score",
+    columnList = "job_posting_key, score DESC, created_at"))
 public class ApplicantEntity extends BaseEntity {
 
   @Id
@@ -33,8 +38,16 @@ public class ApplicantEntity extends BaseEntity {
   @Builder.Default
   private int score = 0;
 
-  public void updateScore(int score) {
+  // 점수가 마지막으로 계산된 시간, null 이면 다시 채점해야 하는 지원자
+  private LocalDateTime scoredAt;
+
+  @Embedded
+  private ScoreBreakdown scoreBreakdown;
+
+  public void updateScore(int score, ScoreBreakdown scoreBreakdown) {
 
     this.score = score;
+    this.scoreBreakdown = scoreBreakdown;
+    this.scoredAt = LocalDateTime.now();
   }
 }
\ No newline at end of file
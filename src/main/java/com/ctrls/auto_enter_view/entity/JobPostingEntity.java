@@ -1,24 +1,36 @@
 package com.ctrls.auto_enter_view.entity;
 
+import com.ctrls.auto_enter_view.converter.PriorityTypeListConverter;
 import com.ctrls.auto_enter_view.dto.jobPosting.JobPostingDto.Request;
 import com.ctrls.auto_enter_view.enums.Education;
 import com.ctrls.auto_enter_view.enums.JobCategory;
+import com.ctrls.auto_enter_view.enums.JobPostingStatus;
+import com.ctrls.auto_enter_view.enums.PriorityType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.LocalDate;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "job_posting")
+// 메인 목록과 마감 처리에서 상태로 채용 공고를 찾기 위한 인덱스
+// InnoDB 보조 인덱스는 PK(job_posting_key)를 포함하므로 커서 조회의 (end_date, job_posting_key) 순서도 이 인덱스로 읽음
+@Table(name = "job_posting", indexes = @Index(name = "idx_job_posting_status_end_date",
+    columnList = "status, end_date"))
 public class JobPostingEntity extends BaseEntity {
 
   @Id
@@ -62,6 +74,19 @@ public class JobPostingEntity extends BaseEntity {
   @Column(columnDefinition = "TEXT")
   private String jobPostingContent;
 
+  // 채점 우선순위, 앞에 있을수록 높은 가중치
+  @Convert(converter = PriorityTypeListConverter.class)
+  private List<PriorityType> priority;
+
+  // 상태 변경은 JobPostingRepository.updateStatus 로만 이전 상태를 확인하며 원자적으로 변경
+  // 엔티티를 수정하며 flush 할 때 읽어 둔 상태로 덮어쓰지 않도록 UPDATE 문에서 제외
+  // 기존 채용 공고의 상태는 SchemaMigration 에서 채움
+  @Column(nullable = false, updatable = false)
+  @ColumnDefault("'OPEN'")
+  @Enumerated(EnumType.STRING)
+  @Builder.Default
+  private JobPostingStatus status = JobPostingStatus.OPEN;
+
   public void updateEntity(Request request) {
 
     this.title = request.getTitle();
@@ -76,5 +101,17 @@ public class JobPostingEntity extends BaseEntity {
     this.endDate = request.getEndDate();
     this.jobPostingContent = request.getJobPostingContent();
     this.passingNumber = request.getPassingNumber();
+    this.priority = normalizePriority(request.getPriority());
+  }
+
+  /**
+   * 우선순위가 없으면 빈 목록으로 변환, PriorityTypeListConverter 가 빈 컬럼을 읽은 값과 같은 형태로 맞춤
+   *
+   * @param priority 우선순위
+   * @return 우선순위, null 이면 빈 목록
+   */
+  public static List<PriorityType> normalizePriority(List<PriorityType> priority) {
+
+    return priority == null ? List.of() : priority;
   }
-}
\ No newline at end of file
+}
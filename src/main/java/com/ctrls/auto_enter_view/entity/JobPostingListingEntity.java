@@ -0,0 +1,81 @@
+package com.ctrls.auto_enter_view.entity;
+
+import com.ctrls.auto_enter_view.converter.TechStackListConverter;
+import com.ctrls.auto_enter_view.enums.Education;
+import com.ctrls.auto_enter_view.enums.JobCategory;
+import com.ctrls.auto_enter_view.enums.TechStack;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Main 화면 채용 공고 목록 읽기 모델
+ * <p>
+ * 지원 가능한(OPEN) 채용 공고 중 회사가 탈퇴하지 않은 채용 공고만 회사 이름과 기술 스택을 포함해 한 행으로 저장하여, 목록 조회는 조인 없이
+ * (end_date, job_posting_key) 인덱스 범위만 읽는다. 채용 공고, 기술 스택, 회사 탈퇴 처리에서 JobPostingListingUpdater 로 갱신한다.
+ */
+@AllArgsConstructor
+@Builder
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "job_posting_listing", indexes = {
+    @Index(name = "idx_job_posting_listing_end_date", columnList = "end_date, job_posting_key"),
+    @Index(name = "idx_job_posting_listing_company", columnList = "company_key")})
+public class JobPostingListingEntity {
+
+  @Id
+  private String jobPostingKey;
+
+  @Column(nullable = false)
+  private String companyKey;
+
+  @Column(nullable = false)
+  private String companyName;
+
+  @Column(nullable = false)
+  private String title;
+
+  @Column(nullable = false)
+  @Enumerated(EnumType.STRING)
+  private JobCategory jobCategory;
+
+  @Column(nullable = false)
+  @Enumerated(EnumType.STRING)
+  private Education education;
+
+  private Integer career;
+
+  @Column(nullable = false)
+  private LocalDate endDate;
+
+  @Convert(converter = TechStackListConverter.class)
+  private List<TechStack> techStack;
+
+  public static JobPostingListingEntity of(JobPostingEntity jobPosting, String companyName,
+      List<TechStack> techStack) {
+
+    return JobPostingListingEntity.builder()
+        .jobPostingKey(jobPosting.getJobPostingKey())
+        .companyKey(jobPosting.getCompanyKey())
+        .companyName(companyName)
+        .title(jobPosting.getTitle())
+        .jobCategory(jobPosting.getJobCategory())
+        .education(jobPosting.getEducation())
+        .career(jobPosting.getCareer())
+        .endDate(jobPosting.getEndDate())
+        .techStack(techStack)
+        .build();
+  }
+}
@@ -40,8 +40,15 @@ public class MailAlarmInfoEntity extends BaseEntity {
   @Column(nullable = false)
   private LocalDateTime mailSendDateTime;
 
+  // 발송을 시작한 시간, null 이면 아직 발송하지 않은 예약 메일
+  // 변경은 MailAlarmInfoRepository.markSent 로 하여 여러 노드에서 중복 발송하지 않도록 함
+  // 컬럼 추가 전에 발송된 예약 메일의 값은 SchemaMigration 에서 채움
+  private LocalDateTime mailSentAt;
+
   public void updateEntity(MailAlarmInfoDto mailAlarmInfoDto) {
     this.mailContent = mailAlarmInfoDto.getMailContent();
     this.mailSendDateTime = mailAlarmInfoDto.getMailSendDateTime();
+    // 수정된 시간에 다시 발송
+    this.mailSentAt = null;
   }
 }
\ No newline at end of file
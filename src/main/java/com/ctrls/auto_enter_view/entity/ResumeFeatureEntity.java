@@ -0,0 +1,85 @@
+package com.ctrls.auto_enter_view.entity;
+
+import com.ctrls.auto_enter_view.converter.CareerYearsConverter;
+import com.ctrls.auto_enter_view.enums.Education;
+import com.ctrls.auto_enter_view.enums.JobCategory;
+import com.ctrls.auto_enter_view.enums.TechStack;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.Collection;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채점에 필요한 이력서 정보를 미리 계산해 둔 행
+ * <p>
+ * 이력서 생성 / 수정 / 삭제 시 함께 갱신되어, 채점할 때 이력서 추가 정보 테이블들을 다시 읽지 않는다.
+ */
+@AllArgsConstructor
+@Builder
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "resume_feature")
+public class ResumeFeatureEntity {
+
+  @Id
+  private String resumeKey;
+
+  @Column(nullable = false, unique = true)
+  private String candidateKey;
+
+  private Education education;
+
+  private boolean hasPortfolio;
+
+  // TechStack 순서를 비트 위치로 사용하는 기술스택 집합
+  private long techStackMask;
+
+  private int certificateCount;
+
+  private int experienceCount;
+
+  // JobCategory 순서별 경력 년수 목록
+  @Convert(converter = CareerYearsConverter.class)
+  private int[][] careerYears;
+
+  public static ResumeFeatureEntity of(ResumeEntity resumeEntity, Collection<TechStack> techStacks,
+      int certificateCount, int experienceCount, List<ResumeCareerEntity> resumeCareerEntities) {
+
+    String portfolio = resumeEntity.getPortfolio();
+
+    return ResumeFeatureEntity.builder()
+        .resumeKey(resumeEntity.getResumeKey())
+        .candidateKey(resumeEntity.getCandidateKey())
+        .education(resumeEntity.getEducation())
+        .hasPortfolio(portfolio != null && !portfolio.isEmpty())
+        .techStackMask(TechStack.toMask(techStacks))
+        .certificateCount(certificateCount)
+        .experienceCount(experienceCount)
+        .careerYears(toCareerYears(resumeCareerEntities))
+        .build();
+  }
+
+  // 경력 목록을 직무별 경력 년수 배열로 변환
+  private static int[][] toCareerYears(List<ResumeCareerEntity> resumeCareerEntities) {
+
+    JobCategory[] jobCategories = JobCategory.values();
+    int[][] careerYears = new int[jobCategories.length][];
+
+    for (JobCategory jobCategory : jobCategories) {
+      careerYears[jobCategory.ordinal()] = resumeCareerEntities.stream()
+          .filter(e -> e.getJobCategory() == jobCategory)
+          .mapToInt(ResumeCareerEntity::getCalculatedCareer)
+          .toArray();
+    }
+
+    return careerYears;
+  }
+}
@@ -0,0 +1,76 @@
+package com.ctrls.auto_enter_view.entity;
+
+import com.ctrls.auto_enter_view.enums.PriorityType;
+import jakarta.persistence.Embeddable;
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가중치를 적용하기 전의 항목별 점수
+ * <p>
+ * 채용 공고 수정 시 바뀐 항목만 지워 두고 마감 후 채점에서 지워진 항목만 다시 계산하며, 나머지 항목은 저장된 점수를 그대로 사용한다.
+ */
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Embeddable
+@Getter
+@NoArgsConstructor
+public class ScoreBreakdown {
+
+  // 가중치를 적용하지 않는 항목(경험, 자격증, 포트폴리오 등)의 합
+  private Integer baseScore;
+
+  private Integer educationScore;
+
+  private Integer careerScore;
+
+  private Integer techStackScore;
+
+  /**
+   * 가중치 유형별 점수
+   *
+   * @param priorityType 가중치 유형, null 이면 가중치를 적용하지 않는 항목
+   * @return 항목 점수
+   */
+  public int get(PriorityType priorityType) {
+
+    Integer score = find(priorityType);
+
+    return score == null ? 0 : score;
+  }
+
+  /**
+   * 채용 공고 수정으로 지워져 다시 계산해야 하는 가중치 유형
+   *
+   * @return 점수가 없는 가중치 유형
+   */
+  public Set<PriorityType> clearedComponents() {
+
+    Set<PriorityType> clearedComponents = EnumSet.noneOf(PriorityType.class);
+
+    for (PriorityType priorityType : PriorityType.values()) {
+      if (find(priorityType) == null) {
+        clearedComponents.add(priorityType);
+      }
+    }
+
+    return clearedComponents;
+  }
+
+  private Integer find(PriorityType priorityType) {
+
+    if (priorityType == null) {
+      return baseScore;
+    }
+
+    return switch (priorityType) {
+      case EDUCATION -> educationScore;
+      case CAREER -> careerScore;
+      case TECH_STACK -> techStackScore;
+    };
+  }
+}
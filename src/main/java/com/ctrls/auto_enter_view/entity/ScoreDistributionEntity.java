@@ -0,0 +1,36 @@
+package com.ctrls.auto_enter_view.entity;
+
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@Builder
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "score_distribution")
+public class ScoreDistributionEntity extends BaseEntity {
+
+  @Id
+  private String jobPostingKey;
+
+  @Embedded
+  @Builder.Default
+  private ScoreHistogram scoreHistogram = ScoreHistogram.empty();
+
+  public void merge(ScoreHistogram chunkHistogram) {
+
+    this.scoreHistogram.merge(chunkHistogram);
+  }
+
+  public void reset(ScoreHistogram scoreHistogram) {
+
+    this.scoreHistogram = scoreHistogram;
+  }
+}
@@ -0,0 +1,138 @@
+package com.ctrls.auto_enter_view.entity;
+
+import com.ctrls.auto_enter_view.converter.LongArrayConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Embeddable;
+import java.util.Arrays;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지원자 점수의 고정 구간 히스토그램
+ * <p>
+ * 점수를 BUCKET_WIDTH 점 단위 구간으로 나누어 개수만 세므로 지원자 수와 상관없이 크기가 일정하다. 마지막 구간은 그 이상의 모든 점수를
+ * 포함한다. 구간이 같으므로 청크별로 만든 히스토그램을 더해 합칠 수 있다.
+ */
+@AllArgsConstructor
+@Embeddable
+@Getter
+@NoArgsConstructor
+public class ScoreHistogram {
+
+  public static final int BUCKET_WIDTH = 5;
+  public static final int BUCKET_COUNT = 64;
+
+  @Column(nullable = false, length = 1024)
+  @Convert(converter = LongArrayConverter.class)
+  private long[] bucketCounts;
+
+  @Column(nullable = false)
+  private long scoreCount;
+
+  @Column(nullable = false)
+  private long scoreSum;
+
+  private Integer minScore;
+
+  private Integer maxScore;
+
+  public static ScoreHistogram empty() {
+
+    return new ScoreHistogram(new long[BUCKET_COUNT], 0L, 0L, null, null);
+  }
+
+  public void add(int score) {
+
+    add(score, 1L);
+  }
+
+  /**
+   * 같은 점수를 여러 번 추가
+   *
+   * @param score 점수, 음수는 0점으로 처리
+   * @param times 추가할 횟수
+   */
+  public void add(int score, long times) {
+
+    if (times <= 0) {
+      return;
+    }
+
+    int value = Math.max(score, 0);
+    long[] counts = Arrays.copyOf(bucketCounts, BUCKET_COUNT);
+    counts[Math.min(value / BUCKET_WIDTH, BUCKET_COUNT - 1)] += times;
+
+    this.bucketCounts = counts;
+    this.scoreCount += times;
+    this.scoreSum += value * times;
+    this.minScore = minScore == null ? value : Math.min(minScore, value);
+    this.maxScore = maxScore == null ? value : Math.max(maxScore, value);
+  }
+
+  /**
+   * 다른 히스토그램의 구간별 개수를 더함
+   *
+   * @param other 합칠 히스토그램
+   */
+  public void merge(ScoreHistogram other) {
+
+    if (other.scoreCount == 0) {
+      return;
+    }
+
+    long[] counts = Arrays.copyOf(bucketCounts, BUCKET_COUNT);
+
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] += other.bucketCounts[i];
+    }
+
+    this.bucketCounts = counts;
+    this.scoreCount += other.scoreCount;
+    this.scoreSum += other.scoreSum;
+    this.minScore = minScore == null ? other.minScore : Math.min(minScore, other.minScore);
+    this.maxScore = maxScore == null ? other.maxScore : Math.max(maxScore, other.maxScore);
+  }
+
+  /**
+   * 분위수에 해당하는 점수를 구간 안에서 선형 보간으로 추정, 오차는 구간 너비 이내
+   *
+   * @param quantile 0 이상 1 이하의 분위수
+   * @return 추정 점수, 점수가 없으면 null
+   */
+  public Integer quantile(double quantile) {
+
+    if (scoreCount == 0) {
+      return null;
+    }
+
+    // 분위수에 해당하는 순위 (1부터 시작)
+    double rank = Math.max(1, Math.ceil(Math.min(Math.max(quantile, 0), 1) * scoreCount));
+    long cumulative = 0;
+
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      long count = bucketCounts[i];
+
+      if (count == 0 || cumulative + count < rank) {
+        cumulative += count;
+        continue;
+      }
+
+      int lower = Math.max(i * BUCKET_WIDTH, minScore);
+      int upper = i == BUCKET_COUNT - 1 ? maxScore
+          : Math.min((i + 1) * BUCKET_WIDTH - 1, maxScore);
+      // 구간 안의 점수가 고르게 퍼져 있다고 보고 순위에 해당하는 위치 추정
+      double fraction = (rank - cumulative - 0.5) / count;
+
+      return (int) Math.round(lower + (upper - lower) * fraction);
+    }
+
+    return maxScore;
+  }
+
+  public Double getAverageScore() {
+
+    return scoreCount == 0 ? null : (double) scoreSum / scoreCount;
+  }
+}
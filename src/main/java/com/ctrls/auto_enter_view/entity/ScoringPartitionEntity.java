@@ -0,0 +1,47 @@
+package com.ctrls.auto_enter_view.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 분산 채점에서 한 작업자가 채점하는 지원자 ID 범위
+@AllArgsConstructor
+@Builder
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "scoring_partition", indexes = @Index(name = "idx_scoring_partition_job_posting",
+    columnList = "job_posting_key, completed"))
+public class ScoringPartitionEntity extends BaseEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false)
+  private String jobPostingKey;
+
+  // 범위에 포함되지 않는 시작 지원자 ID
+  @Column(nullable = false)
+  private Long fromApplicantId;
+
+  // 범위에 포함되는 마지막 지원자 ID
+  @Column(nullable = false)
+  private Long toApplicantId;
+
+  @Column(nullable = false)
+  @Builder.Default
+  private boolean completed = false;
+
+  @Column(nullable = false)
+  @Builder.Default
+  private int scoredCount = 0;
+}
@@ -0,0 +1,65 @@
+package com.ctrls.auto_enter_view.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+@AllArgsConstructor
+@Builder
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "scoring_progress")
+public class ScoringProgressEntity extends BaseEntity {
+
+  @Id
+  private String jobPostingKey;
+
+  // 마지막으로 커밋된 청크의 마지막 지원자 ID
+  @Column(nullable = false)
+  @Builder.Default
+  private Long lastApplicantId = 0L;
+
+  @Column(nullable = false)
+  @Builder.Default
+  private int scoredCount = 0;
+
+  @Column(nullable = false)
+  @Builder.Default
+  private boolean completed = false;
+
+  // 마감 처리(채점, 필터링)에 연속으로 실패한 횟수, 최대 횟수에 도달하면 더 이상 다시 처리하지 않음
+  @Column(nullable = false)
+  @ColumnDefault("0")
+  @Builder.Default
+  private int failureCount = 0;
+
+  public void updateProgress(Long lastApplicantId, int chunkSize) {
+
+    this.lastApplicantId = lastApplicantId;
+    this.scoredCount += chunkSize;
+  }
+
+  public void complete() {
+
+    this.completed = true;
+  }
+
+  public int fail() {
+
+    return ++this.failureCount;
+  }
+
+  public void restart() {
+
+    this.lastApplicantId = 0L;
+    this.scoredCount = 0;
+    this.completed = false;
+  }
+}
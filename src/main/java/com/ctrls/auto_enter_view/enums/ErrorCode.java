@@ -19,6 +19,7 @@ public enum ErrorCode {
   INVALID_VERIFICATION_CODE(400, "유효하지 않은 인증 코드입니다."),
   JOB_POSTING_NOT_FOUND(404, "채용 공고를 찾을 수 없습니다."),
   JOB_POSTING_STEP_NOT_FOUND(404, "채용 공고의 해당 단계를 찾을 수 없습니다."),
+  SCORE_DISTRIBUTION_NOT_FOUND(404, "채용 공고의 점수 분포를 찾을 수 없습니다."),
   JOB_POSTING_HAS_CANDIDATES(409, "채용 공고에 이미 지원한 지원자가 존재합니다."),
   NOT_FOUND(404, "페이지를 찾을 수 없습니다."),
   NO_AUTHORITY(401, "권한이 없습니다."),
@@ -51,7 +52,9 @@ public enum ErrorCode {
   UNSCHEDULE_FAILED(500, "스케줄링 취소에 실패하였습니다."),
   FAILED_MAIL_SCHEDULING(500, "메일 예약 등록을 실패했습니다."),
   FAILED_MAIL_UNSCHEDULING(500, "메일 예약 취소를 실패했습니다."),
-  INVALID_CURRENT_STEP_ID(400, "잘못된 채용 공고 단계 입니다.");
+  INVALID_CURRENT_STEP_ID(400, "잘못된 채용 공고 단계 입니다."),
+  INVALID_CURSOR(400, "잘못된 페이지 커서입니다."),
+  JOB_POSTING_CLOSED(409, "마감 처리가 시작된 채용 공고는 수정할 수 없습니다.");
 
   private final int status;
   private final String message;
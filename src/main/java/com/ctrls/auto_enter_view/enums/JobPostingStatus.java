@@ -0,0 +1,13 @@
+package com.ctrls.auto_enter_view.enums;
+
+// 채용 공고 상태, 마감 처리의 각 단계가 끝날 때마다 OPEN -> CLOSED -> SCORED -> FILTERED 순서로만 변경
+public enum JobPostingStatus {
+  // 지원 가능
+  OPEN,
+  // 마감일이 지나 채점 대기
+  CLOSED,
+  // 채점 완료, 필터링 대기
+  SCORED,
+  // 합격자를 첫번째 단계에 등록 완료
+  FILTERED
+}
@@ -0,0 +1,7 @@
+package com.ctrls.auto_enter_view.enums;
+
+// 마감 후 채점 방식, JAVA : 애플리케이션에서 계산 / SQL : 하나의 UPDATE 문으로 DB 에서 계산
+public enum ScoringMode {
+  JAVA,
+  SQL
+}
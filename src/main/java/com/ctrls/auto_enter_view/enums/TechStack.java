@@ -1,6 +1,7 @@
 package com.ctrls.auto_enter_view.enums;
 
 import com.ctrls.auto_enter_view.entity.ResumeTechStackEntity;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.AllArgsConstructor;
@@ -52,6 +53,23 @@ public enum TechStack {
     return TECH_STACK_MAP.get(value);
   }
 
+  // 기술스택 집합을 순서를 비트 위치로 하는 long 비트마스크로 변환
+  public static long toMask(Collection<TechStack> techStacks) {
+
+    long mask = 0L;
+
+    for (TechStack techStack : techStacks) {
+      mask |= techStack.bit();
+    }
+
+    return mask;
+  }
+
+  public long bit() {
+
+    return 1L << ordinal();
+  }
+
   public ResumeTechStackEntity toEntity(String resumeKey) {
 
     return ResumeTechStackEntity.builder()
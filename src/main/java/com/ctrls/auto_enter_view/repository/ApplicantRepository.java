@@ -3,15 +3,56 @@ package com.ctrls.auto_enter_view.repository;
 import com.ctrls.auto_enter_view.entity.ApplicantEntity;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface ApplicantRepository extends JpaRepository<ApplicantEntity, Long> {
+public interface ApplicantRepository extends JpaRepository<ApplicantEntity, Long>,
+    ApplicantRepositoryCustom {
 
   List<ApplicantEntity> findAllByJobPostingKey(String jobPostingKey);
 
+  List<ApplicantEntity> findAllByJobPostingKeyAndIdGreaterThanOrderByIdAsc(String jobPostingKey,
+      Long id, Limit limit);
+
+  // 분산 채점에서 파티션의 지원자 ID 범위(fromId 초과, toId 이하)를 ID 순서로 조회
+  List<ApplicantEntity> findAllByJobPostingKeyAndIdGreaterThanAndIdLessThanEqualOrderByIdAsc(
+      String jobPostingKey, Long fromId, Long toId, Limit limit);
+
+  long countByJobPostingKey(String jobPostingKey);
+
+  // 점수가 높은 순서, 같다면 지원한 시간이 빠른 순서로 상위 limit 명만 조회
+  // 탈퇴했거나 지원 정보가 없는 지원자는 합격자로 등록할 수 없으므로 순위에서 제외하고 다음 순위로 채움
+  @Query("SELECT a FROM ApplicantEntity a "
+      + "WHERE a.jobPostingKey = :jobPostingKey "
+      + "AND EXISTS (SELECT 1 FROM CandidateEntity c WHERE c.candidateKey = a.candidateKey) "
+      + "AND EXISTS (SELECT 1 FROM AppliedJobPostingEntity ap "
+      + "WHERE ap.candidateKey = a.candidateKey AND ap.jobPostingKey = a.jobPostingKey) "
+      + "ORDER BY a.score DESC, a.createdAt ASC, a.id ASC")
+  List<ApplicantEntity> findTopRankedByJobPostingKey(String jobPostingKey, Limit limit);
+
   boolean existsByCandidateKeyAndJobPostingKey(String candidateKey, String jobPostingKey);
 
   Optional<ApplicantEntity> findByCandidateKeyAndJobPostingKey(String candidateKey, String jobPostingKey);
-}
\ No newline at end of file
+
+  // 아직 지원 가능한(OPEN) 채용 공고의 지원 목록, 마감일이 연장된 채용 공고도 포함하고 마감 처리 중인 채용 공고는 제외
+  @Query("SELECT a FROM ApplicantEntity a "
+      + "JOIN JobPostingEntity j "
+      + "ON a.jobPostingKey = j.jobPostingKey "
+      + "WHERE a.candidateKey = :candidateKey "
+      + "AND j.status = com.ctrls.auto_enter_view.enums.JobPostingStatus.OPEN")
+  List<ApplicantEntity> findAllOpenByCandidateKey(String candidateKey);
+
+  // 이력서가 삭제된 지원자의 OPEN 채용 공고 점수를 이력서가 없는 지원자와 같은 0점으로 되돌리고 마감 후 채점 대상으로 표시
+  @Modifying
+  @Query("UPDATE ApplicantEntity a SET a.score = 0, a.scoredAt = NULL, "
+      + "a.scoreBreakdown.baseScore = NULL, a.scoreBreakdown.educationScore = NULL, "
+      + "a.scoreBreakdown.careerScore = NULL, a.scoreBreakdown.techStackScore = NULL "
+      + "WHERE a.candidateKey = :candidateKey AND a.jobPostingKey IN ("
+      + "SELECT j.jobPostingKey FROM JobPostingEntity j "
+      + "WHERE j.status = com.ctrls.auto_enter_view.enums.JobPostingStatus.OPEN)")
+  int resetOpenScoresByCandidateKey(String candidateKey);
+}
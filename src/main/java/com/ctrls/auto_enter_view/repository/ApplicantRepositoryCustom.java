@@ -0,0 +1,71 @@
+package com.ctrls.auto_enter_view.repository;
+
+import com.ctrls.auto_enter_view.entity.JobPostingEntity;
+import com.ctrls.auto_enter_view.entity.ScoreBreakdown;
+import com.ctrls.auto_enter_view.entity.ScoreHistogram;
+import com.ctrls.auto_enter_view.enums.PriorityType;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+public interface ApplicantRepositoryCustom {
+
+  /**
+   * 지원자 점수와 항목별 점수를 JDBC batch UPDATE 로 한 번에 저장
+   *
+   * @param scoreBreakdowns 지원자 ID - 항목별 점수
+   * @param totalScore      항목별 점수로 총점을 계산하는 함수
+   */
+  void batchUpdateScores(Map<Long, ScoreBreakdown> scoreBreakdowns,
+      ToIntFunction<ScoreBreakdown> totalScore);
+
+  /**
+   * 채용 공고에서 점수가 없거나 무효화된 지원자들의 점수를 DB 에서 계산하여 저장
+   * <p>
+   * 기본 채점 규칙(학력, 경험, 자격증, 포트폴리오, 기술스택, 경력)과 같은 항목별 점수와 가중치를 적용한 총점을 하나의 UPDATE 문으로
+   * 계산하여 저장하며, 이력서가 없는 지원자는 제외된다.
+   *
+   * @param jobPostingEntity 채점할 채용 공고
+   * @param educationWeight  학력 가중치
+   * @param techStackWeight  기술스택 가중치
+   * @param careerWeight     경력 가중치
+   * @return 점수가 저장된 지원자 수
+   */
+  int updateScoresInDatabase(JobPostingEntity jobPostingEntity, int educationWeight,
+      int techStackWeight, int careerWeight);
+
+  /**
+   * 채용 공고 수정으로 지원자 점수를 무효화하고 바뀐 가중치 유형의 항목별 점수만 지움
+   * <p>
+   * 점수를 다시 계산하지 않고 하나의 UPDATE 문으로 채점 대상으로만 표시하므로 지원자 수와 상관없이 바로 끝난다. 마감 후 채점에서
+   * 지워진 항목만 다시 계산하고, 지워진 항목이 없는 지원자는 저장된 항목별 점수에 가중치만 다시 적용한다.
+   *
+   * @param jobPostingKey     채용 공고 키
+   * @param changedComponents 조건이 바뀐 가중치 유형
+   * @return 무효화된 지원자 수
+   */
+  int invalidateScores(String jobPostingKey, Set<PriorityType> changedComponents);
+
+  /**
+   * 채용 공고 지원자 점수의 히스토그램을 DB 에서 점수별 개수로 집계
+   * <p>
+   * 지원자 행이 아닌 서로 다른 점수별 개수만 읽으므로 지원자 수와 상관없이 조회하는 행 수가 작다.
+   *
+   * @param jobPostingKey 채용 공고 키
+   * @return 점수 히스토그램
+   */
+  ScoreHistogram aggregateScoreHistogram(String jobPostingKey);
+
+  /**
+   * 채용 공고 지원자를 ID 순서로 partitionSize 명씩 나눈 범위의 마지막 지원자 ID 목록
+   * <p>
+   * 지원자 행을 읽지 않고 DB 에서 ROW_NUMBER 로 partitionSize 번째마다의 ID 만 조회한다. 마지막 범위가 partitionSize 명보다 적으면
+   * 마지막 범위의 ID 는 포함되지 않는다.
+   *
+   * @param jobPostingKey 채용 공고 키
+   * @param partitionSize 범위마다 지원자 수
+   * @return 범위마다 마지막 지원자 ID, 오름차순
+   */
+  List<Long> findPartitionBoundaries(String jobPostingKey, int partitionSize);
+}
@@ -0,0 +1,178 @@
+package com.ctrls.auto_enter_view.repository;
+
+import com.ctrls.auto_enter_view.entity.JobPostingEntity;
+import com.ctrls.auto_enter_view.entity.ScoreBreakdown;
+import com.ctrls.auto_enter_view.entity.ScoreHistogram;
+import com.ctrls.auto_enter_view.enums.Education;
+import com.ctrls.auto_enter_view.enums.PriorityType;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@RequiredArgsConstructor
+public class ApplicantRepositoryImpl implements ApplicantRepositoryCustom {
+
+  private static final int BATCH_SIZE = 500;
+
+  private static final String UPDATE_SCORE_SQL = "UPDATE applicant SET score = ?, base_score = ?,"
+      + " education_score = ?, career_score = ?, tech_stack_score = ?, scored_at = ?,"
+      + " updated_at = ? WHERE id = ?";
+
+  // 이력서 학력 순서별 학력 점수
+  private static final String EDUCATION_SCORE_SQL = Arrays.stream(Education.values())
+      .map(e -> "WHEN " + e.ordinal() + " THEN " + e.getScore())
+      .collect(Collectors.joining(" ", "CASE r.education ", " ELSE 0 END"));
+
+  // 기본 채점 규칙과 같은 항목별 점수, 지원자 행마다 상관 서브쿼리로 계산
+  private static final String BASE_SCORE_SQL = "(SELECT"
+      + " (SELECT COUNT(*) FROM resume_experience e WHERE e.resume_key = r.resume_key)"
+      + " + (SELECT COUNT(*) FROM resume_certificate c WHERE c.resume_key = r.resume_key)"
+      + " + (CASE WHEN r.portfolio IS NOT NULL AND r.portfolio <> '' THEN 3 ELSE 0 END)"
+      + " FROM resume r WHERE r.candidate_key = a.candidate_key)";
+
+  private static final String EDUCATION_SCORE_IN_DATABASE_SQL = "(SELECT CASE WHEN"
+      + " :educationRequired = 1 AND r.education >= :education THEN " + EDUCATION_SCORE_SQL
+      + " ELSE 0 END FROM resume r WHERE r.candidate_key = a.candidate_key)";
+
+  private static final String TECH_STACK_SCORE_SQL = "(SELECT COUNT(DISTINCT t.tech_stack_name) * 5"
+      + " FROM resume r JOIN resume_tech_stack t ON t.resume_key = r.resume_key"
+      + " WHERE r.candidate_key = a.candidate_key AND t.tech_stack_name IN ("
+      + "SELECT jt.tech_name FROM job_posting_tech_stack jt"
+      + " WHERE jt.job_posting_key = :jobPostingKey))";
+
+  private static final String CAREER_SCORE_SQL = "(SELECT"
+      + " COALESCE(SUM(rc.calculated_career - :career + 1), 0) * 5"
+      + " FROM resume r JOIN resume_career rc ON rc.resume_key = r.resume_key"
+      + " WHERE r.candidate_key = a.candidate_key AND :careerRequired = 1"
+      + " AND rc.job_category = :jobCategory AND rc.calculated_career >= :career)";
+
+  // 항목별 점수와 가중치를 적용한 총점을 한 번의 UPDATE 로 저장
+  // SET 의 다른 컬럼 값은 DB 마다 갱신 전 값(H2) 또는 갱신 후 값(MariaDB)으로 읽히므로 총점도 같은 서브쿼리로 계산
+  private static final String UPDATE_SCORES_IN_DATABASE_SQL = "UPDATE applicant a SET"
+      + " base_score = " + BASE_SCORE_SQL + ","
+      + " education_score = " + EDUCATION_SCORE_IN_DATABASE_SQL + ","
+      + " tech_stack_score = " + TECH_STACK_SCORE_SQL + ","
+      + " career_score = " + CAREER_SCORE_SQL + ","
+      + " score = " + BASE_SCORE_SQL
+      + " + " + EDUCATION_SCORE_IN_DATABASE_SQL + " * :educationWeight"
+      + " + " + CAREER_SCORE_SQL + " * :careerWeight"
+      + " + " + TECH_STACK_SCORE_SQL + " * :techStackWeight,"
+      + " scored_at = :now, updated_at = :now"
+      + " WHERE a.job_posting_key = :jobPostingKey AND a.scored_at IS NULL"
+      + " AND EXISTS (SELECT 1 FROM resume r WHERE r.candidate_key = a.candidate_key)";
+
+  private static final String COUNT_SCORES_SQL = "SELECT score, COUNT(*) FROM applicant"
+      + " WHERE job_posting_key = ? GROUP BY score";
+
+  private static final String PARTITION_BOUNDARIES_SQL = "SELECT id FROM ("
+      + "SELECT id, ROW_NUMBER() OVER (ORDER BY id) AS rn FROM applicant"
+      + " WHERE job_posting_key = ?) t WHERE MOD(rn, ?) = 0 ORDER BY id";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+  @Override
+  public void batchUpdateScores(Map<Long, ScoreBreakdown> scoreBreakdowns,
+      ToIntFunction<ScoreBreakdown> totalScore) {
+
+    if (scoreBreakdowns.isEmpty()) {
+      return;
+    }
+
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    jdbcTemplate.batchUpdate(UPDATE_SCORE_SQL, new ArrayList<>(scoreBreakdowns.entrySet()),
+        BATCH_SIZE, (ps, entry) -> {
+          ScoreBreakdown scoreBreakdown = entry.getValue();
+
+          ps.setInt(1, totalScore.applyAsInt(scoreBreakdown));
+          ps.setInt(2, scoreBreakdown.get(null));
+          ps.setInt(3, scoreBreakdown.get(PriorityType.EDUCATION));
+          ps.setInt(4, scoreBreakdown.get(PriorityType.CAREER));
+          ps.setInt(5, scoreBreakdown.get(PriorityType.TECH_STACK));
+          ps.setTimestamp(6, now);
+          ps.setTimestamp(7, now);
+          ps.setLong(8, entry.getKey());
+        });
+  }
+
+  @Override
+  public int updateScoresInDatabase(JobPostingEntity jobPostingEntity, int educationWeight,
+      int techStackWeight, int careerWeight) {
+
+    Integer career = jobPostingEntity.getCareer();
+
+    boolean educationRequired = jobPostingEntity.getEducation() != Education.NONE;
+    boolean careerRequired = career != null && career != -1;
+
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("jobPostingKey", jobPostingEntity.getJobPostingKey())
+        .addValue("educationRequired", educationRequired ? 1 : 0)
+        .addValue("education", jobPostingEntity.getEducation().ordinal())
+        .addValue("careerRequired", careerRequired ? 1 : 0)
+        .addValue("career", careerRequired ? career : 0)
+        .addValue("jobCategory", jobPostingEntity.getJobCategory().ordinal())
+        .addValue("educationWeight", educationWeight)
+        .addValue("techStackWeight", techStackWeight)
+        .addValue("careerWeight", careerWeight)
+        .addValue("now", now);
+
+    return namedParameterJdbcTemplate.update(UPDATE_SCORES_IN_DATABASE_SQL, params);
+  }
+
+  @Override
+  public int invalidateScores(String jobPostingKey, Set<PriorityType> changedComponents) {
+
+    StringBuilder sql = new StringBuilder("UPDATE applicant SET scored_at = NULL");
+
+    for (PriorityType priorityType : changedComponents) {
+      sql.append(", ").append(scoreColumn(priorityType)).append(" = NULL");
+    }
+    sql.append(", updated_at = ? WHERE job_posting_key = ?");
+
+    return jdbcTemplate.update(sql.toString(), Timestamp.valueOf(LocalDateTime.now()),
+        jobPostingKey);
+  }
+
+  // 가중치 유형별 항목 점수 컬럼
+  private static String scoreColumn(PriorityType priorityType) {
+
+    return switch (priorityType) {
+      case EDUCATION -> "education_score";
+      case CAREER -> "career_score";
+      case TECH_STACK -> "tech_stack_score";
+    };
+  }
+
+  @Override
+  public ScoreHistogram aggregateScoreHistogram(String jobPostingKey) {
+
+    ScoreHistogram scoreHistogram = ScoreHistogram.empty();
+
+    RowCallbackHandler addScoreCount = rs -> scoreHistogram.add(rs.getInt(1), rs.getLong(2));
+
+    jdbcTemplate.query(COUNT_SCORES_SQL, addScoreCount, jobPostingKey);
+
+    return scoreHistogram;
+  }
+
+  @Override
+  public List<Long> findPartitionBoundaries(String jobPostingKey, int partitionSize) {
+
+    return jdbcTemplate.queryForList(PARTITION_BOUNDARIES_SQL, Long.class, jobPostingKey,
+        partitionSize);
+  }
+}
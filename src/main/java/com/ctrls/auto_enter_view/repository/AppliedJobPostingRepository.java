@@ -2,6 +2,7 @@ package com.ctrls.auto_enter_view.repository;
 
 import com.ctrls.auto_enter_view.entity.AppliedJobPostingEntity;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -21,4 +22,9 @@ public interface AppliedJobPostingRepository extends JpaRepository<AppliedJobPos
   @Modifying
   @Query("UPDATE AppliedJobPostingEntity a SET a.endDate = :endDate WHERE a.jobPostingKey = :jobPostingKey")
   void updateEndDateByJobPostingKey(LocalDate endDate, String jobPostingKey);
+
+  @Modifying
+  @Query("UPDATE AppliedJobPostingEntity a SET a.stepName = :stepName WHERE a.jobPostingKey = :jobPostingKey AND a.candidateKey IN :candidateKeys")
+  int updateStepNameByJobPostingKeyAndCandidateKeyIn(String stepName, String jobPostingKey,
+      Collection<String> candidateKeys);
 }
\ No newline at end of file
@@ -7,7 +7,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface CandidateListRepository extends JpaRepository<CandidateListEntity, String> {
+public interface CandidateListRepository extends JpaRepository<CandidateListEntity, String>,
+    CandidateListRepositoryCustom {
 
   List<CandidateListEntity> findAllByJobPostingKeyAndJobPostingStepId(String jobPostingKey,
       Long jobPostingStepId);
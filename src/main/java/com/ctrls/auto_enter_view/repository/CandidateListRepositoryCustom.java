@@ -0,0 +1,14 @@
+package com.ctrls.auto_enter_view.repository;
+
+import com.ctrls.auto_enter_view.entity.CandidateListEntity;
+import java.util.List;
+
+public interface CandidateListRepositoryCustom {
+
+  /**
+   * 지원자 목록을 JDBC batch INSERT 로 한 번에 저장
+   *
+   * @param candidateListEntities 저장할 지원자 목록
+   */
+  void batchInsert(List<CandidateListEntity> candidateListEntities);
+}
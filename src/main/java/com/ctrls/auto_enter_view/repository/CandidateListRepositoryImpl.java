@@ -0,0 +1,42 @@
+package com.ctrls.auto_enter_view.repository;
+
+import com.ctrls.auto_enter_view.entity.CandidateListEntity;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class CandidateListRepositoryImpl implements CandidateListRepositoryCustom {
+
+  private static final int BATCH_SIZE = 500;
+
+  private static final String INSERT_CANDIDATE_LIST_SQL = "INSERT INTO candidate_list"
+      + " (candidate_list_key, job_posting_step_id, job_posting_key, candidate_key,"
+      + " candidate_name, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public void batchInsert(List<CandidateListEntity> candidateListEntities) {
+
+    if (candidateListEntities.isEmpty()) {
+      return;
+    }
+
+    // JPA 를 거치지 않으므로 생성, 수정 시간을 직접 저장
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    jdbcTemplate.batchUpdate(INSERT_CANDIDATE_LIST_SQL, candidateListEntities, BATCH_SIZE,
+        (ps, entity) -> {
+          ps.setString(1, entity.getCandidateListKey());
+          ps.setLong(2, entity.getJobPostingStepId());
+          ps.setString(3, entity.getJobPostingKey());
+          ps.setString(4, entity.getCandidateKey());
+          ps.setString(5, entity.getCandidateName());
+          ps.setTimestamp(6, now);
+          ps.setTimestamp(7, now);
+        });
+  }
+}
@@ -1,6 +1,8 @@
 package com.ctrls.auto_enter_view.repository;
 
 import com.ctrls.auto_enter_view.entity.CandidateEntity;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -19,4 +21,8 @@ public interface CandidateRepository extends JpaRepository<CandidateEntity, Stri
 
   @Query("SELECT c.name FROM CandidateEntity c WHERE c.candidateKey = :candidateKey")
   String findCandidateNameByCandidateKey(String candidateKey);
+
+  // 지원자 키, 이름
+  @Query("SELECT c.candidateKey, c.name FROM CandidateEntity c WHERE c.candidateKey IN :candidateKeys")
+  List<Object[]> findCandidateNamesByCandidateKeyIn(Collection<String> candidateKeys);
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package com.ctrls.auto_enter_view.repository;
 
 import com.ctrls.auto_enter_view.entity.CompanyEntity;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -15,4 +18,8 @@ public interface CompanyRepository extends JpaRepository<CompanyEntity, String>
   Optional<CompanyEntity> findByCompanyKey(String companyKey);
 
   boolean existsByCompanyNumber(String companyNumber);
+
+  // 회사 키, 회사 이름
+  @Query("SELECT c.companyKey, c.companyName FROM CompanyEntity c WHERE c.companyKey IN :companyKeys")
+  List<Object[]> findCompanyNamesByCompanyKeyIn(Collection<String> companyKeys);
 }
\ No newline at end of file
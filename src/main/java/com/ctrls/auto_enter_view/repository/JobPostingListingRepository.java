@@ -0,0 +1,44 @@
+package com.ctrls.auto_enter_view.repository;
+
+import com.ctrls.auto_enter_view.entity.JobPostingListingEntity;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface JobPostingListingRepository extends
+    JpaRepository<JobPostingListingEntity, String> {
+
+  Page<JobPostingListingEntity> findAllByEndDateGreaterThanEqual(LocalDate currentDate,
+      Pageable pageable);
+
+  // (마감일, 채용 공고 키) 순서로 커서 다음의 채용 공고 limit 개 조회, OFFSET 없이 인덱스 순서대로 읽음
+  @Query("SELECT l FROM JobPostingListingEntity l "
+      + "WHERE l.endDate >= :currentDate "
+      + "AND (l.endDate > :lastEndDate "
+      + "OR (l.endDate = :lastEndDate AND l.jobPostingKey > :lastJobPostingKey)) "
+      + "ORDER BY l.endDate, l.jobPostingKey")
+  List<JobPostingListingEntity> findAllAfterCursor(LocalDate currentDate, LocalDate lastEndDate,
+      String lastJobPostingKey, Limit limit);
+
+  long countByEndDateGreaterThanEqual(LocalDate currentDate);
+
+  // 탈퇴한 회사의 채용 공고를 목록에서 제거
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM JobPostingListingEntity l WHERE l.companyKey = :companyKey")
+  int deleteAllByCompanyKey(String companyKey);
+
+  // 마감일이 지나 목록에 나오지 않는 채용 공고 제거
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM JobPostingListingEntity l WHERE l.endDate < :currentDate")
+  int deleteAllByEndDateBefore(LocalDate currentDate);
+}
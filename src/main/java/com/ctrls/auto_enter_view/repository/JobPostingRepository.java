@@ -1,14 +1,17 @@
 package com.ctrls.auto_enter_view.repository;
 
 import com.ctrls.auto_enter_view.entity.JobPostingEntity;
+import com.ctrls.auto_enter_view.enums.JobPostingStatus;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface JobPostingRepository extends JpaRepository<JobPostingEntity, String> {
@@ -19,14 +22,41 @@ public interface JobPostingRepository extends JpaRepository<JobPostingEntity, St
 
   void deleteByJobPostingKey(String jobPostingKey);
 
-  boolean existsByJobPostingKeyAndEndDateGreaterThanEqual(String jobPostingKey,
-      LocalDate currentDate);
-
-  @Query("SELECT j FROM JobPostingEntity j "
-      + "LEFT JOIN CompanyEntity c "
-      + "ON j.companyKey = c.companyKey "
-      + "WHERE c.companyKey IS NOT NULL "
-      + "AND j.endDate >= :currentDate")
-  Page<JobPostingEntity> findByEndDateGreaterThanEqual(LocalDate currentDate, Pageable pageable);
-
+  boolean existsByJobPostingKeyAndStatusAndEndDateGreaterThanEqual(String jobPostingKey,
+      JobPostingStatus status, LocalDate currentDate);
+
+  // 현재 상태가 fromStatus 인 경우에만 toStatus 로 변경, 다른 스레드나 서버가 먼저 변경했다면 0 반환
+  @Transactional
+  @Modifying
+  @Query("UPDATE JobPostingEntity j SET j.status = :toStatus "
+      + "WHERE j.jobPostingKey = :jobPostingKey AND j.status = :fromStatus")
+  int updateStatus(String jobPostingKey, JobPostingStatus fromStatus, JobPostingStatus toStatus);
+
+  // 마감일이 지난 지원 가능 채용 공고를 한 번에 마감 상태로 변경
+  @Transactional
+  @Modifying
+  @Query("UPDATE JobPostingEntity j SET j.status = com.ctrls.auto_enter_view.enums.JobPostingStatus.CLOSED "
+      + "WHERE j.status = com.ctrls.auto_enter_view.enums.JobPostingStatus.OPEN "
+      + "AND j.endDate < :currentDate")
+  int closeExpiredJobPostings(LocalDate currentDate);
+
+  long countByStatusIn(Collection<JobPostingStatus> statuses);
+
+  // 상태가 statuses 중 하나인 채용 공고 키를 키 순서로 limit 개 조회
+  @Query("SELECT j.jobPostingKey FROM JobPostingEntity j "
+      + "WHERE j.status IN :statuses "
+      + "AND j.jobPostingKey > :lastJobPostingKey "
+      + "ORDER BY j.jobPostingKey")
+  List<String> findAllJobPostingKeysByStatusIn(Collection<JobPostingStatus> statuses,
+      String lastJobPostingKey, Limit limit);
+
+  // 상태가 statuses 중 하나이고 마감 처리 실패 횟수가 maxFailureCount 미만인 채용 공고 키를 키 순서로 limit 개 조회
+  @Query("SELECT j.jobPostingKey FROM JobPostingEntity j "
+      + "WHERE j.status IN :statuses "
+      + "AND j.jobPostingKey > :lastJobPostingKey "
+      + "AND NOT EXISTS (SELECT 1 FROM ScoringProgressEntity p "
+      + "WHERE p.jobPostingKey = j.jobPostingKey AND p.failureCount >= :maxFailureCount) "
+      + "ORDER BY j.jobPostingKey")
+  List<String> findAllRetryableJobPostingKeysByStatusIn(Collection<JobPostingStatus> statuses,
+      int maxFailureCount, String lastJobPostingKey, Limit limit);
 }
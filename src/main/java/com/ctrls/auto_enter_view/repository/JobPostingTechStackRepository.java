@@ -1,6 +1,7 @@
 package com.ctrls.auto_enter_view.repository;
 
 import com.ctrls.auto_enter_view.entity.JobPostingTechStackEntity;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
@@ -11,6 +12,8 @@ public interface JobPostingTechStackRepository extends
 
   List<JobPostingTechStackEntity> findAllByJobPostingKey(String jobPostingKey);
 
+  List<JobPostingTechStackEntity> findAllByJobPostingKeyIn(Collection<String> jobPostingKeys);
+
   void deleteByJobPostingKey(String jobPostingKey);
 
   List<JobPostingTechStackEntity> findTechStacksByJobPostingKey(String jobPostingKey);
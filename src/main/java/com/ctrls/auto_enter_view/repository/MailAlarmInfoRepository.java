@@ -1,12 +1,36 @@
 package com.ctrls.auto_enter_view.repository;
 
 import com.ctrls.auto_enter_view.entity.MailAlarmInfoEntity;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface MailAlarmInfoRepository extends JpaRepository<MailAlarmInfoEntity, Long> {
 
   Optional<MailAlarmInfoEntity> findByInterviewScheduleKey(String interviewScheduleKey);
+
+  List<MailAlarmInfoEntity> findAllByMailSendDateTimeAfter(LocalDateTime dateTime);
+
+  // 발송 시간이 from 이후 to 이전인데 아직 발송하지 않은 예약 메일, 발송 시간이 빠른 순서
+  List<MailAlarmInfoEntity> findAllByMailSentAtIsNullAndMailSendDateTimeBetweenOrderByMailSendDateTimeAsc(
+      LocalDateTime from, LocalDateTime to);
+
+  // 아직 발송하지 않은 경우에만 발송 시작 시간 기록, 다른 노드가 먼저 발송했다면 0 반환
+  @Transactional
+  @Modifying
+  @Query("UPDATE MailAlarmInfoEntity m SET m.mailSentAt = :sentAt "
+      + "WHERE m.id = :id AND m.mailSentAt IS NULL")
+  int markSent(Long id, LocalDateTime sentAt);
+
+  // 발송에 실패한 예약 메일을 다시 발송할 수 있도록 발송 시작 시간 삭제
+  @Transactional
+  @Modifying
+  @Query("UPDATE MailAlarmInfoEntity m SET m.mailSentAt = NULL WHERE m.id = :id")
+  int clearSent(Long id);
 }
\ No newline at end of file
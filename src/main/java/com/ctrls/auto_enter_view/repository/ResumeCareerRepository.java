@@ -1,6 +1,7 @@
 package com.ctrls.auto_enter_view.repository;
 
 import com.ctrls.auto_enter_view.entity.ResumeCareerEntity;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -12,6 +13,8 @@ public interface ResumeCareerRepository extends JpaRepository<ResumeCareerEntity
 
   List<ResumeCareerEntity> findAllByResumeKey(String resumeKey);
 
+  List<ResumeCareerEntity> findAllByResumeKeyIn(Collection<String> resumeKeys);
+
   @Modifying
   @Query("DELETE FROM ResumeCareerEntity r WHERE r.resumeKey = :resumeKey")
   void deleteAllByResumeKey(String resumeKey);
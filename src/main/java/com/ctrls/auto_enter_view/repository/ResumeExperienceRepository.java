@@ -1,6 +1,7 @@
 package com.ctrls.auto_enter_view.repository;
 
 import com.ctrls.auto_enter_view.entity.ResumeExperienceEntity;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -17,4 +18,7 @@ public interface ResumeExperienceRepository extends JpaRepository<ResumeExperien
   void deleteAllByResumeKey(String resumeKey);
 
   int countAllByResumeKey(String resumeKey);
+
+  @Query("SELECT r.resumeKey, COUNT(r) FROM ResumeExperienceEntity r WHERE r.resumeKey IN :resumeKeys GROUP BY r.resumeKey")
+  List<Object[]> countAllByResumeKeyIn(Collection<String> resumeKeys);
 }
\ No newline at end of file
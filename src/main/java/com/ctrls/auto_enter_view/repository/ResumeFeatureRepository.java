@@ -0,0 +1,19 @@
+package com.ctrls.auto_enter_view.repository;
+
+import com.ctrls.auto_enter_view.entity.ResumeFeatureEntity;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ResumeFeatureRepository extends JpaRepository<ResumeFeatureEntity, String> {
+
+  List<ResumeFeatureEntity> findAllByCandidateKeyIn(Collection<String> candidateKeys);
+
+  @Modifying
+  @Query("DELETE FROM ResumeFeatureEntity r WHERE r.candidateKey = :candidateKey")
+  void deleteByCandidateKey(String candidateKey);
+}
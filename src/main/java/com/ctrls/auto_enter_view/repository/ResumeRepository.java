@@ -1,6 +1,8 @@
 package com.ctrls.auto_enter_view.repository;
 
 import com.ctrls.auto_enter_view.entity.ResumeEntity;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -12,6 +14,8 @@ public interface ResumeRepository extends JpaRepository<ResumeEntity, Long> {
 
   Optional<ResumeEntity> findByCandidateKey(String candidateKey);
 
+  List<ResumeEntity> findAllByCandidateKeyIn(Collection<String> candidateKeys);
+
   boolean existsByCandidateKey(String candidateKey);
 
   @Modifying
@@ -1,6 +1,7 @@
 package com.ctrls.auto_enter_view.repository;
 
 import com.ctrls.auto_enter_view.entity.ResumeTechStackEntity;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -12,6 +13,8 @@ public interface ResumeTechStackRepository extends JpaRepository<ResumeTechStack
 
   List<ResumeTechStackEntity> findAllByResumeKey(String resumeKey);
 
+  List<ResumeTechStackEntity> findAllByResumeKeyIn(Collection<String> resumeKeys);
+
   @Modifying
   @Query("DELETE FROM ResumeTechStackEntity r WHERE r.resumeKey = :resumeKey")
   void deleteAllByResumeKey(String resumeKey);
@@ -0,0 +1,11 @@
+package com.ctrls.auto_enter_view.repository;
+
+import com.ctrls.auto_enter_view.entity.ScoreDistributionEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ScoreDistributionRepository extends
+    JpaRepository<ScoreDistributionEntity, String> {
+
+}
@@ -0,0 +1,27 @@
+package com.ctrls.auto_enter_view.repository;
+
+import com.ctrls.auto_enter_view.entity.ScoringPartitionEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface ScoringPartitionRepository extends JpaRepository<ScoringPartitionEntity, Long> {
+
+  boolean existsByJobPostingKey(String jobPostingKey);
+
+  long countByJobPostingKeyAndCompletedFalse(String jobPostingKey);
+
+  // 아직 완료되지 않은 경우에만 완료 처리, 다른 작업자가 먼저 완료했다면 0 반환
+  @Transactional
+  @Modifying
+  @Query("UPDATE ScoringPartitionEntity p SET p.completed = true, p.scoredCount = :scoredCount "
+      + "WHERE p.id = :id AND p.completed = false")
+  int complete(Long id, int scoredCount);
+
+  @Modifying
+  @Query("DELETE FROM ScoringPartitionEntity p WHERE p.jobPostingKey = :jobPostingKey")
+  int deleteAllByJobPostingKey(String jobPostingKey);
+}
@@ -0,0 +1,10 @@
+package com.ctrls.auto_enter_view.repository;
+
+import com.ctrls.auto_enter_view.entity.ScoringProgressEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ScoringProgressRepository extends JpaRepository<ScoringProgressEntity, String> {
+
+}
@@ -0,0 +1,70 @@
+package com.ctrls.auto_enter_view.service;
+
+import com.ctrls.auto_enter_view.component.ClosingPipelineExecutor;
+import com.ctrls.auto_enter_view.component.ClosingPipelineExecutor.Result;
+import com.ctrls.auto_enter_view.enums.JobPostingStatus;
+import com.ctrls.auto_enter_view.repository.JobPostingRepository;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ClosingSweepService {
+
+  // 채점이나 필터링이 끝나지 않은 상태
+  public static final Set<JobPostingStatus> PENDING_STATUSES = EnumSet.of(
+      JobPostingStatus.CLOSED, JobPostingStatus.SCORED);
+
+  @Value("${closing-sweep.batch-size:100}")
+  private int batchSize;
+
+  @Value("${closing-sweep.max-failure-count:5}")
+  private int maxFailureCount;
+
+  private final ClosingPipelineExecutor closingPipelineExecutor;
+  private final JobPostingRepository jobPostingRepository;
+
+  /**
+   * 마감일이 지난 채용 공고를 마감 상태로 바꾸고, 필터링까지 끝나지 않은 채용 공고를 batchSize 개씩 채점한 뒤 바로 필터링
+   * <p>
+   * 각 단계는 채용 공고 상태가 이전 단계의 상태인 경우에만 다음 상태로 변경하므로, 중간에 중단되어도 다시 실행하면 남은 단계만 처리한다.
+   * 채점이나 필터링에 실패한 채용 공고는 상태가 그대로 남아 다음 실행에서 다시 처리되고, maxFailureCount 번 실패하면 더 이상
+   * 처리하지 않는다.
+   *
+   * @return 필터링까지 완료된 채용 공고 수
+   */
+  public int sweep() {
+
+    int closedCount = jobPostingRepository.closeExpiredJobPostings(LocalDate.now());
+    log.info("마감된 채용 공고 {}건", closedCount);
+
+    String lastJobPostingKey = "";
+    int filteredCount = 0;
+    List<String> jobPostingKeys;
+
+    do {
+      jobPostingKeys = jobPostingRepository.findAllRetryableJobPostingKeysByStatusIn(
+          PENDING_STATUSES, maxFailureCount, lastJobPostingKey, Limit.of(batchSize));
+
+      if (jobPostingKeys.isEmpty()) {
+        break;
+      }
+      lastJobPostingKey = jobPostingKeys.get(jobPostingKeys.size() - 1);
+
+      filteredCount += (int) closingPipelineExecutor.runAll(jobPostingKeys).stream()
+          .filter(Result::isFiltered)
+          .count();
+    } while (jobPostingKeys.size() == batchSize);
+
+    log.info("마감 처리 완료 - 필터링 {}건", filteredCount);
+    return filteredCount;
+  }
+}
@@ -8,6 +8,8 @@ import static com.ctrls.auto_enter_view.enums.ErrorCode.USER_NOT_FOUND;
 import static com.ctrls.auto_enter_view.enums.ResponseMessage.USABLE_EMAIL;
 import static com.ctrls.auto_enter_view.enums.UserRole.ROLE_CANDIDATE;
 
+import com.ctrls.auto_enter_view.component.CacheGeneration;
+import com.ctrls.auto_enter_view.component.JobPostingListingUpdater;
 import com.ctrls.auto_enter_view.component.MailComponent;
 import com.ctrls.auto_enter_view.dto.common.ChangePasswordDto.Request;
 import com.ctrls.auto_enter_view.dto.common.SignInDto;
@@ -15,9 +17,11 @@ import com.ctrls.auto_enter_view.entity.CandidateEntity;
 import com.ctrls.auto_enter_view.entity.CompanyEntity;
 import com.ctrls.auto_enter_view.enums.ErrorCode;
 import com.ctrls.auto_enter_view.exception.CustomException;
+import com.ctrls.auto_enter_view.repository.ApplicantRepository;
 import com.ctrls.auto_enter_view.repository.CandidateRepository;
 import com.ctrls.auto_enter_view.repository.CompanyInfoRepository;
 import com.ctrls.auto_enter_view.repository.CompanyRepository;
+import com.ctrls.auto_enter_view.repository.ResumeFeatureRepository;
 import com.ctrls.auto_enter_view.repository.ResumeRepository;
 import com.ctrls.auto_enter_view.util.RandomGenerator;
 import java.util.Collection;
@@ -38,14 +42,18 @@ import org.springframework.transaction.annotation.Transactional;
 
 public class CommonUserService {
 
+  private final ApplicantRepository applicantRepository;
   private final BlacklistTokenService blacklistTokenService;
   private final CompanyRepository companyRepository;
   private final CompanyInfoRepository companyInfoRepository;
   private final CandidateRepository candidateRepository;
+  private final ResumeFeatureRepository resumeFeatureRepository;
   private final ResumeRepository resumeRepository;
   private final MailComponent mailComponent;
   private final PasswordEncoder passwordEncoder;
   private final RedisTemplate<String, String> redisStringTemplate;
+  private final JobPostingListingUpdater jobPostingListingUpdater;
+  private final CacheGeneration cacheGeneration;
 
   /**
    * 이메일 중복 확인
@@ -322,6 +330,9 @@ public class CommonUserService {
         }
 
         log.info("이력서 삭제");
+        resumeFeatureRepository.deleteByCandidateKey(candidateEntity.getCandidateKey());
+        // 탈퇴한 지원자가 지원 시점 점수로 상위 지원자에 포함되지 않도록 점수를 되돌림
+        applicantRepository.resetOpenScoresByCandidateKey(candidateEntity.getCandidateKey());
         resumeRepository.deleteByCandidateKey(candidateEntity.getCandidateKey());
 
         log.info("지원자 삭제");
@@ -342,6 +353,10 @@ public class CommonUserService {
 
         log.info("회사 삭제");
         companyRepository.delete(companyEntity);
+
+        log.info("탈퇴한 회사의 채용 공고를 Main 화면 목록에서 제거");
+        jobPostingListingUpdater.deleteAllByCompanyKey(companyEntity.getCompanyKey());
+        cacheGeneration.invalidate(JobPostingService.MAIN_JOB_POSTINGS_CACHE);
       }
     }
   }
@@ -1,28 +1,38 @@
 package com.ctrls.auto_enter_view.service;
 
 import static com.ctrls.auto_enter_view.enums.ErrorCode.COMPANY_NOT_FOUND;
+import static com.ctrls.auto_enter_view.enums.ErrorCode.INVALID_CURSOR;
+import static com.ctrls.auto_enter_view.enums.ErrorCode.JOB_POSTING_CLOSED;
 import static com.ctrls.auto_enter_view.enums.ErrorCode.JOB_POSTING_HAS_CANDIDATES;
 import static com.ctrls.auto_enter_view.enums.ErrorCode.JOB_POSTING_NOT_FOUND;
 import static com.ctrls.auto_enter_view.enums.ErrorCode.JOB_POSTING_STEP_NOT_FOUND;
 import static com.ctrls.auto_enter_view.enums.ErrorCode.NO_AUTHORITY;
+import static com.ctrls.auto_enter_view.enums.ErrorCode.SCORE_DISTRIBUTION_NOT_FOUND;
 import static com.ctrls.auto_enter_view.enums.ErrorCode.USER_NOT_FOUND;
 
+import com.ctrls.auto_enter_view.component.CacheGeneration;
+import com.ctrls.auto_enter_view.component.JobPostingListingUpdater;
 import com.ctrls.auto_enter_view.component.KeyGenerator;
 import com.ctrls.auto_enter_view.component.MailComponent;
+import com.ctrls.auto_enter_view.component.TwoTierCache;
 import com.ctrls.auto_enter_view.dto.common.JobPostingDetailDto;
 import com.ctrls.auto_enter_view.dto.common.MainJobPostingDto;
 import com.ctrls.auto_enter_view.dto.common.MainJobPostingDto.JobPostingMainInfo;
 import com.ctrls.auto_enter_view.dto.jobPosting.JobPostingDto.Request;
 import com.ctrls.auto_enter_view.dto.jobPosting.JobPostingInfoDto;
+import com.ctrls.auto_enter_view.dto.jobPosting.ScoreDistributionDto;
 import com.ctrls.auto_enter_view.entity.ApplicantEntity;
 import com.ctrls.auto_enter_view.entity.AppliedJobPostingEntity;
 import com.ctrls.auto_enter_view.entity.CandidateListEntity;
 import com.ctrls.auto_enter_view.entity.CompanyEntity;
 import com.ctrls.auto_enter_view.entity.JobPostingEntity;
 import com.ctrls.auto_enter_view.entity.JobPostingImageEntity;
+import com.ctrls.auto_enter_view.entity.JobPostingListingEntity;
 import com.ctrls.auto_enter_view.entity.JobPostingStepEntity;
 import com.ctrls.auto_enter_view.entity.JobPostingTechStackEntity;
 import com.ctrls.auto_enter_view.enums.ErrorCode;
+import com.ctrls.auto_enter_view.enums.JobPostingStatus;
+import com.ctrls.auto_enter_view.enums.PriorityType;
 import com.ctrls.auto_enter_view.enums.TechStack;
 import com.ctrls.auto_enter_view.exception.CustomException;
 import com.ctrls.auto_enter_view.repository.ApplicantRepository;
@@ -31,23 +41,30 @@ import com.ctrls.auto_enter_view.repository.CandidateListRepository;
 import com.ctrls.auto_enter_view.repository.CandidateRepository;
 import com.ctrls.auto_enter_view.repository.CompanyRepository;
 import com.ctrls.auto_enter_view.repository.JobPostingImageRepository;
+import com.ctrls.auto_enter_view.repository.JobPostingListingRepository;
 import com.ctrls.auto_enter_view.repository.JobPostingRepository;
 import com.ctrls.auto_enter_view.repository.JobPostingStepRepository;
 import com.ctrls.auto_enter_view.repository.JobPostingTechStackRepository;
+import com.ctrls.auto_enter_view.repository.ScoreDistributionRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -57,6 +74,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class JobPostingService {
 
+  // Main 화면 채용 공고 캐시 네임스페이스
+  public static final String MAIN_JOB_POSTINGS_CACHE = "mainJobPostings";
+
+  private static final Duration MAIN_JOB_POSTINGS_CACHE_TTL = Duration.ofMinutes(30);
+
+  private static final String CURSOR_SEPARATOR = "|";
+
   private final JobPostingRepository jobPostingRepository;
   private final ApplicantRepository applicantRepository;
   private final CompanyRepository companyRepository;
@@ -66,10 +90,14 @@ public class JobPostingService {
   private final JobPostingStepRepository jobPostingStepRepository;
   private final AppliedJobPostingRepository appliedJobPostingRepository;
   private final JobPostingImageRepository jobPostingImageRepository;
-  private final FilteringService filteringService;
+  private final ScoreDistributionRepository scoreDistributionRepository;
+  private final ScoringService scoringService;
   private final MailComponent mailComponent;
   private final KeyGenerator keyGenerator;
-  private final RedisTemplate<String, Object> redisObjectTemplate;
+  private final JobPostingListingRepository jobPostingListingRepository;
+  private final JobPostingListingUpdater jobPostingListingUpdater;
+  private final CacheGeneration cacheGeneration;
+  private final TwoTierCache twoTierCache;
 
   /**
    * 채용 공고 생성하기
@@ -98,19 +126,12 @@ public class JobPostingService {
 
     JobPostingEntity entity = Request.toEntity(key, companyKey, request);
 
-    // 스케줄링 코드
-    filteringService.scheduleResumeScoringJob(entity.getJobPostingKey(), entity.getEndDate());
-
     JobPostingEntity jobPostingEntity = jobPostingRepository.save(entity);
+    jobPostingListingUpdater.refresh(jobPostingEntity);
 
-    // 캐시 무효화 로직 추가
-    String cacheKeyPattern = "mainJobPostings:*";
-    Set<String> cacheKeys = redisObjectTemplate.keys(cacheKeyPattern);
-
-    if (cacheKeys != null && !cacheKeys.isEmpty()) {
-      redisObjectTemplate.delete(cacheKeys);
-      log.info("채용 공고 생성으로 인해 캐시 무효화");
-    }
+    // 캐시 무효화
+    cacheGeneration.invalidate(MAIN_JOB_POSTINGS_CACHE);
+    log.info("채용 공고 생성으로 인해 캐시 무효화");
 
     return jobPostingEntity;
 
@@ -125,6 +146,7 @@ public class JobPostingService {
    * @throws CustomException JOB_POSTING_NOT_FOUND 채용공고 없음
    * @throws CustomException COMPANY_NOT_FOUND 회사 계정 없음
    * @throws CustomException NO_AUTHORITY 권한 없음
+   * @throws CustomException JOB_POSTING_CLOSED 마감 처리가 시작된 채용공고
    */
   @Transactional
   public void editJobPosting(UserDetails userDetails, String jobPostingKey, Request request) {
@@ -144,18 +166,34 @@ public class JobPostingService {
       throw new CustomException(NO_AUTHORITY);
     }
 
-    // 이전에 스케줄된 작업 취소
-    filteringService.unscheduleResumeScoringJob(jobPostingKey);
+    // 마감 처리가 시작되면 채점과 필터링 결과가 바뀌지 않도록 수정할 수 없음
+    if (jobPostingEntity.getStatus() != JobPostingStatus.OPEN) {
+      throw new CustomException(JOB_POSTING_CLOSED);
+    }
 
     // 마감날짜 변경하는 지 확인
     boolean willChangeEndDate = !jobPostingEntity.getEndDate().isEqual(request.getEndDate());
 
+    // 채점 조건(직무, 경력, 학력)이 바뀐 항목 확인, 우선순위만 바뀌면 가중치만 다시 적용
+    Set<PriorityType> changedComponents = EnumSet.noneOf(PriorityType.class);
+
+    if (jobPostingEntity.getEducation() != request.getEducation()) {
+      changedComponents.add(PriorityType.EDUCATION);
+    }
+
+    if (jobPostingEntity.getJobCategory() != request.getJobCategory()
+        || !Objects.equals(jobPostingEntity.getCareer(), request.getCareer())) {
+      changedComponents.add(PriorityType.CAREER);
+    }
+
+    // 우선순위를 입력하지 않은 경우와 DB 에 우선순위가 없는 경우 모두 빈 목록으로 비교
+    boolean willChangeScores = !changedComponents.isEmpty()
+        || !JobPostingEntity.normalizePriority(jobPostingEntity.getPriority())
+        .equals(JobPostingEntity.normalizePriority(request.getPriority()));
+
     // 채용 공고 수정
     jobPostingEntity.updateEntity(request);
 
-    // 새로운 스케줄 설정
-    filteringService.scheduleResumeScoringJob(jobPostingKey, request.getEndDate());
-
     // 지원자 목록을 순회하며 이메일 보내기
     notifyCandidates(candidateListEntityList, jobPostingEntity);
 
@@ -165,17 +203,17 @@ public class JobPostingService {
           jobPostingEntity.getEndDate(), jobPostingKey);
     }
 
-    // 수정된 채용 공고가 속한 페이지의 캐시 키 패턴 생성
-    String cacheKeyPattern = "mainJobPostings:*";
+    // 수정 요청 안에서 다시 채점하지 않고 무효화만 하며, 마감 후 채점에서 바뀐 항목만 다시 계산
+    if (willChangeScores) {
+      log.info("채점 조건 변경으로 지원자 점수 무효화");
+      scoringService.invalidateScores(jobPostingKey, changedComponents);
+    }
 
-    // 해당 패턴에 매칭되는 모든 캐시 키 가져오기
-    Set<String> cacheKeys = redisObjectTemplate.keys(cacheKeyPattern);
+    jobPostingListingUpdater.refresh(jobPostingEntity);
 
-    if (cacheKeys != null && !cacheKeys.isEmpty()) {
-      // 매칭되는 캐시 키가 있으면 해당 캐시 삭제
-      redisObjectTemplate.delete(cacheKeys);
-      log.info("채용 공고 수정으로 인해 캐시 무효화");
-    }
+    // 캐시 무효화
+    cacheGeneration.invalidate(MAIN_JOB_POSTINGS_CACHE);
+    log.info("채용 공고 수정으로 인해 캐시 무효화");
   }
 
   /**
@@ -207,15 +245,11 @@ public class JobPostingService {
     }
 
     jobPostingRepository.deleteByJobPostingKey(jobPostingKey);
+    jobPostingListingUpdater.delete(jobPostingKey);
 
-    // 캐시 무효화 로직 추가
-    String cacheKeyPattern = "mainJobPostings:*";
-    Set<String> cacheKeys = redisObjectTemplate.keys(cacheKeyPattern);
-
-    if (cacheKeys != null && !cacheKeys.isEmpty()) {
-      redisObjectTemplate.delete(cacheKeys);
-      log.info("채용 공고 삭제로 인해 캐시 무효화");
-    }
+    // 캐시 무효화
+    cacheGeneration.invalidate(MAIN_JOB_POSTINGS_CACHE);
+    log.info("채용 공고 삭제로 인해 캐시 무효화");
   }
 
   /**
@@ -241,6 +275,32 @@ public class JobPostingService {
         .collect(Collectors.toList());
   }
 
+  /**
+   * 채용 공고 지원자 점수 분포 조회 : 마감 후 채점에서 저장된 히스토그램으로 백분위와 합격 인원 기준 점수를 추정
+   *
+   * @param userDetails   사용자 정보
+   * @param jobPostingKey 채용공고 KEY
+   * @return 점수 분포
+   * @throws CustomException JOB_POSTING_NOT_FOUND 채용공고 없음
+   * @throws CustomException USER_NOT_FOUND 회사 계정 없음
+   * @throws CustomException NO_AUTHORITY 권한 없음
+   * @throws CustomException SCORE_DISTRIBUTION_NOT_FOUND 채점 전
+   */
+  @Transactional(readOnly = true)
+  public ScoreDistributionDto.Response getScoreDistribution(UserDetails userDetails,
+      String jobPostingKey) {
+    log.info("채용 공고 지원자 점수 분포 조회");
+
+    JobPostingEntity jobPostingEntity = jobPostingRepository.findByJobPostingKey(jobPostingKey)
+        .orElseThrow(() -> new CustomException(JOB_POSTING_NOT_FOUND));
+
+    verifyCompanyOwnership(findCompanyByPrincipal(userDetails), jobPostingEntity.getCompanyKey());
+
+    return scoreDistributionRepository.findById(jobPostingKey)
+        .map(e -> ScoreDistributionDto.Response.from(e, jobPostingEntity.getPassingNumber()))
+        .orElseThrow(() -> new CustomException(SCORE_DISTRIBUTION_NOT_FOUND));
+  }
+
   /**
    * Main 화면 채용 공고 조회
    *
@@ -251,18 +311,20 @@ public class JobPostingService {
   // TODO : 회사가 탈퇴했을 때, 발생하는 문제점 해결하기 - 탈퇴한 회사 이름을 가져오지 못해 에러 발생 상황이 있었음
   @Transactional(readOnly = true)
   public MainJobPostingDto.Response getAllJobPosting(int page, int size) {
-    String cacheKey = "mainJobPostings:" + page + "-" + size;
 
-    // Redis : 캐시된 데이터 확인
-    MainJobPostingDto.Response cachedResponse = (MainJobPostingDto.Response) redisObjectTemplate.opsForValue().get(cacheKey);
-    if (cachedResponse != null) {
-      log.info("Redis에서 캐시된 데이터 조회");
-      return cachedResponse;
-    }
+    // 로컬 캐시 -> Redis 순서로 확인하고, 없으면 조회한 데이터를 캐싱
+    return twoTierCache.get(MAIN_JOB_POSTINGS_CACHE, page + "-" + size,
+        MainJobPostingDto.Response.class, MAIN_JOB_POSTINGS_CACHE_TTL,
+        () -> loadAllJobPosting(page, size));
+  }
+
+  // Main 화면 채용 공고 목록 읽기 모델 조회, 조인 없이 마감일 인덱스 범위만 읽음
+  private MainJobPostingDto.Response loadAllJobPosting(int page, int size) {
 
-    Pageable pageable = PageRequest.of(page - 1, size, Sort.by("endDate").ascending());
+    Pageable pageable = PageRequest.of(page - 1, size,
+        Sort.by("endDate").ascending().and(Sort.by("jobPostingKey")));
     LocalDate currentDate = LocalDate.now();
-    Page<JobPostingEntity> jobPostingPage = jobPostingRepository.findByEndDateGreaterThanEqual(
+    Page<JobPostingListingEntity> jobPostingPage = jobPostingListingRepository.findAllByEndDateGreaterThanEqual(
         currentDate, pageable);
 
     int totalPages = jobPostingPage.getTotalPages();
@@ -270,7 +332,7 @@ public class JobPostingService {
 
     List<MainJobPostingDto.JobPostingMainInfo> jobPostingMainInfoList = jobPostingPage.getContent()
         .stream()
-        .map(this::createJobPostingMainInfo)
+        .map(JobPostingMainInfo::from)
         .collect(Collectors.toList());
 
     MainJobPostingDto.Response response = MainJobPostingDto.Response.builder()
@@ -279,14 +341,108 @@ public class JobPostingService {
         .totalElements(totalElements)
         .build();
 
-    // 조회한 데이터를 Redis 캐싱
-    redisObjectTemplate.opsForValue().set(cacheKey, response, 30, TimeUnit.MINUTES);
-
     log.info("총 {}개의 채용 공고 조회 완료", totalElements);
 
     return response;
   }
 
+  /**
+   * Main 화면 채용 공고 커서 기반 조회 : (마감일, 채용 공고 키) 순서로 커서 다음 페이지를 조회하여 뒤 페이지도 첫 페이지와 같은 비용으로 조회
+   *
+   * @param cursor    이전 응답의 nextCursor, 첫 페이지는 null
+   * @param size      페이지에 담길 개수
+   * @param withTotal 전체 채용 공고 수 포함 여부, 전체 수는 따로 캐싱
+   * @return 채용공고 목록과 다음 페이지 커서
+   * @throws CustomException INVALID_CURSOR 잘못된 커서
+   */
+  @Transactional(readOnly = true)
+  public MainJobPostingDto.CursorResponse getAllJobPostingByCursor(String cursor, int size,
+      boolean withTotal) {
+
+    LocalDate currentDate = LocalDate.now();
+    // 첫 페이지는 오늘 마감일의 첫 채용 공고부터
+    LocalDate lastEndDate = currentDate;
+    String lastJobPostingKey = "";
+
+    if (cursor != null) {
+      String decoded = decodeCursor(cursor);
+      int separator = decoded.indexOf(CURSOR_SEPARATOR);
+      lastEndDate = LocalDate.parse(decoded.substring(0, separator));
+      lastJobPostingKey = decoded.substring(separator + 1);
+    }
+
+    LocalDate cursorEndDate = lastEndDate;
+    String cursorJobPostingKey = lastJobPostingKey;
+
+    MainJobPostingDto.CursorResponse response = twoTierCache.get(MAIN_JOB_POSTINGS_CACHE,
+        "cursor-" + size + "-" + (cursor == null ? "" : cursor),
+        MainJobPostingDto.CursorResponse.class, MAIN_JOB_POSTINGS_CACHE_TTL,
+        () -> loadJobPostingsByCursor(currentDate, cursorEndDate, cursorJobPostingKey, size));
+
+    if (!withTotal) {
+      return response;
+    }
+
+    Long totalElements = twoTierCache.get(MAIN_JOB_POSTINGS_CACHE, "count", Long.class,
+        MAIN_JOB_POSTINGS_CACHE_TTL,
+        () -> jobPostingListingRepository.countByEndDateGreaterThanEqual(currentDate));
+
+    return response.toBuilder()
+        .totalElements(totalElements)
+        .build();
+  }
+
+  // 커서 다음의 채용 공고를 size + 1 개 조회하여 다음 페이지가 있는지 확인
+  private MainJobPostingDto.CursorResponse loadJobPostingsByCursor(LocalDate currentDate,
+      LocalDate lastEndDate, String lastJobPostingKey, int size) {
+
+    List<JobPostingListingEntity> listingEntities = jobPostingListingRepository.findAllAfterCursor(
+        currentDate, lastEndDate, lastJobPostingKey, Limit.of(size + 1));
+
+    boolean hasNext = listingEntities.size() > size;
+    List<JobPostingListingEntity> pageEntities = hasNext ? listingEntities.subList(0, size)
+        : listingEntities;
+
+    String nextCursor = null;
+    if (hasNext) {
+      JobPostingListingEntity last = pageEntities.get(pageEntities.size() - 1);
+      nextCursor = encodeCursor(last.getEndDate() + CURSOR_SEPARATOR + last.getJobPostingKey());
+    }
+
+    log.info("커서 다음 {}개의 채용 공고 조회 완료", pageEntities.size());
+
+    return MainJobPostingDto.CursorResponse.builder()
+        .jobPostingsList(pageEntities.stream()
+            .map(JobPostingMainInfo::from)
+            .collect(Collectors.toList()))
+        .nextCursor(nextCursor)
+        .build();
+  }
+
+  // 커서 : "마감일|채용 공고 키" 를 Base64 URL 인코딩, 클라이언트는 값을 해석하지 않고 그대로 다시 전달
+  private static String encodeCursor(String value) {
+
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String decodeCursor(String cursor) {
+
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = decoded.indexOf(CURSOR_SEPARATOR);
+
+      if (separator < 0) {
+        throw new CustomException(INVALID_CURSOR);
+      }
+      LocalDate.parse(decoded.substring(0, separator));
+
+      return decoded;
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new CustomException(INVALID_CURSOR);
+    }
+  }
+
   /**
    * 채용 공고 상세 보기
    *
@@ -305,8 +461,8 @@ public class JobPostingService {
         .orElseThrow(() -> new CustomException(JOB_POSTING_NOT_FOUND));
 
     // 마감일 지났는지 체크
-    if (!jobPostingRepository.existsByJobPostingKeyAndEndDateGreaterThanEqual(jobPostingKey,
-        currentDate)) {
+    if (!jobPostingRepository.existsByJobPostingKeyAndStatusAndEndDateGreaterThanEqual(
+        jobPostingKey, JobPostingStatus.OPEN, currentDate)) {
       throw new CustomException(ErrorCode.JOB_POSTING_EXPIRED);
     }
 
@@ -323,6 +479,7 @@ public class JobPostingService {
    * @param jobPostingKey 채용공고 KEY
    * @param candidateKey  지원자 KEY
    * @throws CustomException JOB_POSTING_NOT_FOUND 채용공고 없음
+   * @throws CustomException JOB_POSTING_EXPIRED 마감 처리가 시작된 채용공고
    * @throws CustomException ALREADY_APPLIED 이미 지원한 채용공고
    */
   @Transactional
@@ -331,6 +488,11 @@ public class JobPostingService {
         .orElseThrow(() -> new CustomException(
             JOB_POSTING_NOT_FOUND));
 
+    // 마감 처리가 시작된 채용 공고에 지원하면 채점 대상에서 빠지므로 지원 불가
+    if (jobPostingEntity.getStatus() != JobPostingStatus.OPEN) {
+      throw new CustomException(ErrorCode.JOB_POSTING_EXPIRED);
+    }
+
     // 채용 지원 중복 체크
     boolean isApplied = applicantRepository.existsByCandidateKeyAndJobPostingKey(candidateKey,
         jobPostingKey);
@@ -347,6 +509,9 @@ public class JobPostingService {
 
     applicantRepository.save(applicantEntity);
 
+    // 지원 시점에 임시 점수 계산
+    scoringService.scoreApplicant(jobPostingEntity, applicantEntity);
+
     log.info("지원 완료 - jobPostingKey: {}, candidateKey: {}", jobPostingKey, candidateKey);
 
     // 지원한 공고 목록 추가하기
@@ -429,36 +594,6 @@ public class JobPostingService {
         jobPostingKey, firstStep);
   }
 
-  /**
-   * 전체 체용 공고 List 들어갈 정보
-   *
-   * @param entity 채용공고 ENTITY
-   * @return 채용공고 정보 DTO
-   */
-  private JobPostingMainInfo createJobPostingMainInfo(JobPostingEntity entity) {
-
-    String companyName = getCompanyName(entity.getCompanyKey());
-    List<TechStack> techStack = getTechStack(entity.getJobPostingKey());
-
-    return JobPostingMainInfo.from(entity, companyName, techStack);
-  }
-
-  /**
-   * 회사 이름 가져오기
-   *
-   * @param companyKey 회사 KEY
-   * @return 회사 이름 STRING, 회사를 찾지 못한 경우 대체 문자열 반환
-   */
-  private String getCompanyName(String companyKey) {
-
-    return companyRepository.findByCompanyKey(companyKey)
-        .map(CompanyEntity::getCompanyName)
-        .orElseGet(() -> {
-          log.warn("탈퇴한 회사 KEY: {}", companyKey);
-          return "탈퇴한 회사";
-        });
-  }
-
   /**
    * 채용 공고 key -> 기술 스택 조회
    *
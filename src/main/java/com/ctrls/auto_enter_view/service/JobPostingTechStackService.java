@@ -1,16 +1,22 @@
 package com.ctrls.auto_enter_view.service;
 
+import com.ctrls.auto_enter_view.component.CacheGeneration;
+import com.ctrls.auto_enter_view.component.JobPostingListingUpdater;
 import com.ctrls.auto_enter_view.dto.jobPosting.JobPostingDto;
 import com.ctrls.auto_enter_view.dto.jobPosting.JobPostingDto.Request;
 import com.ctrls.auto_enter_view.entity.JobPostingEntity;
 import com.ctrls.auto_enter_view.entity.JobPostingTechStackEntity;
+import com.ctrls.auto_enter_view.enums.PriorityType;
 import com.ctrls.auto_enter_view.enums.TechStack;
 import com.ctrls.auto_enter_view.repository.JobPostingTechStackRepository;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -18,6 +24,9 @@ import org.springframework.stereotype.Service;
 public class JobPostingTechStackService {
 
   private final JobPostingTechStackRepository jobPostingTechStackRepository;
+  private final ScoringService scoringService;
+  private final JobPostingListingUpdater jobPostingListingUpdater;
+  private final CacheGeneration cacheGeneration;
 
   /**
    * 채용 단계 생성
@@ -35,6 +44,10 @@ public class JobPostingTechStackService {
         .collect(Collectors.toList());
 
     jobPostingTechStackRepository.saveAll(entities);
+
+    // 목록 읽기 모델에 기술 스택 반영
+    jobPostingListingUpdater.refresh(jobPostingEntity);
+    cacheGeneration.invalidate(JobPostingService.MAIN_JOB_POSTINGS_CACHE);
   }
 
   /**
@@ -43,6 +56,7 @@ public class JobPostingTechStackService {
    * @param jobPostingKey 채용공고 KEY
    * @param request       채용공고 수정 DTO
    */
+  @Transactional
   public void editJobPostingTechStack(String jobPostingKey, JobPostingDto.Request request) {
     log.info("채용 공고 수정하기 - 기술 스택 삭제 후 새로 저장");
     List<JobPostingTechStackEntity> entities = jobPostingTechStackRepository.findAllByJobPostingKey(
@@ -52,11 +66,25 @@ public class JobPostingTechStackService {
 
     List<TechStack> techStack = request.getTechStack();
 
+    Set<TechStack> beforeTechStack = entities.stream()
+        .map(JobPostingTechStackEntity::getTechName)
+        .collect(Collectors.toSet());
+
     List<JobPostingTechStackEntity> techStackEntities = techStack.stream()
         .map(e -> Request.toTechStackEntity(jobPostingKey, e))
         .toList();
 
     jobPostingTechStackRepository.saveAll(techStackEntities);
+
+    // 기술 스택이 바뀐 경우 지원자의 기술 스택 점수만 무효화, 마감 후 채점에서 다시 계산
+    if (!beforeTechStack.equals(Set.copyOf(techStack))) {
+      log.info("기술 스택 변경으로 지원자 점수 무효화");
+      scoringService.invalidateScores(jobPostingKey, EnumSet.of(PriorityType.TECH_STACK));
+    }
+
+    // 목록 읽기 모델에 기술 스택 반영
+    jobPostingListingUpdater.refresh(jobPostingKey);
+    cacheGeneration.invalidate(JobPostingService.MAIN_JOB_POSTINGS_CACHE);
   }
 
   // 채용 공고 삭제하기
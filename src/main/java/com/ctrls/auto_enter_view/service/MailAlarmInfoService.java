@@ -23,6 +23,7 @@ import com.ctrls.auto_enter_view.exception.CustomException;
 import com.ctrls.auto_enter_view.repository.CandidateListRepository;
 import com.ctrls.auto_enter_view.repository.CandidateRepository;
 import com.ctrls.auto_enter_view.repository.CompanyRepository;
+import com.ctrls.auto_enter_view.repository.InterviewScheduleParticipantsRepository;
 import com.ctrls.auto_enter_view.repository.InterviewScheduleRepository;
 import com.ctrls.auto_enter_view.repository.JobPostingRepository;
 import com.ctrls.auto_enter_view.repository.JobPostingStepRepository;
@@ -34,16 +35,24 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.JobBuilder;
 import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.ObjectAlreadyExistsException;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.quartz.SimpleScheduleBuilder;
 import org.quartz.Trigger;
 import org.quartz.TriggerBuilder;
 import org.quartz.TriggerKey;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -56,12 +65,13 @@ public class MailAlarmInfoService {
   private final MailAlarmInfoRepository mailAlarmInfoRepository;
   private final CompanyRepository companyRepository;
   private final InterviewScheduleRepository interviewScheduleRepository;
+  private final InterviewScheduleParticipantsRepository interviewScheduleParticipantsRepository;
   private final JobPostingRepository jobPostingRepository;
   private final JobPostingStepRepository jobPostingStepRepository;
   private final CandidateRepository candidateRepository;
   private final CandidateListRepository candidateListRepository;
   private final MailComponent mailComponent;
-  private final Scheduler scheduler;
+  private final Scheduler mailScheduler;
 
   /**
    * 메일 예약 생성
@@ -199,13 +209,49 @@ public class MailAlarmInfoService {
     try {
       TriggerKey triggerKey = TriggerKey.triggerKey("mailTrigger" + mailAlarmInfo.getId(),
           "mailGroup");
-      scheduler.unscheduleJob(triggerKey);
+      mailScheduler.unscheduleJob(triggerKey);
     } catch (SchedulerException e) {
       log.error("Error unscheduling mail job", e);
       throw new CustomException(FAILED_MAIL_UNSCHEDULING);
     }
   }
 
+  /**
+   * 애플리케이션 시작 시 발송 시간이 지나지 않았는데 Quartz 작업이 없는 예약 메일을 다시 스케줄링
+   * <p>
+   * 작업이 DB 에 저장되기 전에 등록된 예약 메일이나 등록 도중 실패한 예약 메일을 복구한다. 여러 노드가 동시에 시작해도 먼저 등록한 노드의
+   * 작업을 그대로 사용한다. 발송 시간이 지난 예약 메일은 이미 발송되었는지 알 수 없으므로 다시 등록하지 않는다.
+   *
+   * @return 다시 스케줄링한 예약 메일 수
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public int rescheduleMissingMailJobs() {
+    log.info("누락된 예약 메일 스케줄링 복구");
+
+    List<MailAlarmInfoEntity> mailAlarmInfoEntities = mailAlarmInfoRepository.findAllByMailSendDateTimeAfter(
+        LocalDateTime.now());
+    int rescheduledCount = 0;
+
+    for (MailAlarmInfoEntity mailAlarmInfo : mailAlarmInfoEntities) {
+      try {
+        if (mailScheduler.checkExists(
+            JobKey.jobKey("mailJob" + mailAlarmInfo.getId(), "mailGroup"))) {
+          continue;
+        }
+
+        scheduleMailJob(mailAlarmInfo);
+        rescheduledCount++;
+      } catch (ObjectAlreadyExistsException e) {
+        log.info("다른 노드에서 이미 복구한 예약 메일 - mailId: {}", mailAlarmInfo.getId());
+      } catch (SchedulerException e) {
+        log.error("예약 메일 스케줄링 복구 실패 - mailId: {}", mailAlarmInfo.getId(), e);
+      }
+    }
+
+    log.info("예약 메일 {}건 중 {}건 스케줄링 복구", mailAlarmInfoEntities.size(), rescheduledCount);
+    return rescheduledCount;
+  }
+
   // 예약 메일 스케쥴링
   private void scheduleMailJob(MailAlarmInfoEntity mailAlarmInfo) throws SchedulerException {
     log.info("예약 메일 스케줄링");
@@ -219,10 +265,66 @@ public class MailAlarmInfoService {
         .withIdentity("mailTrigger" + mailAlarmInfo.getId(), "mailGroup")
         .startAt(Date.from(
             mailAlarmInfo.getMailSendDateTime().atZone(ZoneId.systemDefault()).toInstant()))
-        .withSchedule(SimpleScheduleBuilder.simpleSchedule())
+        // 서버가 내려가 있는 동안 지난 예약 메일을 재시작 시 한꺼번에 발송하지 않도록 실행하지 않고 종료,
+        // 지난 예약 메일은 CatchUpCoordinator 가 발송 속도를 제한하여 다시 발송
+        .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+            .withMisfireHandlingInstructionNextWithRemainingCount())
         .build();
 
-    scheduler.scheduleJob(jobDetail, trigger);
+    mailScheduler.scheduleJob(jobDetail, trigger);
+  }
+
+  /**
+   * 예약 메일 발송, 예약 시간이 된 Quartz 작업과 지난 예약 메일 재발송에서 사용
+   * <p>
+   * 발송 전에 발송 시작 시간을 먼저 기록하므로 여러 노드에서 같은 예약 메일을 중복 발송하지 않는다. 아무에게도 발송하지 못하고 실패한 경우에만
+   * 기록을 지워 다시 발송할 수 있게 한다. 지원자 한 명의 발송 실패와 한 명에게라도 발송한 뒤의 실패는 이미 받은 지원자에게 중복 발송하지
+   * 않도록 기록만 남긴다.
+   *
+   * @param mailId 예약 메일 ID
+   * @return 발송했다면 true, 이미 발송된 예약 메일이라면 false
+   * @throws CustomException MAIL_ALARM_INFO_NOT_FOUND 메일 예약이 없음
+   */
+  public boolean sendMailAlarm(Long mailId) {
+
+    MailAlarmInfoEntity mailAlarmInfoEntity = mailAlarmInfoRepository.findById(mailId)
+        .orElseThrow(() -> new CustomException(MAIL_ALARM_INFO_NOT_FOUND));
+
+    if (mailAlarmInfoRepository.markSent(mailId, LocalDateTime.now()) == 0) {
+      log.info("이미 발송된 예약 메일 - mailId: {}", mailId);
+      return false;
+    }
+
+    try {
+      Optional<InterviewScheduleEntity> interviewScheduleEntity = interviewScheduleRepository.findByInterviewScheduleKey(
+          mailAlarmInfoEntity.getInterviewScheduleKey());
+
+      boolean isTask = interviewScheduleEntity.isPresent()
+          && interviewScheduleEntity.get().getFirstInterviewDate() == null;
+      boolean isInterview = interviewScheduleEntity.isPresent()
+          && interviewScheduleEntity.get().getFirstInterviewDate() != null;
+
+      if (isTask) {
+        // 과제일 경우
+        List<CandidateListEntity> participants = candidateListRepository.findAllByJobPostingKeyAndJobPostingStepId(
+            mailAlarmInfoEntity.getJobPostingKey(), mailAlarmInfoEntity.getJobPostingStepId());
+
+        sendTaskMailToCandidates(participants, mailAlarmInfoEntity);
+      }
+
+      if (isInterview) {
+        // 면접일 경우
+        List<InterviewScheduleParticipantsEntity> participants = interviewScheduleParticipantsRepository.findAllByInterviewScheduleKey(
+            mailAlarmInfoEntity.getInterviewScheduleKey());
+
+        sendInterviewMailToCandidates(participants, mailAlarmInfoEntity);
+      }
+    } catch (RuntimeException e) {
+      mailAlarmInfoRepository.clearSent(mailId);
+      throw e;
+    }
+
+    return true;
   }
 
   /**
@@ -230,12 +332,12 @@ public class MailAlarmInfoService {
    *
    * @param participants        일정 참가자 리스트
    * @param mailAlarmInfoEntity 메일 예약 정보 ENTITY
+   * @return 발송한 메일 수, 발송에 실패한 지원자는 제외
    * @throws CustomException JOB_POSTING_NOT_FOUND 채용 공고 없음
    * @throws CustomException JOB_POSTING_STEP_NOT_FOUND 채용 단계 없음
-   * @throws CustomException USER_NOT_FOUND 사용자 없음
+   * @throws MailException 아무에게도 발송하기 전에 메일 서버에 연결하지 못함
    */
-  @Transactional
-  public void sendInterviewMailToCandidates(List<InterviewScheduleParticipantsEntity> participants,
+  public int sendInterviewMailToCandidates(List<InterviewScheduleParticipantsEntity> participants,
       MailAlarmInfoEntity mailAlarmInfoEntity) {
     log.info("예약된 시간이 되어 지원자들에게 메일 발송 - 면접");
 
@@ -247,28 +349,40 @@ public class MailAlarmInfoService {
             mailAlarmInfoEntity.getJobPostingStepId())
         .orElseThrow(() -> new CustomException(JOB_POSTING_STEP_NOT_FOUND));
 
+    int sentCount = 0;
+
     for (InterviewScheduleParticipantsEntity participant : participants) {
-      // 후보자의 이메일 주소 조회
-      String to = candidateRepository.findByCandidateKey(participant.getCandidateKey())
-          .orElseThrow(() -> new CustomException(USER_NOT_FOUND)).getEmail();
-
-      Duration duration = Duration.between(participant.getInterviewStartDatetime(),
-          participant.getInterviewEndDatetime());
-      long minutes = duration.toMinutes();
-
-      // 메일 제목 및 내용 설정
-      String subject =
-          "면접 일정 알림 : " + jobPostingEntity.getTitle() + " - " + jobPostingStep.getStep();
-      String text = "지원해주신 " + jobPostingEntity.getTitle() + "의 " + jobPostingStep.getStep()
-          + " 면접 일정 안내드립니다.<br><br>" + "<strong>면접 일시 : "
-          + participant.getInterviewStartDatetime()
-          .format(DateTimeFormatter.ofPattern("yyyy-MM-dd EEEE HH:mm")) + "</strong><br><br>"
-          + "면접 시간 : " + minutes + "분<br><br>"
-          + mailAlarmInfoEntity.getMailContent();
-
-      // HTML 형식으로 메일 발송
-      mailComponent.sendHtmlMail(to, subject, text, true);
+      try {
+        // 후보자의 이메일 주소 조회
+        String to = candidateRepository.findByCandidateKey(participant.getCandidateKey())
+            .orElseThrow(() -> new CustomException(USER_NOT_FOUND)).getEmail();
+
+        Duration duration = Duration.between(participant.getInterviewStartDatetime(),
+            participant.getInterviewEndDatetime());
+        long minutes = duration.toMinutes();
+
+        // 메일 제목 및 내용 설정
+        String subject =
+            "면접 일정 알림 : " + jobPostingEntity.getTitle() + " - " + jobPostingStep.getStep();
+        String text = "지원해주신 " + jobPostingEntity.getTitle() + "의 " + jobPostingStep.getStep()
+            + " 면접 일정 안내드립니다.<br><br>" + "<strong>면접 일시 : "
+            + participant.getInterviewStartDatetime()
+            .format(DateTimeFormatter.ofPattern("yyyy-MM-dd EEEE HH:mm")) + "</strong><br><br>"
+            + "면접 시간 : " + minutes + "분<br><br>"
+            + mailAlarmInfoEntity.getMailContent();
+
+        // HTML 형식으로 메일 발송
+        mailComponent.sendHtmlMail(to, subject, text, true);
+        sentCount++;
+      } catch (RuntimeException e) {
+        if (handleRecipientFailure(sentCount, mailAlarmInfoEntity, participant.getCandidateKey(),
+            e)) {
+          break;
+        }
+      }
     }
+
+    return sentCount;
   }
 
   /**
@@ -276,13 +390,13 @@ public class MailAlarmInfoService {
    *
    * @param participants        일정 참가자 리스트
    * @param mailAlarmInfoEntity 메일 예약 정보 ENTITY
+   * @return 발송한 메일 수, 발송에 실패한 지원자는 제외
    * @throws CustomException JOB_POSTING_NOT_FOUND 채용 공고 없음
    * @throws CustomException JOB_POSTING_STEP_NOT_FOUND 채용 단계 없음
    * @throws CustomException INTERVIEW_SCHEDULE_NOT_FOUND 면접 일정 없음
-   * @throws CustomException USER_NOT_FOUND 사용자 없음
+   * @throws MailException 아무에게도 발송하기 전에 메일 서버에 연결하지 못함
    */
-  @Transactional
-  public void sendTaskMailToCandidates(List<CandidateListEntity> participants,
+  public int sendTaskMailToCandidates(List<CandidateListEntity> participants,
       MailAlarmInfoEntity mailAlarmInfoEntity) {
     log.info("예약된 시간이 되어 지원자들에게 메일 발송 - 과제");
 
@@ -298,26 +412,66 @@ public class MailAlarmInfoService {
             mailAlarmInfoEntity.getInterviewScheduleKey())
         .orElseThrow(() -> new CustomException(INTERVIEW_SCHEDULE_NOT_FOUND));
 
+    int sentCount = 0;
+
     for (CandidateListEntity participant : participants) {
-      // 후보자의 이메일 주소 조회
-      String to = candidateRepository.findByCandidateKey(participant.getCandidateKey())
-          .orElseThrow(() -> new CustomException(USER_NOT_FOUND)).getEmail();
-
-      LocalDateTime taskLastDateTime = LocalDateTime.of(
-          interviewScheduleEntity.getLastInterviewDate(), LocalTime.of(23, 59, 59));
-
-      // 메일 제목 및 내용 설정
-      String subject =
-          "과제 일정 알림 : " + jobPostingEntity.getTitle() + " - " + jobPostingStep.getStep();
-      String text = "지원해주신 " + jobPostingEntity.getTitle() + "의 " + jobPostingStep.getStep()
-          + " 과제 일정 안내드립니다.<br><br>" + "<strong>과제 마감 일시 : "
-          + taskLastDateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd EEEE HH:mm"))
-          + "</strong><br><br>"
-          + mailAlarmInfoEntity.getMailContent();
-
-      // HTML 형식으로 메일 발송
-      mailComponent.sendHtmlMail(to, subject, text, true);
+      try {
+        // 후보자의 이메일 주소 조회
+        String to = candidateRepository.findByCandidateKey(participant.getCandidateKey())
+            .orElseThrow(() -> new CustomException(USER_NOT_FOUND)).getEmail();
+
+        LocalDateTime taskLastDateTime = LocalDateTime.of(
+            interviewScheduleEntity.getLastInterviewDate(), LocalTime.of(23, 59, 59));
+
+        // 메일 제목 및 내용 설정
+        String subject =
+            "과제 일정 알림 : " + jobPostingEntity.getTitle() + " - " + jobPostingStep.getStep();
+        String text = "지원해주신 " + jobPostingEntity.getTitle() + "의 " + jobPostingStep.getStep()
+            + " 과제 일정 안내드립니다.<br><br>" + "<strong>과제 마감 일시 : "
+            + taskLastDateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd EEEE HH:mm"))
+            + "</strong><br><br>"
+            + mailAlarmInfoEntity.getMailContent();
+
+        // HTML 형식으로 메일 발송
+        mailComponent.sendHtmlMail(to, subject, text, true);
+        sentCount++;
+      } catch (RuntimeException e) {
+        if (handleRecipientFailure(sentCount, mailAlarmInfoEntity, participant.getCandidateKey(),
+            e)) {
+          break;
+        }
+      }
+    }
+
+    return sentCount;
+  }
+
+  // 지원자 한 명의 실패(탈퇴, 잘못된 주소 등)는 기록만 하고 나머지 지원자에게 계속 발송
+  // 메일 서버 연결, 인증 실패는 나머지 지원자도 모두 실패하므로 발송을 중단, 아직 아무에게도 발송하지 않았다면 예약 메일 전체를 다시
+  // 발송할 수 있도록 예외를 던지고, 이미 발송한 지원자가 있다면 다시 발송하면 중복 메일이 되므로 기록만 남김
+  private boolean handleRecipientFailure(int sentCount, MailAlarmInfoEntity mailAlarmInfoEntity,
+      String candidateKey, RuntimeException e) {
+
+    if (!isTransportFailure(e)) {
+      log.error("예약 메일 발송 실패 - mailId: {}, candidateKey: {}", mailAlarmInfoEntity.getId(),
+          candidateKey, e);
+      return false;
+    }
+
+    if (sentCount == 0) {
+      throw e;
     }
+    log.error("메일 서버 오류로 예약 메일 발송 중단 - mailId: {}, 발송 {}건", mailAlarmInfoEntity.getId(),
+        sentCount, e);
+    return true;
+  }
+
+  // 특정 메일이 아닌 메일 서버 연결이나 인증에 실패한 경우, 메일별 실패는 실패한 메일 목록이 함께 전달됨
+  private static boolean isTransportFailure(RuntimeException e) {
+
+    return e instanceof MailAuthenticationException
+        || (e instanceof MailSendException mailSendException
+        && mailSendException.getFailedMessages().isEmpty());
   }
 
   /**
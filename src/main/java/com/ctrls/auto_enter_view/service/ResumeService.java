@@ -11,9 +11,11 @@ import com.ctrls.auto_enter_view.entity.ResumeCareerEntity;
 import com.ctrls.auto_enter_view.entity.ResumeCertificateEntity;
 import com.ctrls.auto_enter_view.entity.ResumeEntity;
 import com.ctrls.auto_enter_view.entity.ResumeExperienceEntity;
+import com.ctrls.auto_enter_view.entity.ResumeFeatureEntity;
 import com.ctrls.auto_enter_view.entity.ResumeImageEntity;
 import com.ctrls.auto_enter_view.entity.ResumeTechStackEntity;
 import com.ctrls.auto_enter_view.enums.ErrorCode;
+import com.ctrls.auto_enter_view.enums.TechStack;
 import com.ctrls.auto_enter_view.enums.UserRole;
 import com.ctrls.auto_enter_view.exception.CustomException;
 import com.ctrls.auto_enter_view.repository.ApplicantRepository;
@@ -23,6 +25,7 @@ import com.ctrls.auto_enter_view.repository.JobPostingRepository;
 import com.ctrls.auto_enter_view.repository.ResumeCareerRepository;
 import com.ctrls.auto_enter_view.repository.ResumeCertificateRepository;
 import com.ctrls.auto_enter_view.repository.ResumeExperienceRepository;
+import com.ctrls.auto_enter_view.repository.ResumeFeatureRepository;
 import com.ctrls.auto_enter_view.repository.ResumeImageRepository;
 import com.ctrls.auto_enter_view.repository.ResumeRepository;
 import com.ctrls.auto_enter_view.repository.ResumeTechStackRepository;
@@ -48,9 +51,11 @@ public class ResumeService {
   private final ResumeCareerRepository resumeCareerRepository;
   private final ResumeCertificateRepository resumeCertificateRepository;
   private final ResumeExperienceRepository resumeExperienceRepository;
+  private final ResumeFeatureRepository resumeFeatureRepository;
   private final ResumeImageRepository resumeImageRepository;
   private final ResumeRepository resumeRepository;
   private final ResumeTechStackRepository resumeTechStackRepository;
+  private final ScoringService scoringService;
   private final KeyGenerator keyGenerator;
 
   /**
@@ -87,7 +92,7 @@ public class ResumeService {
     ResumeEntity resumeEntity = request.toEntity(resumeKey, candidateKey);
 
     // 경험, 경력, 기술스택, 증명사진, 자격 저장
-    saveElse(resumeKey, request);
+    saveElse(resumeEntity, request);
 
     resumeRepository.save(resumeEntity);
 
@@ -196,7 +201,10 @@ public class ResumeService {
 
     resumeEntity.updateEntity(request);
 
-    updateElse(resumeEntity.getResumeKey(), request);
+    updateElse(resumeEntity, request);
+
+    // 마감되지 않은 지원 건의 점수 다시 계산
+    scoringService.rescoreCandidate(candidateKey);
 
     return resumeEntity.getResumeKey();
   }
@@ -227,19 +235,30 @@ public class ResumeService {
 
     deleteElse(resumeKey);
 
+    resumeFeatureRepository.deleteByCandidateKey(candidateKey);
+
+    // 지원 시점에 계산된 점수는 이력서가 없는 지원자와 같은 0점으로 되돌림
+    applicantRepository.resetOpenScoresByCandidateKey(candidateKey);
+
     resumeRepository.deleteByCandidateKey(candidateKey);
   }
 
   // 이력서 추가 정보를 저장하는 메서드
-  private void saveElse(String resumeKey, Request request) {
+  private void saveElse(ResumeEntity resumeEntity, Request request) {
     log.info("경험, 경력, 기술스택, 증명사진, 자격 저장");
+    String resumeKey = resumeEntity.getResumeKey();
+
+    List<ResumeCareerEntity> careerList = List.of();
+    List<TechStack> techStackList = List.of();
+    int experienceCount = 0;
+    int certificateCount = 0;
 
     // 경력 저장
     if (request.getCareer() != null) {
-      List<ResumeCareerEntity> list = request.getCareer().stream()
+      careerList = request.getCareer().stream()
           .map(career -> career.toEntity(resumeKey))
           .collect(Collectors.toList());
-      resumeCareerRepository.saveAll(list);
+      resumeCareerRepository.saveAll(careerList);
     }
 
     // 경험 저장
@@ -248,11 +267,13 @@ public class ResumeService {
           .map(experience -> experience.toEntity(resumeKey))
           .collect(Collectors.toList());
       resumeExperienceRepository.saveAll(list);
+      experienceCount = list.size();
     }
 
     // 기술스택 저장
     if (request.getTechStack() != null) {
-      List<ResumeTechStackEntity> list = request.getTechStack().stream()
+      techStackList = request.getTechStack();
+      List<ResumeTechStackEntity> list = techStackList.stream()
           .map(techStack -> techStack.toEntity(resumeKey))
           .collect(Collectors.toList());
       resumeTechStackRepository.saveAll(list);
@@ -264,14 +285,20 @@ public class ResumeService {
           .map(certificate -> certificate.toEntity(resumeKey))
           .collect(Collectors.toList());
       resumeCertificateRepository.saveAll(list);
+      certificateCount = list.size();
     }
+
+    // 채점용 이력서 정보 저장
+    resumeFeatureRepository.save(
+        ResumeFeatureEntity.of(resumeEntity, techStackList, certificateCount, experienceCount,
+            careerList));
   }
 
   // 이력서 추가 정보를 수정하는 메서드
-  private void updateElse(String resumeKey, Request request) {
+  private void updateElse(ResumeEntity resumeEntity, Request request) {
     log.info("이력서 추가 정보 수정");
-    deleteElse(resumeKey);
-    saveElse(resumeKey, request);
+    deleteElse(resumeEntity.getResumeKey());
+    saveElse(resumeEntity, request);
   }
 
   // 이력서 추가 정보를 삭제하는 메서드
@@ -1,13 +1,23 @@
 package com.ctrls.auto_enter_view.service;
 
+import com.ctrls.auto_enter_view.component.ScoringPartitionQueue;
+import com.ctrls.auto_enter_view.component.scoring.ScoringPlan;
+import com.ctrls.auto_enter_view.component.scoring.ScoringPlanCompiler;
 import com.ctrls.auto_enter_view.entity.ApplicantEntity;
 import com.ctrls.auto_enter_view.entity.JobPostingEntity;
 import com.ctrls.auto_enter_view.entity.JobPostingTechStackEntity;
+import com.ctrls.auto_enter_view.entity.ResumeCareerEntity;
 import com.ctrls.auto_enter_view.entity.ResumeEntity;
+import com.ctrls.auto_enter_view.entity.ResumeFeatureEntity;
 import com.ctrls.auto_enter_view.entity.ResumeTechStackEntity;
-import com.ctrls.auto_enter_view.enums.Education;
+import com.ctrls.auto_enter_view.entity.ScoreBreakdown;
+import com.ctrls.auto_enter_view.entity.ScoreDistributionEntity;
+import com.ctrls.auto_enter_view.entity.ScoreHistogram;
+import com.ctrls.auto_enter_view.entity.ScoringPartitionEntity;
+import com.ctrls.auto_enter_view.entity.ScoringProgressEntity;
 import com.ctrls.auto_enter_view.enums.ErrorCode;
-import com.ctrls.auto_enter_view.enums.JobCategory;
+import com.ctrls.auto_enter_view.enums.PriorityType;
+import com.ctrls.auto_enter_view.enums.ScoringMode;
 import com.ctrls.auto_enter_view.enums.TechStack;
 import com.ctrls.auto_enter_view.exception.CustomException;
 import com.ctrls.auto_enter_view.repository.ApplicantRepository;
@@ -16,39 +26,89 @@ import com.ctrls.auto_enter_view.repository.JobPostingTechStackRepository;
 import com.ctrls.auto_enter_view.repository.ResumeCareerRepository;
 import com.ctrls.auto_enter_view.repository.ResumeCertificateRepository;
 import com.ctrls.auto_enter_view.repository.ResumeExperienceRepository;
+import com.ctrls.auto_enter_view.repository.ResumeFeatureRepository;
 import com.ctrls.auto_enter_view.repository.ResumeRepository;
 import com.ctrls.auto_enter_view.repository.ResumeTechStackRepository;
-import java.util.EnumSet;
+import com.ctrls.auto_enter_view.repository.ScoreDistributionRepository;
+import com.ctrls.auto_enter_view.repository.ScoringPartitionRepository;
+import com.ctrls.auto_enter_view.repository.ScoringProgressRepository;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ScoringService {
 
+  @Value("${scoring.chunk-size:1000}")
+  private int chunkSize;
+
+  @Value("${scoring.mode:JAVA}")
+  private ScoringMode scoringMode;
+
+  // 지원자가 min-applicants 명 이상인 채용 공고는 size 명씩 나누어 여러 노드의 ScoringPartitionWorker 가 채점
+  @Value("${scoring.partition.enabled:false}")
+  private boolean partitionEnabled;
+
+  @Value("${scoring.partition.min-applicants:50000}")
+  private long partitionMinApplicants;
+
+  @Value("${scoring.partition.size:10000}")
+  private int partitionSize;
+
+  @Value("${scoring.partition.progress-interval-millis:5000}")
+  private long partitionProgressIntervalMillis;
+
+  // 한 번의 마감 처리에서 분산 채점을 기다리는 최대 시간, 남은 파티션은 다음 마감 처리에서 다시 확인
+  @Value("${scoring.partition.timeout-millis:60000}")
+  private long partitionTimeoutMillis;
+
   private final ApplicantRepository applicantRepository;
   private final JobPostingRepository jobPostingRepository;
   private final JobPostingTechStackRepository jobPostingTechStackRepository;
   private final ResumeCareerRepository resumeCareerRepository;
   private final ResumeCertificateRepository resumeCertificateRepository;
   private final ResumeExperienceRepository resumeExperienceRepository;
+  private final ResumeFeatureRepository resumeFeatureRepository;
   private final ResumeRepository resumeRepository;
   private final ResumeTechStackRepository resumeTechStackRepository;
+  private final ScoreDistributionRepository scoreDistributionRepository;
+  private final ScoringPartitionQueue scoringPartitionQueue;
+  private final ScoringPartitionRepository scoringPartitionRepository;
+  private final ScoringProgressRepository scoringProgressRepository;
+  private final ScoringPlanCompiler scoringPlanCompiler;
+  private final TransactionTemplate transactionTemplate;
 
   /**
-   * 채용 공고 마감시간 후 스케줄러에 의해 지원자들의 이력서를 기반으로 점수 채점하는 서비스
+   * 채용 공고 마감시간 후 스케줄러에 의해 지원자들의 점수를 검증하고 확정하는 서비스
+   * <p>
+   * 점수는 지원 시점과 이력서 수정 시점에 미리 계산되므로, 마감 후에는 점수가 없거나 채용 공고 수정으로 무효화된 지원자만 다시 계산한다.
+   * 지원자를 ID 기준 keyset 페이징으로 chunkSize 명씩 읽어 청크마다 별도의 트랜잭션으로 채점하고 커밋한다. 커밋된 마지막 지원자 ID 는
+   * scoring_progress 에 기록되어, 채점 도중 서버가 종료되어도 다음 실행 시 마지막으로 커밋된 청크 이후부터 이어서 채점한다.
+   * 청크마다 점수 히스토그램을 만들어 score_distribution 에 합치므로 채점이 끝나면 전체 지원자의 점수 분포가 남는다.
+   * <p>
+   * scoring.mode=SQL 인 경우 지원자를 읽지 않고 하나의 UPDATE 문으로 DB 에서 점수를 계산한다. scoring.partition.enabled=true 이고
+   * 지원자가 많은 채용 공고는 지원자 ID 범위로 나누어 여러 노드에서 채점한다. 모든 범위의 채점이 끝날 때까지 기다리지 않고 false 를
+   * 반환하므로, 다음 마감 처리에서 다시 호출하면 남은 범위가 있는지 확인하고 모두 끝났다면 채점을 완료한다.
    *
    * @param jobPostingKey 채용공고 키
+   * @return 채점이 완료되었다면 true, 분산 채점 중인 범위가 남아 있다면 false
    * @throws CustomException ErrorCode.JOB_POSTING_NOT_FOUND 채용 공고가 존재하지 않을 경우
    */
-  @Transactional
-  public void scoreApplicants(String jobPostingKey) {
+  public boolean scoreApplicants(String jobPostingKey) {
 
     log.info("ScoringService : start scoreApplicants");
 
@@ -57,163 +117,486 @@ public class ScoringService {
         .orElseThrow(() -> new CustomException(
             ErrorCode.JOB_POSTING_NOT_FOUND));
 
-    // 우선순위 배수 지정
-    int careerPriority = 1; // setPriority(jobPostingEntity, PriorityType.CAREER);
-    int techStackPriority = 1; // setPriority(jobPostingEntity, PriorityType.TECH_STACK);
-    int educationPriority = 1; // setPriority(jobPostingEntity, PriorityType.EDUCATION);
-
-    updateScore(jobPostingEntity, careerPriority, techStackPriority, educationPriority);
-  }
-
-//  TODO: 채용공고에 우선순위 저장하기
-//  private int setPriority(JobPostingEntity jobPostingEntity, PriorityType priorityType) {
-//
-//    int multiplier = 1;
-//
-//    List<PriorityType> priorities = jobPostingEntity.getPriority();
-//
-//    if (priorities.contains(priorityType)) {
-//      multiplier = 4 - priorities.indexOf(priorityType);
-//    }
-//
-//    return multiplier;
-//  }
-
-  // 점수 수정
-  private void updateScore(JobPostingEntity jobPostingEntity, int careerPriority,
-      int techStackPriority, int educationPriority) {
+    return updateScore(jobPostingEntity);
+  }
+
+  /**
+   * 지원 시점에 지원자 한 명의 임시 점수를 계산하는 서비스
+   * <p>
+   * 호출한 쪽의 트랜잭션 안에서 지원자 엔티티의 점수를 변경하며, 이력서가 없는 경우 점수를 계산하지 않는다.
+   *
+   * @param jobPostingEntity 지원한 채용 공고
+   * @param applicantEntity 저장된 지원자
+   */
+  public void scoreApplicant(JobPostingEntity jobPostingEntity, ApplicantEntity applicantEntity) {
+
+    ScoringPlan scoringPlan = compileScoringPlan(jobPostingEntity);
+
+    ScoreBreakdown scoreBreakdown = calculateScoreBreakdowns(List.of(applicantEntity),
+        scoringPlan).get(applicantEntity.getId());
+
+    if (scoreBreakdown != null) {
+      applicantEntity.updateScore(scoringPlan.total(scoreBreakdown), scoreBreakdown);
+    }
+  }
+
+  /**
+   * 이력서 수정 시 아직 마감되지 않은 채용 공고에 지원한 점수를 다시 계산하는 서비스
+   *
+   * @param candidateKey 지원자 키
+   * @throws CustomException ErrorCode.JOB_POSTING_NOT_FOUND 채용 공고가 존재하지 않을 경우
+   */
+  @Transactional
+  public void rescoreCandidate(String candidateKey) {
+
+    List<ApplicantEntity> applicantEntities = applicantRepository.findAllOpenByCandidateKey(
+        candidateKey);
+
+    for (ApplicantEntity applicantEntity : applicantEntities) {
+      JobPostingEntity jobPostingEntity = jobPostingRepository.findByJobPostingKey(
+              applicantEntity.getJobPostingKey())
+          .orElseThrow(() -> new CustomException(ErrorCode.JOB_POSTING_NOT_FOUND));
+
+      scoreApplicant(jobPostingEntity, applicantEntity);
+    }
+
+    log.info("이력서 수정으로 지원 {}건 재채점", applicantEntities.size());
+  }
+
+  /**
+   * 채용 공고 수정 시 지원자 점수를 무효화하고 바뀐 항목의 점수만 지우는 서비스
+   * <p>
+   * 수정 요청 안에서 지원자를 읽어 다시 채점하지 않고 하나의 UPDATE 문으로 채점 대상으로만 표시한다. 마감 후 청크 단위 채점과 분산 채점에서
+   * 지워진 항목만 채점용 이력서 정보로 다시 계산하고, 바뀐 항목이 없는 지원자는 이력서 정보를 읽지 않고 가중치만 다시 적용한다.
+   *
+   * @param jobPostingKey     수정된 채용 공고 키
+   * @param changedComponents 조건이 바뀐 가중치 유형
+   */
+  public void invalidateScores(String jobPostingKey, Set<PriorityType> changedComponents) {
+
+    int invalidatedCount = applicantRepository.invalidateScores(jobPostingKey, changedComponents);
+
+    log.info("채용 공고 수정으로 지원자 {}명 점수 무효화 - 다시 계산할 항목 {}", invalidatedCount,
+        changedComponents);
+  }
+
+  // 점수 수정, 분산 채점이 아직 끝나지 않았다면 false
+  private boolean updateScore(JobPostingEntity jobPostingEntity) {
     log.info("점수 저장");
     String jobPostingKey = jobPostingEntity.getJobPostingKey();
 
-    // 채용 공고의 기술스택을 EnumSet 에 저장
-    EnumSet<TechStack> jobPostingTechStacks = jobPostingTechStackRepository.findAllByJobPostingKey(
-            jobPostingKey).stream().map(JobPostingTechStackEntity::getTechName)
-        .collect(Collectors.toCollection(() -> EnumSet.noneOf(TechStack.class)));
+    if (scoringMode == ScoringMode.SQL) {
+      if (scoringPlanCompiler.hasOnlyDefaultRules()) {
+        updateScoreInDatabase(jobPostingEntity);
+        return true;
+      }
+      log.warn("기본 채점 규칙 외의 규칙이 등록되어 있어 SQL 채점 대신 JAVA 채점 진행");
+    }
 
-    List<ApplicantEntity> applicantEntities = applicantRepository.findAllByJobPostingKey(
-        jobPostingKey);
+    if (partitionEnabled
+        && applicantRepository.countByJobPostingKey(jobPostingKey) >= partitionMinApplicants) {
+      return updateScoreInPartitions(jobPostingEntity);
+    }
 
-    for (ApplicantEntity applicantEntity : applicantEntities) {
-      Optional<ResumeEntity> optionalResumeEntity = resumeRepository.findByCandidateKey(
-          applicantEntity.getCandidateKey());
+    // 채점 규칙과 우선순위 가중치는 채점마다 한 번만 컴파일
+    ScoringPlan scoringPlan = compileScoringPlan(jobPostingEntity);
 
-      // 이력서 없을 경우 0점
-      if (optionalResumeEntity.isEmpty()) {
-        log.info("이력서 부재 - 0점 처리");
-        continue;
+    transactionTemplate.executeWithoutResult(status -> {
+      ScoringProgressEntity progress = getProgress(jobPostingKey);
+
+      // 이미 완료된 채점을 다시 실행하는 경우 처음부터 채점
+      if (progress.isCompleted()) {
+        progress.restart();
+        getDistribution(jobPostingKey).reset(ScoreHistogram.empty());
+      } else if (progress.getLastApplicantId() > 0) {
+        log.info("지원자 ID {} 이후부터 채점 재개", progress.getLastApplicantId());
       }
-      int totalScore = 0;
+    });
 
-      ResumeEntity resumeEntity = optionalResumeEntity.get();
+    boolean hasNext = true;
 
-      String resumeKey = resumeEntity.getResumeKey();
+    while (hasNext) {
+      hasNext = Boolean.TRUE.equals(transactionTemplate.execute(
+          status -> scoreChunk(jobPostingEntity, scoringPlan)));
+    }
 
-      // 점수 계산
-      totalScore += calculateEducationScore(jobPostingEntity, resumeEntity, educationPriority);
+    return true;
+  }
+
+  // 하나의 UPDATE 문으로 DB 에서 점수 계산, 지원자 엔티티를 읽지 않음
+  private void updateScoreInDatabase(JobPostingEntity jobPostingEntity) {
+
+    transactionTemplate.executeWithoutResult(status -> {
+      ScoringProgressEntity progress = getProgress(jobPostingEntity.getJobPostingKey());
+
+      if (progress.isCompleted()) {
+        progress.restart();
+      }
+
+      int updatedCount = applicantRepository.updateScoresInDatabase(jobPostingEntity,
+          scoringPlanCompiler.getWeight(jobPostingEntity, PriorityType.EDUCATION),
+          scoringPlanCompiler.getWeight(jobPostingEntity, PriorityType.TECH_STACK),
+          scoringPlanCompiler.getWeight(jobPostingEntity, PriorityType.CAREER));
+
+      // 지원자를 읽지 않으므로 점수 분포도 DB 에서 점수별 개수로 집계
+      getDistribution(jobPostingEntity.getJobPostingKey()).reset(
+          applicantRepository.aggregateScoreHistogram(jobPostingEntity.getJobPostingKey()));
+
+      progress.complete();
+      log.info("SQL 채점 완료 - {}명", updatedCount);
+    });
+  }
+
+  // 청크 하나를 채점하고 진행 상황을 같은 트랜잭션에서 저장, 트랜잭션이 끝나면 영속성 컨텍스트도 함께 비워짐
+  private boolean scoreChunk(JobPostingEntity jobPostingEntity, ScoringPlan scoringPlan) {
+
+    ScoringProgressEntity progress = getProgress(jobPostingEntity.getJobPostingKey());
+
+    List<ApplicantEntity> applicantEntities = applicantRepository.findAllByJobPostingKeyAndIdGreaterThanOrderByIdAsc(
+        jobPostingEntity.getJobPostingKey(), progress.getLastApplicantId(), Limit.of(chunkSize));
+
+    if (!applicantEntities.isEmpty()) {
+      Map<Long, ScoreBreakdown> scoreBreakdowns = scoreStaleApplicants(applicantEntities,
+          scoringPlan);
+
+      // 청크의 점수 분포를 저장된 분포에 합쳐 진행 상황과 같은 트랜잭션에서 커밋
+      ScoreHistogram chunkHistogram = ScoreHistogram.empty();
+
+      for (ApplicantEntity applicantEntity : applicantEntities) {
+        ScoreBreakdown scoreBreakdown = scoreBreakdowns.get(applicantEntity.getId());
+
+        chunkHistogram.add(scoreBreakdown == null ? applicantEntity.getScore()
+            : scoringPlan.total(scoreBreakdown));
+      }
+
+      getDistribution(jobPostingEntity.getJobPostingKey()).merge(chunkHistogram);
+
+      progress.updateProgress(applicantEntities.get(applicantEntities.size() - 1).getId(),
+          applicantEntities.size());
+      log.info("지원자 {}명 채점 완료 - 마지막 지원자 ID {}", progress.getScoredCount(),
+          progress.getLastApplicantId());
+    }
+
+    if (applicantEntities.size() < chunkSize) {
+      progress.complete();
+      log.info("채점 완료 - 총 {}명", progress.getScoredCount());
+      return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * 분산 채점 파티션 하나를 채점하는 서비스, ScoringPartitionWorker 에서 호출
+   * <p>
+   * 파티션의 지원자 ID 범위를 chunkSize 명씩 나누어 청크마다 별도의 트랜잭션으로 채점한다. 이미 채점된 지원자는 건너뛰므로 같은 파티션을
+   * 다시 채점해도 결과가 같다.
+   *
+   * @param partitionId 파티션 ID
+   * @return 채점했다면 true, 이미 완료되었거나 채점이 다시 시작되어 삭제된 파티션이라면 false
+   * @throws CustomException ErrorCode.JOB_POSTING_NOT_FOUND 채용 공고가 존재하지 않을 경우
+   */
+  public boolean scorePartition(Long partitionId) {
+
+    ScoringPartitionEntity partition = scoringPartitionRepository.findById(partitionId)
+        .orElse(null);
+
+    if (partition == null || partition.isCompleted()) {
+      return false;
+    }
+
+    JobPostingEntity jobPostingEntity = jobPostingRepository.findByJobPostingKey(
+            partition.getJobPostingKey())
+        .orElseThrow(() -> new CustomException(ErrorCode.JOB_POSTING_NOT_FOUND));
+
+    ScoringPlan scoringPlan = compileScoringPlan(jobPostingEntity);
+
+    long lastApplicantId = partition.getFromApplicantId();
+    int scoredCount = 0;
+    List<ApplicantEntity> applicantEntities;
+
+    do {
+      long fromApplicantId = lastApplicantId;
+
+      applicantEntities = transactionTemplate.execute(status -> {
+        List<ApplicantEntity> chunk = applicantRepository.findAllByJobPostingKeyAndIdGreaterThanAndIdLessThanEqualOrderByIdAsc(
+            partition.getJobPostingKey(), fromApplicantId, partition.getToApplicantId(),
+            Limit.of(chunkSize));
+
+        scoreStaleApplicants(chunk, scoringPlan);
+        return chunk;
+      });
+
+      if (applicantEntities == null || applicantEntities.isEmpty()) {
+        break;
+      }
+      lastApplicantId = applicantEntities.get(applicantEntities.size() - 1).getId();
+      scoredCount += applicantEntities.size();
+    } while (applicantEntities.size() == chunkSize);
+
+    scoringPartitionRepository.complete(partitionId, scoredCount);
+    log.info("파티션 채점 완료 - partitionId: {}, 지원자 {}명", partitionId, scoredCount);
+
+    return true;
+  }
+
+  // 지원자를 ID 범위로 나누어 파티션 작업으로 발행하고, partitionTimeoutMillis 동안 기다린 뒤에도 남은 파티션이 있으면 false
+  private boolean updateScoreInPartitions(JobPostingEntity jobPostingEntity) {
+
+    String jobPostingKey = jobPostingEntity.getJobPostingKey();
+
+    List<ScoringPartitionEntity> createdPartitions = transactionTemplate.execute(status -> {
+      ScoringProgressEntity progress = getProgress(jobPostingKey);
 
-      totalScore += calculateExperienceScore(resumeKey);
+      // 이미 완료된 채점을 다시 실행하는 경우 파티션을 새로 나눔
+      if (progress.isCompleted()) {
+        progress.restart();
+        scoringPartitionRepository.deleteAllByJobPostingKey(jobPostingKey);
+      }
+
+      // 이전 실행에서 발행한 파티션은 다시 발행하지 않음, 작업자가 처리하다 중단된 작업은 ScoringPartitionWorker 가 다시 가져감
+      if (scoringPartitionRepository.existsByJobPostingKey(jobPostingKey)) {
+        return List.of();
+      }
+
+      return scoringPartitionRepository.saveAll(createPartitions(jobPostingKey));
+    });
+
+    createdPartitions.forEach(partition -> scoringPartitionQueue.publish(partition.getId()));
 
-      totalScore += calculateCertificateScore(resumeKey);
+    if (!createdPartitions.isEmpty()) {
+      log.info("분산 채점 파티션 {}개 발행 - jobPostingKey: {}", createdPartitions.size(), jobPostingKey);
+    }
 
-      totalScore += calculatePortfolioScore(resumeEntity);
+    long deadline = System.currentTimeMillis() + partitionTimeoutMillis;
+    long remaining = scoringPartitionRepository.countByJobPostingKeyAndCompletedFalse(jobPostingKey);
 
-      totalScore += calculateTechStackScore(jobPostingTechStacks, resumeKey, techStackPriority);
+    while (remaining > 0) {
+      if (System.currentTimeMillis() > deadline) {
+        log.info("분산 채점 진행 중, 다음 마감 처리에서 다시 확인 - jobPostingKey: {}, 남은 파티션 {}개",
+            jobPostingKey, remaining);
+        return false;
+      }
 
-      totalScore += calculateCareerScore(jobPostingEntity, resumeKey, careerPriority);
+      try {
+        TimeUnit.MILLISECONDS.sleep(partitionProgressIntervalMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
 
-      // 점수 수정
-      applicantEntity.updateScore(totalScore);
+      remaining = scoringPartitionRepository.countByJobPostingKeyAndCompletedFalse(jobPostingKey);
+      log.info("분산 채점 진행 중 - jobPostingKey: {}, 남은 파티션 {}개", jobPostingKey, remaining);
     }
+
+    // 파티션마다 점수 분포를 합치지 않고, 모든 파티션이 끝난 뒤 DB 에서 한 번에 집계
+    transactionTemplate.executeWithoutResult(status -> {
+      getDistribution(jobPostingKey).reset(
+          applicantRepository.aggregateScoreHistogram(jobPostingKey));
+      getProgress(jobPostingKey).complete();
+    });
+
+    log.info("분산 채점 완료 - jobPostingKey: {}", jobPostingKey);
+    return true;
   }
 
-  // 기술스택 점수 계산
-  private int calculateTechStackScore(EnumSet<TechStack> jobPostingTechStacks, String resumeKey,
-      int techStackPriority) {
-    log.info("기술 스택 점수 계산");
-    int techStackScore = 5;
+  // 지원자 ID 를 partitionSize 명씩 나눈 범위, 마지막 범위는 남은 지원자 모두
+  private List<ScoringPartitionEntity> createPartitions(String jobPostingKey) {
 
-    EnumSet<TechStack> resumeTechStacks = resumeTechStackRepository.findAllByResumeKey(resumeKey)
-        .stream().map(ResumeTechStackEntity::getTechStackName)
-        .collect(Collectors.toCollection(() -> EnumSet.noneOf(TechStack.class)));
+    List<ScoringPartitionEntity> partitions = new ArrayList<>();
+    long fromApplicantId = 0L;
 
-    // 이력서에 작성한 기술스택과 채용공고 기술스택의 교집합
-    resumeTechStacks.retainAll(jobPostingTechStacks);
+    for (Long toApplicantId : applicantRepository.findPartitionBoundaries(jobPostingKey,
+        partitionSize)) {
+      partitions.add(ScoringPartitionEntity.builder()
+          .jobPostingKey(jobPostingKey)
+          .fromApplicantId(fromApplicantId)
+          .toApplicantId(toApplicantId)
+          .build());
+      fromApplicantId = toApplicantId;
+    }
+
+    partitions.add(ScoringPartitionEntity.builder()
+        .jobPostingKey(jobPostingKey)
+        .fromApplicantId(fromApplicantId)
+        .toApplicantId(Long.MAX_VALUE)
+        .build());
 
-    return resumeTechStacks.size() * techStackScore * techStackPriority;
+    return partitions;
   }
 
-  // 포트폴리오 점수 계산
-  private int calculatePortfolioScore(ResumeEntity resumeEntity) {
-    log.info("포트폴리오 점수 계산");
-    int portfolioScore = 3;
+  // 점수가 없거나 무효화된 지원자만 채점하여 저장, 지원 시점에 계산된 점수가 유효한 지원자는 그대로 확정
+  // 채용 공고 수정으로 무효화된 지원자는 지워진 항목만 다시 계산하고, 지워진 항목이 없으면 이력서 정보를 읽지 않고 가중치만 다시 적용
+  private Map<Long, ScoreBreakdown> scoreStaleApplicants(List<ApplicantEntity> applicantEntities,
+      ScoringPlan scoringPlan) {
+
+    List<ApplicantEntity> staleApplicantEntities = applicantEntities.stream()
+        .filter(e -> e.getScoredAt() == null)
+        .toList();
+
+    if (staleApplicantEntities.isEmpty()) {
+      return Map.of();
+    }
+
+    List<String> candidateKeys = staleApplicantEntities.stream()
+        .filter(e -> e.getScoreBreakdown() == null || e.getScoreBreakdown().getBaseScore() == null
+            || !e.getScoreBreakdown().clearedComponents().isEmpty())
+        .map(ApplicantEntity::getCandidateKey)
+        .toList();
+
+    Map<String, ResumeFeatureEntity> resumeFeatures =
+        candidateKeys.isEmpty() ? Map.of() : getResumeFeatures(candidateKeys);
+
+    Map<Long, ScoreBreakdown> scoreBreakdowns = new LinkedHashMap<>();
+
+    for (ApplicantEntity applicantEntity : staleApplicantEntities) {
+      ScoreBreakdown previous = applicantEntity.getScoreBreakdown();
+      boolean hasPrevious = previous != null && previous.getBaseScore() != null;
 
-    String portfolio = resumeEntity.getPortfolio();
+      if (hasPrevious && previous.clearedComponents().isEmpty()) {
+        scoreBreakdowns.put(applicantEntity.getId(), previous);
+        continue;
+      }
+
+      ResumeFeatureEntity resumeFeature = resumeFeatures.get(applicantEntity.getCandidateKey());
+
+      // 이력서 없을 경우 0점
+      if (resumeFeature == null) {
+        continue;
+      }
 
-    if (portfolio == null || portfolio.isEmpty()) {
-      return 0;
-    } else {
-      return portfolioScore;
+      scoreBreakdowns.put(applicantEntity.getId(), hasPrevious
+          ? scoringPlan.recompute(previous, previous.clearedComponents(), resumeFeature)
+          : scoringPlan.breakdown(resumeFeature));
     }
+
+    applicantRepository.batchUpdateScores(scoreBreakdowns, scoringPlan::total);
+
+    return scoreBreakdowns;
   }
 
-  // 자격증 점수 계산
-  private int calculateCertificateScore(String resumeKey) {
-    log.info("자격증 점수 계산");
-    int certificateScore = 1;
+  // 채용 공고의 기술스택을 비트마스크로 변환하여 채점 계획 컴파일
+  private ScoringPlan compileScoringPlan(JobPostingEntity jobPostingEntity) {
+
+    long jobPostingTechStackMask = TechStack.toMask(
+        jobPostingTechStackRepository.findAllByJobPostingKey(jobPostingEntity.getJobPostingKey())
+            .stream()
+            .map(JobPostingTechStackEntity::getTechName)
+            .toList());
 
-    return resumeCertificateRepository.countAllByResumeKey(resumeKey) * certificateScore;
+    return scoringPlanCompiler.compile(jobPostingEntity, jobPostingTechStackMask);
   }
 
-  // 경험 점수 계산
-  private int calculateExperienceScore(String resumeKey) {
+  // 채용 공고의 채점 진행 상황 조회, 없으면 새로 생성
+  private ScoringProgressEntity getProgress(String jobPostingKey) {
 
-    int experienceScore = 1;
+    return scoringProgressRepository.findById(jobPostingKey)
+        .orElseGet(() -> scoringProgressRepository.save(
+            ScoringProgressEntity.builder().jobPostingKey(jobPostingKey).build()));
+  }
+
+  // 채용 공고의 점수 분포 조회, 없으면 새로 생성
+  private ScoreDistributionEntity getDistribution(String jobPostingKey) {
 
-    return resumeExperienceRepository.countAllByResumeKey(resumeKey) * experienceScore;
+    return scoreDistributionRepository.findById(jobPostingKey)
+        .orElseGet(() -> scoreDistributionRepository.save(
+            ScoreDistributionEntity.builder().jobPostingKey(jobPostingKey).build()));
   }
 
-  // 학력 점수 계산
-  private int calculateEducationScore(JobPostingEntity jobPostingEntity,
-      ResumeEntity resumeEntity, int educationPriority) {
-    log.info("학력 점수 계산");
-    Education jobPostingEducation = jobPostingEntity.getEducation();
-    Education resumeEducation = resumeEntity.getEducation();
+  // 지원자 묶음의 채점용 이력서 정보를 IN 쿼리로 한 번에 조회한 뒤 메모리에서 항목별 점수 계산
+  private Map<Long, ScoreBreakdown> calculateScoreBreakdowns(
+      List<ApplicantEntity> applicantEntities, ScoringPlan scoringPlan) {
+
+    List<String> candidateKeys = applicantEntities.stream()
+        .map(ApplicantEntity::getCandidateKey)
+        .toList();
+
+    Map<String, ResumeFeatureEntity> resumeFeatures = getResumeFeatures(candidateKeys);
+
+    if (resumeFeatures.isEmpty()) {
+      log.info("이력서 부재 - 0점 처리");
+      return Map.of();
+    }
+
+    Map<Long, ScoreBreakdown> scoreBreakdowns = new LinkedHashMap<>();
+
+    for (ApplicantEntity applicantEntity : applicantEntities) {
+      ResumeFeatureEntity resumeFeature = resumeFeatures.get(applicantEntity.getCandidateKey());
 
-    // 학력 무관이 아니고 채용 공고의 학력 이상인 경우
-    if (jobPostingEducation != Education.NONE
-        && resumeEducation.compareTo(jobPostingEducation) >= 0) {
-      return resumeEducation.getScore() * educationPriority;
+      // 이력서 없을 경우 0점
+      if (resumeFeature == null) {
+        continue;
+      }
+      // 점수 계산
+      scoreBreakdowns.put(applicantEntity.getId(), scoringPlan.breakdown(resumeFeature));
     }
 
-    return 0;
+    return scoreBreakdowns;
   }
 
-  // 경력 점수 계산
-  private int calculateCareerScore(JobPostingEntity jobPostingEntity, String resumeKey,
-      int careerPriority) {
-    log.info("경력 점수 계산");
-    int careerScore = 5;
+  // 채점용 이력서 정보 조회, 아직 만들어지지 않은 이력서는 이력서 추가 정보로부터 만들어 저장
+  private Map<String, ResumeFeatureEntity> getResumeFeatures(List<String> candidateKeys) {
+
+    Map<String, ResumeFeatureEntity> resumeFeatures = resumeFeatureRepository.findAllByCandidateKeyIn(
+            candidateKeys).stream()
+        .collect(Collectors.toMap(ResumeFeatureEntity::getCandidateKey, Function.identity()));
 
-    JobCategory jobPostingJobCategory = jobPostingEntity.getJobCategory();
-    Integer career = jobPostingEntity.getCareer();
+    List<String> missingCandidateKeys = candidateKeys.stream()
+        .filter(candidateKey -> !resumeFeatures.containsKey(candidateKey))
+        .toList();
 
-    // 경력 무관인 경우
-    if (career == -1) {
-      return 0;
+    if (!missingCandidateKeys.isEmpty()) {
+      List<ResumeFeatureEntity> createdResumeFeatures = createResumeFeatures(missingCandidateKeys);
+      resumeFeatureRepository.saveAll(createdResumeFeatures);
+      createdResumeFeatures.forEach(e -> resumeFeatures.put(e.getCandidateKey(), e));
     }
 
-    // 이력서의 경력 직무와 채용 공고의 직무가 동일하고 채용 공고가 요구하는 경력 년수 이상일 경우 득점
-    else {
-      return resumeCareerRepository.findAllByResumeKey(resumeKey).stream()
-          .mapToInt(e -> {
-            if (e.getJobCategory() == jobPostingJobCategory) {
-              return e.getCalculatedCareer() >= career ?
-                  (e.getCalculatedCareer() - career + 1) * careerScore * careerPriority
-                  : 0;
-            } else {
-              return 0;
-            }
-          }).sum();
+    return resumeFeatures;
+  }
+
+  // 이력서 추가 정보를 IN / GROUP BY 쿼리로 한 번에 조회하여 채점용 이력서 정보 생성
+  private List<ResumeFeatureEntity> createResumeFeatures(List<String> candidateKeys) {
+
+    List<ResumeEntity> resumeEntities = resumeRepository.findAllByCandidateKeyIn(candidateKeys);
+
+    if (resumeEntities.isEmpty()) {
+      return List.of();
     }
+
+    log.info("채점용 이력서 정보 생성 - {}건", resumeEntities.size());
+
+    List<String> resumeKeys = resumeEntities.stream()
+        .map(ResumeEntity::getResumeKey)
+        .toList();
+
+    Map<String, Integer> certificateCounts = toCountMap(
+        resumeCertificateRepository.countAllByResumeKeyIn(resumeKeys));
+
+    Map<String, Integer> experienceCounts = toCountMap(
+        resumeExperienceRepository.countAllByResumeKeyIn(resumeKeys));
+
+    Map<String, List<TechStack>> resumeTechStacks = resumeTechStackRepository.findAllByResumeKeyIn(
+            resumeKeys).stream()
+        .collect(Collectors.groupingBy(ResumeTechStackEntity::getResumeKey,
+            Collectors.mapping(ResumeTechStackEntity::getTechStackName, Collectors.toList())));
+
+    Map<String, List<ResumeCareerEntity>> resumeCareers = resumeCareerRepository.findAllByResumeKeyIn(
+            resumeKeys).stream()
+        .collect(Collectors.groupingBy(ResumeCareerEntity::getResumeKey));
+
+    return resumeEntities.stream()
+        .map(e -> ResumeFeatureEntity.of(e,
+            resumeTechStacks.getOrDefault(e.getResumeKey(), List.of()),
+            certificateCounts.getOrDefault(e.getResumeKey(), 0),
+            experienceCounts.getOrDefault(e.getResumeKey(), 0),
+            resumeCareers.getOrDefault(e.getResumeKey(), List.of())))
+        .toList();
+  }
+
+  // resumeKey - COUNT 조회 결과를 Map 으로 변환
+  private Map<String, Integer> toCountMap(List<Object[]> rows) {
+
+    return rows.stream()
+        .collect(Collectors.toMap(row -> (String) row[0], row -> ((Long) row[1]).intValue()));
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,48 @@
+package com.ctrls.auto_enter_view.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 permitsPerSecond 번까지만 통과시키는 유틸
+ * <p>
+ * 허용 간격마다 하나씩 통과시키므로 여러 스레드가 동시에 호출해도 한꺼번에 몰리지 않는다. permitsPerSecond 가 0 이하이면 제한하지 않는다.
+ */
+public class RateLimiter {
+
+  private final long intervalNanos;
+
+  // 다음 호출이 통과할 수 있는 시간
+  private long nextPermitNanos;
+
+  /**
+   * @param permitsPerSecond 초당 허용 횟수
+   */
+  public RateLimiter(double permitsPerSecond) {
+
+    this.intervalNanos = permitsPerSecond <= 0 ? 0
+        : (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+    this.nextPermitNanos = System.nanoTime();
+  }
+
+  /**
+   * 통과할 수 있을 때까지 대기
+   *
+   * @throws InterruptedException 대기 중 인터럽트된 경우
+   */
+  public void acquire() throws InterruptedException {
+
+    long waitNanos;
+
+    synchronized (this) {
+      long now = System.nanoTime();
+      long permitNanos = Math.max(now, nextPermitNanos);
+
+      nextPermitNanos = permitNanos + intervalNanos;
+      waitNanos = permitNanos - now;
+    }
+
+    if (waitNanos > 0) {
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+  }
+}
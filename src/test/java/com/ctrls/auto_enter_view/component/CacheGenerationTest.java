@@ -0,0 +1,96 @@
+package com.ctrls.auto_enter_view.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import redis.embedded.RedisServer;
+
+// 로컬에서 실행한 Redis 로 세대 증가와 커밋 후 무효화를 확인
+class CacheGenerationTest {
+
+  private static final int REDIS_PORT = 16381;
+  private static final String NAMESPACE = "testCache";
+
+  private static RedisServer redisServer;
+  private static LettuceConnectionFactory connectionFactory;
+
+  private RedisTemplate<String, String> redisStringTemplate;
+  private CacheGeneration cacheGeneration;
+
+  @BeforeAll
+  static void startRedis() throws IOException {
+    redisServer = new RedisServer(REDIS_PORT);
+    redisServer.start();
+
+    connectionFactory = new LettuceConnectionFactory("localhost", REDIS_PORT);
+    connectionFactory.afterPropertiesSet();
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    connectionFactory.destroy();
+    redisServer.stop();
+  }
+
+  @BeforeEach
+  void setUp() {
+    redisStringTemplate = new RedisTemplate<>();
+    redisStringTemplate.setConnectionFactory(connectionFactory);
+    redisStringTemplate.setKeySerializer(new StringRedisSerializer());
+    redisStringTemplate.setValueSerializer(new StringRedisSerializer());
+    redisStringTemplate.afterPropertiesSet();
+
+    redisStringTemplate.delete(NAMESPACE + ":generation");
+
+    cacheGeneration = new CacheGeneration(redisStringTemplate);
+  }
+
+  @Test
+  @DisplayName("캐시 무효화 : 성공 - 세대가 바뀌어 이전 세대의 캐시를 조회하지 않음")
+  void testInvalidate() {
+    long generation = cacheGeneration.current(NAMESPACE);
+    String key = CacheGeneration.key(NAMESPACE, generation, "1-10");
+    redisStringTemplate.opsForValue().set(key, "cached");
+
+    cacheGeneration.invalidate(NAMESPACE);
+
+    long nextGeneration = cacheGeneration.current(NAMESPACE);
+    String nextKey = CacheGeneration.key(NAMESPACE, nextGeneration, "1-10");
+
+    assertEquals(0, generation);
+    assertEquals(1, nextGeneration);
+    assertNotEquals(key, nextKey);
+    assertNull(redisStringTemplate.opsForValue().get(nextKey));
+  }
+
+  @Test
+  @DisplayName("캐시 무효화 : 성공 - 트랜잭션 안에서는 커밋된 뒤에 세대를 올림")
+  void testInvalidate_AfterCommit() {
+    TransactionSynchronizationManager.initSynchronization();
+
+    try {
+      cacheGeneration.invalidate(NAMESPACE);
+
+      assertEquals(0, cacheGeneration.current(NAMESPACE));
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    assertEquals(1, cacheGeneration.current(NAMESPACE));
+  }
+}
@@ -0,0 +1,151 @@
+package com.ctrls.auto_enter_view.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ctrls.auto_enter_view.config.QuartzConfig;
+import com.ctrls.auto_enter_view.entity.MailAlarmInfoEntity;
+import com.ctrls.auto_enter_view.repository.JobPostingRepository;
+import com.ctrls.auto_enter_view.repository.MailAlarmInfoRepository;
+import com.ctrls.auto_enter_view.service.ClosingSweepService;
+import com.ctrls.auto_enter_view.service.MailAlarmInfoService;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class CatchUpCoordinatorTest {
+
+  @Mock
+  private JobPostingRepository jobPostingRepository;
+
+  @Mock
+  private MailAlarmInfoRepository mailAlarmInfoRepository;
+
+  @Mock
+  private MailAlarmInfoService mailAlarmInfoService;
+
+  @Mock
+  private Scheduler closingScheduler;
+
+  @Mock
+  private LeaseLock leaseLock;
+
+  @InjectMocks
+  private CatchUpCoordinator catchUpCoordinator;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(catchUpCoordinator, "concurrency", 1);
+    ReflectionTestUtils.setField(catchUpCoordinator, "ratePerSecond", 0);
+    ReflectionTestUtils.setField(catchUpCoordinator, "mailMaxDelayHours", 6L);
+    ReflectionTestUtils.setField(catchUpCoordinator, "mailGraceSeconds", 60L);
+    ReflectionTestUtils.setField(catchUpCoordinator, "progressIntervalMillis", 10L);
+    ReflectionTestUtils.setField(catchUpCoordinator, "stallPolls", 2);
+    catchUpCoordinator.init();
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    catchUpCoordinator.shutdown();
+  }
+
+  @Test
+  @DisplayName("밀린 예약 메일 발송 : 성공 - 예약 시간 순서대로 발송하고 실패한 메일이 있어도 계속 진행")
+  void testReplayOverdueMails_InOrder() throws InterruptedException {
+    LocalDateTime now = LocalDateTime.now();
+    List<MailAlarmInfoEntity> overdueMails = List.of(
+        MailAlarmInfoEntity.builder().id(1L).mailSendDateTime(now.minusHours(2)).build(),
+        MailAlarmInfoEntity.builder().id(2L).mailSendDateTime(now.minusHours(1)).build(),
+        MailAlarmInfoEntity.builder().id(3L).mailSendDateTime(now.minusMinutes(5)).build());
+
+    when(mailAlarmInfoRepository.findAllByMailSentAtIsNullAndMailSendDateTimeBetweenOrderByMailSendDateTimeAsc(
+        any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(overdueMails);
+    when(mailAlarmInfoService.sendMailAlarm(1L)).thenReturn(true);
+    when(mailAlarmInfoService.sendMailAlarm(2L)).thenThrow(new IllegalStateException("SMTP 오류"));
+    when(mailAlarmInfoService.sendMailAlarm(3L)).thenReturn(false);
+
+    int sentCount = catchUpCoordinator.replayOverdueMails();
+
+    assertEquals(1, sentCount);
+
+    InOrder inOrder = inOrder(mailAlarmInfoService);
+    inOrder.verify(mailAlarmInfoService).sendMailAlarm(1L);
+    inOrder.verify(mailAlarmInfoService).sendMailAlarm(2L);
+    inOrder.verify(mailAlarmInfoService).sendMailAlarm(3L);
+  }
+
+  @Test
+  @DisplayName("밀린 마감 처리 : 성공 - 마감 처리 작업을 실행하고 남은 채용 공고가 없을 때까지 대기")
+  void testCatchUpClosing_DrainsBacklog() throws SchedulerException, InterruptedException {
+    when(jobPostingRepository.countByStatusIn(ClosingSweepService.PENDING_STATUSES))
+        .thenReturn(3L, 1L, 0L);
+
+    long drainedCount = catchUpCoordinator.catchUpClosing();
+
+    assertEquals(3, drainedCount);
+    verify(jobPostingRepository).closeExpiredJobPostings(any(LocalDate.class));
+    verify(closingScheduler).triggerJob(QuartzConfig.CLOSING_SWEEP_JOB_KEY);
+  }
+
+  @Test
+  @DisplayName("밀린 마감 처리 : 성공 - 남은 채용 공고가 줄지 않으면 대기를 멈춤")
+  void testCatchUpClosing_Stalled() throws SchedulerException, InterruptedException {
+    when(jobPostingRepository.countByStatusIn(ClosingSweepService.PENDING_STATUSES))
+        .thenReturn(2L);
+
+    long drainedCount = catchUpCoordinator.catchUpClosing();
+
+    assertEquals(0, drainedCount);
+    verify(closingScheduler).triggerJob(QuartzConfig.CLOSING_SWEEP_JOB_KEY);
+  }
+
+  @Test
+  @DisplayName("밀린 작업 처리 : 성공 - 다른 노드가 잠금을 가지고 있으면 처리하지 않음")
+  void testCatchUp_OtherNodeHoldsLock() {
+    when(leaseLock.runExclusively(eq(CatchUpCoordinator.LOCK_NAME), any(Runnable.class)))
+        .thenReturn(false);
+
+    catchUpCoordinator.catchUp();
+
+    verifyNoInteractions(mailAlarmInfoRepository, jobPostingRepository);
+  }
+
+  @Test
+  @DisplayName("밀린 작업 처리 : 성공 - 밀린 작업이 없으면 마감 처리 작업을 실행하지 않음")
+  void testCatchUp_NothingOverdue() throws SchedulerException {
+    when(leaseLock.runExclusively(eq(CatchUpCoordinator.LOCK_NAME), any(Runnable.class)))
+        .thenAnswer(invocation -> {
+          invocation.<Runnable>getArgument(1).run();
+          return true;
+        });
+    when(mailAlarmInfoRepository.findAllByMailSentAtIsNullAndMailSendDateTimeBetweenOrderByMailSendDateTimeAsc(
+        any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(List.of());
+    when(jobPostingRepository.countByStatusIn(ClosingSweepService.PENDING_STATUSES))
+        .thenReturn(0L);
+
+    catchUpCoordinator.catchUp();
+
+    verify(mailAlarmInfoService, never()).sendMailAlarm(anyLong());
+    verify(closingScheduler, never()).triggerJob(any());
+  }
+}
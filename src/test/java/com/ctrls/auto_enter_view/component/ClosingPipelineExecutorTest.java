@@ -0,0 +1,161 @@
+package com.ctrls.auto_enter_view.component;
+
+import static com.ctrls.auto_enter_view.enums.JobPostingStatus.CLOSED;
+import static com.ctrls.auto_enter_view.enums.JobPostingStatus.FILTERED;
+import static com.ctrls.auto_enter_view.enums.JobPostingStatus.SCORED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ctrls.auto_enter_view.component.ClosingPipelineExecutor.Result;
+import com.ctrls.auto_enter_view.entity.ScoringProgressEntity;
+import com.ctrls.auto_enter_view.enums.ErrorCode;
+import com.ctrls.auto_enter_view.exception.CustomException;
+import com.ctrls.auto_enter_view.repository.JobPostingRepository;
+import com.ctrls.auto_enter_view.repository.ScoringProgressRepository;
+import com.ctrls.auto_enter_view.service.FilteringService;
+import com.ctrls.auto_enter_view.service.ScoringService;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ClosingPipelineExecutorTest {
+
+  @Mock
+  private FilteringService filteringService;
+
+  @Mock
+  private JobPostingRepository jobPostingRepository;
+
+  @Mock
+  private ScoringProgressRepository scoringProgressRepository;
+
+  @Mock
+  private ScoringService scoringService;
+
+  @Captor
+  private ArgumentCaptor<ScoringProgressEntity> progressCaptor;
+
+  @InjectMocks
+  private ClosingPipelineExecutor closingPipelineExecutor;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(closingPipelineExecutor, "parallelism", 2);
+    ReflectionTestUtils.setField(closingPipelineExecutor, "maxFailureCount", 3);
+    closingPipelineExecutor.init();
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    closingPipelineExecutor.shutdown();
+  }
+
+  @Test
+  @DisplayName("마감 처리 실행 : 성공 - 채점이 커밋된 채용 공고를 SCORED 로 바꾼 뒤 바로 필터링")
+  void testRunAll_ChainsScoringAndFiltering() {
+    when(scoringProgressRepository.findById("jobPosting1")).thenReturn(Optional.empty());
+    when(scoringService.scoreApplicants("jobPosting1")).thenReturn(true);
+    when(filteringService.filterCandidates("jobPosting1")).thenReturn(true);
+
+    List<Result> results = closingPipelineExecutor.runAll(List.of("jobPosting1"));
+
+    assertEquals(1, results.size());
+    assertEquals(FILTERED, results.get(0).getStatus());
+    assertTrue(results.get(0).isFiltered());
+
+    InOrder inOrder = inOrder(scoringService, jobPostingRepository, filteringService);
+    inOrder.verify(scoringService).scoreApplicants("jobPosting1");
+    inOrder.verify(jobPostingRepository).updateStatus("jobPosting1", CLOSED, SCORED);
+    inOrder.verify(filteringService).filterCandidates("jobPosting1");
+  }
+
+  @Test
+  @DisplayName("마감 처리 실행 : 성공 - 채점이 이미 완료된 채용 공고는 다시 채점하지 않고 필터링")
+  void testRunAll_SkipCompletedScoring() {
+    when(scoringProgressRepository.findById("jobPosting1")).thenReturn(Optional.of(
+        ScoringProgressEntity.builder().jobPostingKey("jobPosting1").completed(true).build()));
+    when(filteringService.filterCandidates("jobPosting1")).thenReturn(true);
+
+    List<Result> results = closingPipelineExecutor.runAll(List.of("jobPosting1"));
+
+    assertTrue(results.get(0).isFiltered());
+    verify(scoringService, never()).scoreApplicants("jobPosting1");
+  }
+
+  @Test
+  @DisplayName("마감 처리 실행 : 성공 - 분산 채점이 끝나지 않은 채용 공고는 실패로 기록하지 않고 CLOSED 로 남김")
+  void testRunAll_PartitionsPending() {
+    when(scoringProgressRepository.findById("jobPosting1")).thenReturn(Optional.empty());
+    when(scoringService.scoreApplicants("jobPosting1")).thenReturn(false);
+
+    List<Result> results = closingPipelineExecutor.runAll(List.of("jobPosting1"));
+
+    assertEquals(CLOSED, results.get(0).getStatus());
+    verify(jobPostingRepository, never()).updateStatus("jobPosting1", CLOSED, SCORED);
+    verify(filteringService, never()).filterCandidates("jobPosting1");
+    verify(scoringProgressRepository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("마감 처리 실행 : 실패 - 채점에 실패한 채용 공고는 필터링하지 않고 나머지는 계속 진행")
+  void testRunAll_ScoringFailed() {
+    when(scoringProgressRepository.findById("jobPosting1")).thenReturn(Optional.empty());
+    when(scoringProgressRepository.findById("jobPosting2")).thenReturn(Optional.empty());
+    doThrow(new CustomException(ErrorCode.JOB_POSTING_NOT_FOUND))
+        .when(scoringService).scoreApplicants("jobPosting1");
+    // 다른 스레드에서 인자가 다른 호출이 스터빙 불일치로 실패하지 않도록 jobPosting2 도 스터빙
+    when(scoringService.scoreApplicants("jobPosting2")).thenReturn(true);
+    when(filteringService.filterCandidates("jobPosting2")).thenReturn(true);
+
+    List<Result> results = closingPipelineExecutor.runAll(List.of("jobPosting1", "jobPosting2"));
+
+    assertEquals(CLOSED, results.get(0).getStatus());
+    assertFalse(results.get(0).isFiltered());
+    assertEquals(FILTERED, results.get(1).getStatus());
+    verify(jobPostingRepository, never()).updateStatus("jobPosting1", CLOSED, SCORED);
+    verify(filteringService, never()).filterCandidates("jobPosting1");
+
+    // 실패한 채용 공고만 실패 횟수 기록
+    verify(scoringProgressRepository).save(progressCaptor.capture());
+    assertEquals("jobPosting1", progressCaptor.getValue().getJobPostingKey());
+    assertEquals(1, progressCaptor.getValue().getFailureCount());
+  }
+
+  @Test
+  @DisplayName("마감 처리 실행 : 실패 - 필터링에 실패하면 채점 진행 상황에 실패 횟수를 더함")
+  void testRunAll_FilteringFailed() {
+    ScoringProgressEntity progress = ScoringProgressEntity.builder()
+        .jobPostingKey("jobPosting1")
+        .completed(true)
+        .failureCount(2)
+        .build();
+    when(scoringProgressRepository.findById("jobPosting1")).thenReturn(Optional.of(progress));
+    when(filteringService.filterCandidates("jobPosting1"))
+        .thenThrow(new CustomException(ErrorCode.JOB_POSTING_STEP_NOT_FOUND));
+
+    List<Result> results = closingPipelineExecutor.runAll(List.of("jobPosting1"));
+
+    assertEquals(SCORED, results.get(0).getStatus());
+    assertEquals(3, progress.getFailureCount());
+    verify(scoringProgressRepository).save(progress);
+  }
+}
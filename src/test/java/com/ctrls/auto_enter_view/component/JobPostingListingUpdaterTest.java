@@ -0,0 +1,148 @@
+package com.ctrls.auto_enter_view.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ctrls.auto_enter_view.entity.JobPostingEntity;
+import com.ctrls.auto_enter_view.entity.JobPostingListingEntity;
+import com.ctrls.auto_enter_view.entity.JobPostingTechStackEntity;
+import com.ctrls.auto_enter_view.enums.JobPostingStatus;
+import com.ctrls.auto_enter_view.enums.TechStack;
+import com.ctrls.auto_enter_view.repository.CompanyRepository;
+import com.ctrls.auto_enter_view.repository.JobPostingListingRepository;
+import com.ctrls.auto_enter_view.repository.JobPostingRepository;
+import com.ctrls.auto_enter_view.repository.JobPostingTechStackRepository;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class JobPostingListingUpdaterTest {
+
+  @Mock
+  private CompanyRepository companyRepository;
+
+  @Mock
+  private JobPostingListingRepository jobPostingListingRepository;
+
+  @Mock
+  private JobPostingRepository jobPostingRepository;
+
+  @Mock
+  private JobPostingTechStackRepository jobPostingTechStackRepository;
+
+  @Mock
+  private LeaseLock leaseLock;
+
+  @InjectMocks
+  private JobPostingListingUpdater jobPostingListingUpdater;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(jobPostingListingUpdater, "batchSize", 2);
+  }
+
+  private JobPostingEntity jobPosting(String jobPostingKey, String companyKey,
+      JobPostingStatus status) {
+    return JobPostingEntity.builder()
+        .jobPostingKey(jobPostingKey)
+        .companyKey(companyKey)
+        .title("제목 " + jobPostingKey)
+        .endDate(LocalDate.now().plusDays(7))
+        .status(status)
+        .build();
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<JobPostingListingEntity> captureSaved() {
+    ArgumentCaptor<List<JobPostingListingEntity>> captor = ArgumentCaptor.forClass(List.class);
+    verify(jobPostingListingRepository).saveAll(captor.capture());
+    return captor.getValue();
+  }
+
+  @Test
+  @DisplayName("목록 갱신 : 성공 - 회사 이름과 기술 스택을 한 번씩 조회하여 저장")
+  void testRefreshAll() {
+    JobPostingEntity jobPosting1 = jobPosting("jobPosting1", "companyKey1", JobPostingStatus.OPEN);
+    JobPostingEntity jobPosting2 = jobPosting("jobPosting2", "companyKey1", JobPostingStatus.OPEN);
+
+    when(companyRepository.findCompanyNamesByCompanyKeyIn(Set.of("companyKey1")))
+        .thenReturn(List.<Object[]>of(new Object[]{"companyKey1", "회사 1"}));
+    when(jobPostingTechStackRepository.findAllByJobPostingKeyIn(List.of("jobPosting1", "jobPosting2")))
+        .thenReturn(List.of(
+            JobPostingTechStackEntity.builder().jobPostingKey("jobPosting1").techName(TechStack.JAVA).build(),
+            JobPostingTechStackEntity.builder().jobPostingKey("jobPosting1").techName(TechStack.REACT).build()));
+
+    assertEquals(2, jobPostingListingUpdater.refreshAll(List.of(jobPosting1, jobPosting2)));
+
+    List<JobPostingListingEntity> saved = captureSaved();
+    assertEquals("회사 1", saved.get(0).getCompanyName());
+    assertEquals(List.of(TechStack.JAVA, TechStack.REACT), saved.get(0).getTechStack());
+    assertEquals(List.of(), saved.get(1).getTechStack());
+    verify(jobPostingListingRepository, never()).deleteAllById(anyList());
+  }
+
+  @Test
+  @DisplayName("목록 갱신 : 성공 - 마감된 채용 공고와 탈퇴한 회사의 채용 공고는 목록에서 삭제")
+  void testRefreshAll_Removed() {
+    JobPostingEntity closed = jobPosting("jobPosting1", "companyKey1", JobPostingStatus.CLOSED);
+    JobPostingEntity withdrawn = jobPosting("jobPosting2", "withdrawnCompanyKey",
+        JobPostingStatus.OPEN);
+
+    when(companyRepository.findCompanyNamesByCompanyKeyIn(Set.of("withdrawnCompanyKey")))
+        .thenReturn(List.of());
+    when(jobPostingTechStackRepository.findAllByJobPostingKeyIn(List.of("jobPosting2")))
+        .thenReturn(List.of());
+
+    assertEquals(0, jobPostingListingUpdater.refreshAll(List.of(closed, withdrawn)));
+
+    verify(jobPostingListingRepository).deleteAllById(List.of("jobPosting1", "jobPosting2"));
+    assertEquals(List.of(), captureSaved());
+  }
+
+  @Test
+  @DisplayName("목록 갱신 : 성공 - 삭제된 채용 공고는 목록에서 삭제")
+  void testRefresh_Deleted() {
+    when(jobPostingRepository.findByJobPostingKey("jobPosting1")).thenReturn(Optional.empty());
+
+    jobPostingListingUpdater.refresh("jobPosting1");
+
+    verify(jobPostingListingRepository).deleteById("jobPosting1");
+  }
+
+  @Test
+  @DisplayName("목록 채우기 : 성공 - 지원 가능한 채용 공고를 batchSize 개씩 채용 공고 키 순서로 갱신")
+  void testRebuild() {
+    JobPostingEntity jobPosting1 = jobPosting("jobPosting1", "companyKey1", JobPostingStatus.OPEN);
+    JobPostingEntity jobPosting2 = jobPosting("jobPosting2", "companyKey1", JobPostingStatus.OPEN);
+    JobPostingEntity jobPosting3 = jobPosting("jobPosting3", "companyKey1", JobPostingStatus.OPEN);
+
+    when(jobPostingRepository.findAllJobPostingKeysByStatusIn(EnumSet.of(JobPostingStatus.OPEN),
+        "", Limit.of(2))).thenReturn(List.of("jobPosting1", "jobPosting2"));
+    when(jobPostingRepository.findAllJobPostingKeysByStatusIn(EnumSet.of(JobPostingStatus.OPEN),
+        "jobPosting2", Limit.of(2))).thenReturn(List.of("jobPosting3"));
+    when(jobPostingRepository.findAllById(List.of("jobPosting1", "jobPosting2")))
+        .thenReturn(List.of(jobPosting1, jobPosting2));
+    when(jobPostingRepository.findAllById(List.of("jobPosting3")))
+        .thenReturn(List.of(jobPosting3));
+    when(companyRepository.findCompanyNamesByCompanyKeyIn(Set.of("companyKey1")))
+        .thenReturn(List.<Object[]>of(new Object[]{"companyKey1", "회사 1"}));
+
+    assertEquals(3, jobPostingListingUpdater.rebuild());
+  }
+}
@@ -0,0 +1,136 @@
+package com.ctrls.auto_enter_view.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ctrls.auto_enter_view.component.LeaseLock.Lease;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisServer;
+
+// 로컬에서 실행한 Redis 로 두 노드의 잠금 경쟁과 노드 종료 후 인계를 확인
+class LeaseLockTest {
+
+  private static final int REDIS_PORT = 16379;
+  private static final long LEASE_MILLIS = 1000;
+
+  private static RedisServer redisServer;
+  private static LettuceConnectionFactory connectionFactory;
+
+  private LeaseLock node1;
+  private LeaseLock node2;
+
+  @BeforeAll
+  static void startRedis() throws IOException {
+    redisServer = new RedisServer(REDIS_PORT);
+    redisServer.start();
+
+    connectionFactory = new LettuceConnectionFactory("localhost", REDIS_PORT);
+    connectionFactory.afterPropertiesSet();
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    connectionFactory.destroy();
+    redisServer.stop();
+  }
+
+  @BeforeEach
+  void setUp() {
+    RedisTemplate<String, String> redisStringTemplate = new RedisTemplate<>();
+    redisStringTemplate.setConnectionFactory(connectionFactory);
+    redisStringTemplate.setKeySerializer(new StringRedisSerializer());
+    redisStringTemplate.setValueSerializer(new StringRedisSerializer());
+    redisStringTemplate.afterPropertiesSet();
+
+    redisStringTemplate.delete("lock:sweep");
+
+    node1 = createNode(redisStringTemplate);
+    node2 = createNode(redisStringTemplate);
+  }
+
+  @AfterEach
+  void tearDown() {
+    node1.shutdown();
+    node2.shutdown();
+  }
+
+  private LeaseLock createNode(RedisTemplate<String, String> redisStringTemplate) {
+    LeaseLock leaseLock = new LeaseLock(redisStringTemplate);
+    ReflectionTestUtils.setField(leaseLock, "leaseMillis", LEASE_MILLIS);
+    leaseLock.init();
+    return leaseLock;
+  }
+
+  @Test
+  @DisplayName("잠금 : 성공 - 한 노드가 실행하는 동안 다른 노드는 실행하지 않음")
+  void testRunExclusively_SingleNode() throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch finish = new CountDownLatch(1);
+    AtomicInteger runCount = new AtomicInteger();
+
+    Thread holder = new Thread(() -> node1.runExclusively("sweep", () -> {
+      runCount.incrementAndGet();
+      started.countDown();
+      try {
+        finish.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }));
+    holder.start();
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    // 만료 시간보다 오래 실행해도 연장되므로 다른 노드가 가져가지 못함
+    Thread.sleep(LEASE_MILLIS * 3);
+    assertFalse(node2.runExclusively("sweep", runCount::incrementAndGet));
+
+    finish.countDown();
+    holder.join();
+
+    // 해제한 뒤에는 바로 다른 노드가 가져감
+    assertTrue(node2.runExclusively("sweep", runCount::incrementAndGet));
+    assertEquals(2, runCount.get());
+  }
+
+  @Test
+  @DisplayName("잠금 : 성공 - 잠금을 가진 노드가 종료되면 만료 후 다른 노드가 가져감")
+  void testTryAcquire_TakeOverAfterNodeDies() throws InterruptedException {
+    Optional<Lease> lease = node1.tryAcquire("sweep");
+    assertTrue(lease.isPresent());
+
+    // 노드 종료, 연장도 해제도 하지 않음
+    node1.shutdown();
+
+    assertTrue(node2.tryAcquire("sweep").isEmpty());
+
+    long deadline = System.currentTimeMillis() + LEASE_MILLIS * 5;
+    Optional<Lease> takenOver = Optional.empty();
+
+    while (takenOver.isEmpty() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(50);
+      takenOver = node2.tryAcquire("sweep");
+    }
+
+    assertTrue(takenOver.isPresent());
+
+    // 종료된 노드가 늦게 해제를 시도해도 다른 노드의 잠금은 유지
+    lease.get().close();
+    assertTrue(node1.tryAcquire("sweep").isEmpty());
+    takenOver.get().close();
+  }
+}
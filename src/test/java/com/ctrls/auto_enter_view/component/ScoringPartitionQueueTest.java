@@ -0,0 +1,100 @@
+package com.ctrls.auto_enter_view.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ctrls.auto_enter_view.component.ScoringPartitionQueue.Task;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+// 로컬에서 실행한 Redis 로 작업 분배와 ack 되지 않은 작업의 재전달 확인
+class ScoringPartitionQueueTest {
+
+  private static final int REDIS_PORT = 16380;
+
+  private static RedisServer redisServer;
+  private static LettuceConnectionFactory connectionFactory;
+
+  private RedisTemplate<String, String> redisStringTemplate;
+  private ScoringPartitionQueue node1;
+  private ScoringPartitionQueue node2;
+
+  @BeforeAll
+  static void startRedis() throws IOException {
+    redisServer = new RedisServer(REDIS_PORT);
+    redisServer.start();
+
+    connectionFactory = new LettuceConnectionFactory("localhost", REDIS_PORT);
+    connectionFactory.afterPropertiesSet();
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    connectionFactory.destroy();
+    redisServer.stop();
+  }
+
+  @BeforeEach
+  void setUp() {
+    redisStringTemplate = new RedisTemplate<>();
+    redisStringTemplate.setConnectionFactory(connectionFactory);
+    redisStringTemplate.setKeySerializer(new StringRedisSerializer());
+    redisStringTemplate.setValueSerializer(new StringRedisSerializer());
+    redisStringTemplate.setHashKeySerializer(new StringRedisSerializer());
+    redisStringTemplate.setHashValueSerializer(new StringRedisSerializer());
+    redisStringTemplate.afterPropertiesSet();
+
+    redisStringTemplate.delete(ScoringPartitionQueue.STREAM_KEY);
+
+    node1 = new ScoringPartitionQueue(redisStringTemplate);
+    node2 = new ScoringPartitionQueue(redisStringTemplate);
+  }
+
+  @Test
+  @DisplayName("파티션 작업 : 성공 - 발행한 작업을 작업자들이 나누어 가져감")
+  void testRead_DistributesTasks() {
+    node1.publish(1L);
+    node1.publish(2L);
+
+    List<Task> worker1Tasks = node1.read("worker1", 1);
+    List<Task> worker2Tasks = node2.read("worker2", 1);
+
+    assertEquals(1L, worker1Tasks.get(0).getPartitionId());
+    assertEquals(2L, worker2Tasks.get(0).getPartitionId());
+    assertTrue(node2.read("worker2", 1).isEmpty());
+  }
+
+  @Test
+  @DisplayName("파티션 작업 : 성공 - ack 되지 않은 작업은 idle 시간이 지나면 다른 작업자가 가져감")
+  void testClaimStale_RedeliversUnacknowledged() throws InterruptedException {
+    node1.publish(1L);
+
+    // worker1 이 가져간 뒤 종료
+    Task task = node1.read("worker1", 1).get(0);
+
+    assertTrue(node2.claimStale("worker2", Duration.ofSeconds(10), 10).isEmpty());
+
+    Thread.sleep(100);
+    List<Task> claimed = node2.claimStale("worker2", Duration.ofMillis(50), 10);
+
+    assertEquals(1, claimed.size());
+    assertEquals(task.getRecordId(), claimed.get(0).getRecordId());
+    assertEquals(1L, claimed.get(0).getPartitionId());
+
+    // ack 한 작업은 다시 전달되지 않음
+    node2.ack(claimed.get(0));
+    Thread.sleep(100);
+    assertTrue(node1.claimStale("worker1", Duration.ofMillis(50), 10).isEmpty());
+    assertTrue(node1.read("worker1", 1).isEmpty());
+  }
+}
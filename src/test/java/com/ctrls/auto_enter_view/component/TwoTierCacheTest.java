@@ -0,0 +1,185 @@
+package com.ctrls.auto_enter_view.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ctrls.auto_enter_view.component.TwoTierCache.TierStats;
+import com.ctrls.auto_enter_view.config.RedisConfig;
+import com.ctrls.auto_enter_view.dto.common.MainJobPostingDto;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisServer;
+
+// 로컬에서 실행한 Redis 로 두 노드의 L1, L2 조회와 무효화 메시지 전파를 확인
+class TwoTierCacheTest {
+
+  private static final int REDIS_PORT = 16382;
+  private static final String NAMESPACE = "testJobPostings";
+  private static final Duration TTL = Duration.ofMinutes(1);
+
+  private static RedisServer redisServer;
+  private static LettuceConnectionFactory connectionFactory;
+
+  private RedisTemplate<String, String> redisStringTemplate;
+  private RedisTemplate<String, Object> redisObjectTemplate;
+  private CacheGeneration cacheGeneration;
+  private RedisMessageListenerContainer container1;
+  private RedisMessageListenerContainer container2;
+  private TwoTierCache node1;
+  private TwoTierCache node2;
+
+  private final AtomicInteger loadCount = new AtomicInteger();
+
+  @BeforeAll
+  static void startRedis() throws IOException {
+    redisServer = new RedisServer(REDIS_PORT);
+    redisServer.start();
+
+    connectionFactory = new LettuceConnectionFactory("localhost", REDIS_PORT);
+    connectionFactory.afterPropertiesSet();
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    connectionFactory.destroy();
+    redisServer.stop();
+  }
+
+  @BeforeEach
+  void setUp() {
+    redisStringTemplate = new RedisTemplate<>();
+    redisStringTemplate.setConnectionFactory(connectionFactory);
+    redisStringTemplate.setKeySerializer(new StringRedisSerializer());
+    redisStringTemplate.setValueSerializer(new StringRedisSerializer());
+    redisStringTemplate.afterPropertiesSet();
+
+    redisObjectTemplate = new RedisTemplate<>();
+    redisObjectTemplate.setConnectionFactory(connectionFactory);
+    redisObjectTemplate.setKeySerializer(new StringRedisSerializer());
+    redisObjectTemplate.setValueSerializer(new RedisConfig().jsonRedisSerializer());
+    redisObjectTemplate.afterPropertiesSet();
+
+    redisStringTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+
+    cacheGeneration = new CacheGeneration(redisStringTemplate);
+    container1 = createContainer();
+    container2 = createContainer();
+    node1 = createNode(container1);
+    node2 = createNode(container2);
+    container1.start();
+    container2.start();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    container1.destroy();
+    container2.destroy();
+  }
+
+  private RedisMessageListenerContainer createContainer() {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    container.afterPropertiesSet();
+    return container;
+  }
+
+  private TwoTierCache createNode(RedisMessageListenerContainer container) {
+    TwoTierCache twoTierCache = new TwoTierCache(cacheGeneration, redisObjectTemplate, container);
+    ReflectionTestUtils.setField(twoTierCache, "maximumSize", 100L);
+    ReflectionTestUtils.setField(twoTierCache, "ttlSeconds", 60L);
+    twoTierCache.init();
+    return twoTierCache;
+  }
+
+  private MainJobPostingDto.Response load() {
+    loadCount.incrementAndGet();
+    return MainJobPostingDto.Response.builder()
+        .jobPostingsList(Collections.emptyList())
+        .totalPages(1)
+        .totalElements(loadCount.get())
+        .build();
+  }
+
+  private MainJobPostingDto.Response get(TwoTierCache node) {
+    return node.get(NAMESPACE, "1-10", MainJobPostingDto.Response.class, TTL, this::load);
+  }
+
+  @Test
+  @DisplayName("캐시 조회 : 성공 - 처음에는 DB, 같은 노드는 L1, 다른 노드는 L2 에서 조회")
+  void testGet() {
+    MainJobPostingDto.Response loaded = get(node1);
+    MainJobPostingDto.Response local = get(node1);
+    MainJobPostingDto.Response remote = get(node2);
+    MainJobPostingDto.Response remoteLocal = get(node2);
+
+    assertEquals(1, loadCount.get());
+    // L1 은 역직렬화하지 않은 같은 객체를 반환
+    assertSame(loaded, local);
+    assertEquals(loaded.getTotalElements(), remote.getTotalElements());
+    assertSame(remote, remoteLocal);
+
+    List<TierStats> node1Stats = node1.snapshot();
+    assertEquals(1, node1Stats.get(0).getHitCount());
+    assertEquals(1, node1Stats.get(0).getMissCount());
+    assertEquals(0, node1Stats.get(1).getHitCount());
+    assertEquals(1, node1Stats.get(1).getMissCount());
+
+    List<TierStats> node2Stats = node2.snapshot();
+    assertEquals(1, node2Stats.get(0).getHitCount());
+    assertEquals(1, node2Stats.get(1).getHitCount());
+    assertEquals(0, node2Stats.get(1).getMissCount());
+  }
+
+  @Test
+  @DisplayName("캐시 무효화 : 성공 - 한 노드에서 무효화하면 모든 노드의 L1 이 비워짐")
+  void testInvalidate() throws InterruptedException {
+    get(node1);
+    get(node2);
+
+    cacheGeneration.invalidate(NAMESPACE);
+
+    long deadline = System.currentTimeMillis() + 2000;
+    while ((node1.snapshot().get(0).getSize() > 0 || node2.snapshot().get(0).getSize() > 0)
+        && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+
+    assertEquals(0, node1.snapshot().get(0).getSize());
+    assertEquals(0, node2.snapshot().get(0).getSize());
+    assertTrue(node2.snapshot().get(0).getEvictionCount() >= 1);
+    assertEquals(1, node2.snapshot().get(1).getEvictionCount());
+
+    // 새 세대에서는 다시 DB 에서 조회하고, 다른 노드는 새 세대의 L2 를 사용
+    MainJobPostingDto.Response reloaded = get(node2);
+    MainJobPostingDto.Response remote = get(node1);
+
+    assertEquals(2, loadCount.get());
+    assertEquals(2, reloaded.getTotalElements());
+    assertEquals(2, remote.getTotalElements());
+  }
+
+  @Test
+  @DisplayName("캐시 조회 : 성공 - L2 에서 읽은 숫자도 요청한 타입으로 반환")
+  void testGet_Long() {
+    Long loaded = node1.get(NAMESPACE, "count", Long.class, TTL, () -> 3L);
+    Long remote = node2.get(NAMESPACE, "count", Long.class, TTL, () -> 4L);
+
+    assertEquals(3L, loaded);
+    assertEquals(3L, remote);
+  }
+}
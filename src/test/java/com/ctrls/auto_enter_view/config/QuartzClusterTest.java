@@ -0,0 +1,224 @@
+package com.ctrls.auto_enter_view.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ctrls.auto_enter_view.component.SchedulerLaneMonitor;
+import com.ctrls.auto_enter_view.component.SchedulerLaneMonitor.LaneStats;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.quartz.Job;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.scheduling.quartz.SchedulerFactoryBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 임베디드 H2 에 QRTZ_ 테이블을 만들고 같은 이름의 스케줄러 두 개를 클러스터로 실행, 레인별 스케줄러 분리 확인
+class QuartzClusterTest {
+
+  // 작업 이름 - 실행 횟수
+  private static final Map<String, AtomicInteger> EXECUTIONS = new ConcurrentHashMap<>();
+
+  // 작업 이름 - 실행한 노드 ID
+  private static final Map<String, String> EXECUTED_BY = new ConcurrentHashMap<>();
+
+  private final List<Scheduler> schedulers = new ArrayList<>();
+
+  private DataSource dataSource;
+
+  private SchedulerLaneMonitor schedulerLaneMonitor;
+
+  public static class RecordingJob implements Job {
+
+    @Override
+    public void execute(JobExecutionContext context) throws JobExecutionException {
+      String jobName = context.getJobDetail().getKey().getName();
+
+      EXECUTIONS.computeIfAbsent(jobName, e -> new AtomicInteger()).incrementAndGet();
+      try {
+        EXECUTED_BY.put(jobName, context.getScheduler().getSchedulerInstanceId());
+      } catch (SchedulerException e) {
+        throw new JobExecutionException(e);
+      }
+    }
+  }
+
+  @BeforeEach
+  void setUp() {
+    EXECUTIONS.clear();
+    EXECUTED_BY.clear();
+
+    dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:quartz-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "sa", "");
+
+    // 이미 테이블이 있어도 다시 실행할 수 있어야 함
+    ResourceDatabasePopulator populator = new ResourceDatabasePopulator(
+        new ClassPathResource(QuartzConfig.SCHEMA_LOCATION));
+    populator.execute(dataSource);
+    populator.execute(dataSource);
+
+    schedulerLaneMonitor = new SchedulerLaneMonitor(new JdbcTemplate(dataSource), null);
+    ReflectionTestUtils.setField(schedulerLaneMonitor, "fireLagWarnMillis", 5000L);
+  }
+
+  @AfterEach
+  void tearDown() throws SchedulerException {
+    for (Scheduler scheduler : schedulers) {
+      scheduler.shutdown(true);
+    }
+  }
+
+  private Scheduler startNode(String instanceId) throws Exception {
+
+    Scheduler scheduler = createNode(QuartzConfig.MAIL_SCHEDULER_NAME, instanceId);
+    scheduler.start();
+    return scheduler;
+  }
+
+  private Scheduler createNode(String schedulerName, String instanceId) throws Exception {
+
+    Properties properties = QuartzConfig.quartzProperties(instanceId, 4,
+        Thread.NORM_PRIORITY);
+    // 다른 노드가 등록한 트리거를 빨리 가져오도록 대기 시간 단축
+    properties.setProperty("org.quartz.scheduler.idleWaitTime", "1000");
+    properties.setProperty("org.quartz.jobStore.clusterCheckinInterval", "1000");
+
+    SchedulerFactoryBean schedulerFactory = new SchedulerFactoryBean();
+    schedulerFactory.setSchedulerName(schedulerName);
+    schedulerFactory.setDataSource(dataSource);
+    schedulerFactory.setQuartzProperties(properties);
+    schedulerFactory.setGlobalTriggerListeners(schedulerLaneMonitor.listenerFor(schedulerName));
+    schedulerFactory.setAutoStartup(false);
+    schedulerFactory.afterPropertiesSet();
+
+    Scheduler scheduler = schedulerFactory.getScheduler();
+    schedulers.add(scheduler);
+    return scheduler;
+  }
+
+  private void schedule(Scheduler scheduler, String jobName, Date startTime)
+      throws SchedulerException {
+
+    JobDetail jobDetail = JobBuilder.newJob(RecordingJob.class)
+        .withIdentity(jobName, "testGroup")
+        .build();
+    Trigger trigger = TriggerBuilder.newTrigger()
+        .withIdentity(jobName + "Trigger", "testGroup")
+        .startAt(startTime)
+        .build();
+
+    scheduler.scheduleJob(jobDetail, trigger);
+  }
+
+  private void awaitExecutions(int count) throws InterruptedException {
+
+    long deadline = System.currentTimeMillis() + 20000;
+
+    while (EXECUTIONS.size() < count && System.currentTimeMillis() < deadline) {
+      Thread.sleep(100);
+    }
+  }
+
+  @Test
+  @DisplayName("클러스터 : 두 노드가 같은 트리거를 공유해도 작업은 한 번씩만 실행")
+  void firesEachJobOnceAcrossNodes() throws Exception {
+    Scheduler node1 = startNode("node1");
+    Scheduler node2 = startNode("node2");
+
+    Date startTime = new Date(System.currentTimeMillis() + 1000);
+    for (int i = 0; i < 20; i++) {
+      schedule(i % 2 == 0 ? node1 : node2, "job" + i, startTime);
+    }
+
+    // 다른 노드가 등록한 작업도 같은 테이블에서 조회
+    assertTrue(node1.checkExists(JobKey.jobKey("job1", "testGroup")));
+    assertTrue(node2.checkExists(JobKey.jobKey("job0", "testGroup")));
+
+    awaitExecutions(20);
+    Thread.sleep(1000);
+
+    assertEquals(20, EXECUTIONS.size());
+    EXECUTIONS.forEach((jobName, count) -> assertEquals(1, count.get(), jobName));
+  }
+
+  @Test
+  @DisplayName("클러스터 : 작업을 등록한 노드가 종료되어도 다른 노드가 실행하고, 새로 시작한 노드에서도 작업이 유지")
+  void keepsJobsWhenNodeStops() throws Exception {
+    Scheduler node1 = startNode("node1");
+    startNode("node2");
+
+    schedule(node1, "soonJob", new Date(System.currentTimeMillis() + 2000));
+    schedule(node1, "laterJob", new Date(System.currentTimeMillis() + 3600000));
+
+    node1.shutdown(true);
+    schedulers.remove(node1);
+
+    awaitExecutions(1);
+
+    assertEquals(1, EXECUTIONS.get("soonJob").get());
+    assertEquals("node2", EXECUTED_BY.get("soonJob"));
+
+    // 재시작한 노드에서도 아직 실행되지 않은 작업이 남아 있음
+    Scheduler node3 = startNode("node3");
+    assertTrue(node3.checkExists(JobKey.jobKey("laterJob", "testGroup")));
+  }
+
+  @Test
+  @DisplayName("레인 : 메일 레인과 마감 처리 레인은 작업을 공유하지 않고, 레인별 대기 트리거 수와 발화 지연을 따로 기록")
+  void isolatesLanes() throws Exception {
+    Scheduler mailLane = startNode("node1");
+    // 스레드가 모두 사용 중인 상황처럼 마감 처리 레인은 아직 시작하지 않음
+    Scheduler closingLane = createNode(QuartzConfig.CLOSING_SCHEDULER_NAME, "node1");
+
+    schedule(closingLane, "closingJob", new Date(System.currentTimeMillis() - 2000));
+    schedule(mailLane, "mailJob", new Date());
+
+    awaitExecutions(1);
+
+    assertEquals(Set.of("mailJob"), EXECUTIONS.keySet());
+    assertFalse(mailLane.checkExists(JobKey.jobKey("closingJob", "testGroup")));
+
+    LaneStats mailStats = schedulerLaneMonitor.snapshot(mailLane, true);
+    assertEquals(0, mailStats.getDueTriggerCount());
+    assertEquals(1, mailStats.getFiredCount());
+    assertEquals(4, mailStats.getThreadPoolSize());
+
+    LaneStats closingStats = schedulerLaneMonitor.snapshot(closingLane, false);
+    assertEquals(1, closingStats.getDueTriggerCount());
+    assertEquals(0, closingStats.getFiredCount());
+
+    closingLane.start();
+    awaitExecutions(2);
+
+    closingStats = schedulerLaneMonitor.snapshot(closingLane, false);
+    assertEquals(0, closingStats.getDueTriggerCount());
+    assertEquals(1, closingStats.getFiredCount());
+    assertTrue(closingStats.getMaxFireLagMillis() >= 2000);
+    assertEquals(0, schedulerLaneMonitor.snapshot(mailLane, false).getFiredCount());
+  }
+}
@@ -0,0 +1,141 @@
+package com.ctrls.auto_enter_view.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ctrls.auto_enter_view.entity.CandidateListEntity;
+import com.ctrls.auto_enter_view.entity.JobPostingEntity;
+import com.ctrls.auto_enter_view.entity.MailAlarmInfoEntity;
+import com.ctrls.auto_enter_view.enums.Education;
+import com.ctrls.auto_enter_view.enums.JobCategory;
+import com.ctrls.auto_enter_view.repository.CandidateListRepository;
+import com.ctrls.auto_enter_view.repository.JobPostingRepository;
+import com.ctrls.auto_enter_view.repository.MailAlarmInfoRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// ALTER TABLE 은 트랜잭션을 커밋하므로 테스트 트랜잭션 없이 실행하고, 변경된 스키마는 다른 테스트와 공유하지 않음
+@DataJpaTest
+@DirtiesContext
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SchemaMigrationTest {
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private JobPostingRepository jobPostingRepository;
+
+  @Autowired
+  private CandidateListRepository candidateListRepository;
+
+  @Autowired
+  private MailAlarmInfoRepository mailAlarmInfoRepository;
+
+  private void saveJobPosting(String jobPostingKey, LocalDate endDate) {
+
+    jobPostingRepository.save(JobPostingEntity.builder()
+        .jobPostingKey(jobPostingKey)
+        .companyKey("companyKey")
+        .title("제목")
+        .jobCategory(JobCategory.BACKEND)
+        .education(Education.BACHELOR)
+        .startDate(endDate.minusDays(7))
+        .endDate(endDate)
+        .passingNumber(2)
+        .salary(30000000L)
+        .workTime("무관")
+        .workLocation("주소")
+        .employmentType("인턴")
+        .build());
+  }
+
+  private MailAlarmInfoEntity saveMailAlarm(LocalDateTime mailSendDateTime) {
+
+    return mailAlarmInfoRepository.save(MailAlarmInfoEntity.builder()
+        .interviewScheduleKey("interviewScheduleKey")
+        .jobPostingStepId(1L)
+        .jobPostingKey("jobPostingKey")
+        .mailContent("메일 내용")
+        .mailSendDateTime(mailSendDateTime)
+        .build());
+  }
+
+  private String getStatus(String jobPostingKey) {
+
+    return jdbcTemplate.queryForObject(
+        "SELECT status FROM job_posting WHERE job_posting_key = ?", String.class, jobPostingKey);
+  }
+
+  @Test
+  @DisplayName("채용 공고 상태 컬럼 추가 : 기존 채용 공고는 마감일과 합격자 등록 여부로 상태를 채우고, 이후 기본값은 OPEN")
+  void migrateJobPostingStatus() {
+    LocalDate currentDate = LocalDate.parse("2025-04-10");
+    saveJobPosting("jobPosting1", currentDate.minusDays(1));
+    saveJobPosting("jobPosting2", currentDate);
+    saveJobPosting("jobPosting3", currentDate.plusDays(1));
+    saveJobPosting("jobPosting4", currentDate.plusDays(1));
+    candidateListRepository.save(CandidateListEntity.builder()
+        .candidateListKey("candidateListKey")
+        .jobPostingStepId(1L)
+        .jobPostingKey("jobPosting4")
+        .candidateKey("candidateKey")
+        .candidateName("name")
+        .build());
+
+    // 상태 컬럼이 없던 이전 스키마
+    jdbcTemplate.execute("DROP INDEX idx_job_posting_status_end_date");
+    jdbcTemplate.execute("ALTER TABLE job_posting DROP COLUMN status");
+
+    SchemaMigration schemaMigration = new SchemaMigration(jdbcTemplate);
+    assertTrue(schemaMigration.migrateJobPostingStatus(currentDate));
+
+    // 마감일이 지난 채용 공고는 이미 채점과 필터링이 끝난 것으로 처리
+    assertEquals("FILTERED", getStatus("jobPosting1"));
+    assertEquals("OPEN", getStatus("jobPosting2"));
+    assertEquals("OPEN", getStatus("jobPosting3"));
+    // 합격자가 등록된 채용 공고는 마감일이 남아 있어도 다시 채점하지 않음
+    assertEquals("FILTERED", getStatus("jobPosting4"));
+    assertEquals("'OPEN'", jdbcTemplate.queryForObject("SELECT column_default "
+        + "FROM information_schema.columns WHERE table_name = 'JOB_POSTING' "
+        + "AND column_name = 'STATUS'", String.class));
+
+    // 컬럼이 이미 있으면 다시 실행해도 상태를 바꾸지 않음
+    jdbcTemplate.update("UPDATE job_posting SET status = 'CLOSED' WHERE job_posting_key = ?",
+        "jobPosting2");
+    assertFalse(schemaMigration.migrateJobPostingStatus(currentDate.plusDays(7)));
+    assertEquals("CLOSED", getStatus("jobPosting2"));
+  }
+
+  @Test
+  @DisplayName("예약 메일 발송 시작 시간 컬럼 추가 : 발송 시간이 지난 예약 메일만 발송된 것으로 채움")
+  void migrateMailSentAt() {
+    LocalDateTime now = LocalDateTime.of(2025, 4, 10, 12, 0);
+    Long sentId = saveMailAlarm(now.minusHours(1)).getId();
+    Long scheduledId = saveMailAlarm(now.plusHours(1)).getId();
+
+    // 발송 시작 시간 컬럼이 없던 이전 스키마
+    jdbcTemplate.execute("ALTER TABLE mail_alarm_info DROP COLUMN mail_sent_at");
+
+    SchemaMigration schemaMigration = new SchemaMigration(jdbcTemplate);
+    assertTrue(schemaMigration.migrateMailSentAt(now));
+
+    // 이미 발송된 예약 메일은 재시작 후 다시 발송되지 않음
+    assertEquals(now.minusHours(1),
+        mailAlarmInfoRepository.findById(sentId).orElseThrow().getMailSentAt());
+    assertNull(mailAlarmInfoRepository.findById(scheduledId).orElseThrow().getMailSentAt());
+
+    assertFalse(schemaMigration.migrateMailSentAt(now.plusDays(1)));
+    assertNull(mailAlarmInfoRepository.findById(scheduledId).orElseThrow().getMailSentAt());
+  }
+}
@@ -0,0 +1,56 @@
+package com.ctrls.auto_enter_view.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ctrls.auto_enter_view.component.ClosingSweepJob;
+import com.ctrls.auto_enter_view.component.MailComponent;
+import com.ctrls.auto_enter_view.component.MailJob;
+import com.ctrls.auto_enter_view.component.S3ImageUpload;
+import com.ctrls.auto_enter_view.controller.JobPostingController;
+import com.ctrls.auto_enter_view.exception.GlobalExceptionHandler;
+import com.ctrls.auto_enter_view.security.SecurityConfig;
+import com.ctrls.auto_enter_view.service.FilteringService;
+import com.ctrls.auto_enter_view.service.JobPostingService;
+import com.ctrls.auto_enter_view.service.MailAlarmInfoService;
+import com.ctrls.auto_enter_view.service.ScoringService;
+import java.io.IOException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
+
+class WorkerTypeExcludeFilterTest {
+
+  private final WorkerTypeExcludeFilter filter = new WorkerTypeExcludeFilter();
+  private final MetadataReaderFactory metadataReaderFactory = new SimpleMetadataReaderFactory();
+
+  private boolean excluded(Class<?> type) throws IOException {
+    return filter.match(metadataReaderFactory.getMetadataReader(type.getName()),
+        metadataReaderFactory);
+  }
+
+  @Test
+  @DisplayName("작업 전용 노드 : API 에만 필요한 빈은 제외")
+  void testMatch_ExcludesWebOnlyBeans() throws IOException {
+    assertTrue(excluded(JobPostingController.class));
+    assertTrue(excluded(GlobalExceptionHandler.class));
+    assertTrue(excluded(SecurityConfig.class));
+    assertTrue(excluded(SwaggerConfig.class));
+    assertTrue(excluded(S3ImageUpload.class));
+    assertTrue(excluded(JobPostingService.class));
+  }
+
+  @Test
+  @DisplayName("작업 전용 노드 : 스케줄러와 채점, 필터링, 메일 발송 빈은 유지")
+  void testMatch_KeepsWorkerBeans() throws IOException {
+    assertFalse(excluded(QuartzConfig.class));
+    assertFalse(excluded(RedisConfig.class));
+    assertFalse(excluded(ClosingSweepJob.class));
+    assertFalse(excluded(MailJob.class));
+    assertFalse(excluded(MailComponent.class));
+    assertFalse(excluded(ScoringService.class));
+    assertFalse(excluded(FilteringService.class));
+    assertFalse(excluded(MailAlarmInfoService.class));
+  }
+}
@@ -0,0 +1,435 @@
+package com.ctrls.auto_enter_view.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ctrls.auto_enter_view.component.scoring.CareerRule;
+import com.ctrls.auto_enter_view.component.scoring.CertificateRule;
+import com.ctrls.auto_enter_view.component.scoring.EducationRule;
+import com.ctrls.auto_enter_view.component.scoring.ExperienceRule;
+import com.ctrls.auto_enter_view.component.scoring.PortfolioRule;
+import com.ctrls.auto_enter_view.component.scoring.ScoringPlan;
+import com.ctrls.auto_enter_view.component.scoring.ScoringPlanCompiler;
+import com.ctrls.auto_enter_view.component.scoring.TechStackRule;
+import com.ctrls.auto_enter_view.entity.ApplicantEntity;
+import com.ctrls.auto_enter_view.entity.AppliedJobPostingEntity;
+import com.ctrls.auto_enter_view.entity.CandidateEntity;
+import com.ctrls.auto_enter_view.entity.JobPostingEntity;
+import com.ctrls.auto_enter_view.entity.JobPostingTechStackEntity;
+import com.ctrls.auto_enter_view.entity.ResumeCareerEntity;
+import com.ctrls.auto_enter_view.entity.ResumeCertificateEntity;
+import com.ctrls.auto_enter_view.entity.ResumeEntity;
+import com.ctrls.auto_enter_view.entity.ResumeExperienceEntity;
+import com.ctrls.auto_enter_view.entity.ResumeFeatureEntity;
+import com.ctrls.auto_enter_view.entity.ResumeTechStackEntity;
+import com.ctrls.auto_enter_view.entity.ScoreBreakdown;
+import com.ctrls.auto_enter_view.entity.ScoreHistogram;
+import com.ctrls.auto_enter_view.enums.Education;
+import com.ctrls.auto_enter_view.enums.JobCategory;
+import com.ctrls.auto_enter_view.enums.JobPostingStatus;
+import com.ctrls.auto_enter_view.enums.PriorityType;
+import com.ctrls.auto_enter_view.enums.TechStack;
+import com.ctrls.auto_enter_view.enums.UserRole;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+@DataJpaTest
+class ApplicantRepositoryImplTest {
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private ApplicantRepository applicantRepository;
+
+  @Autowired
+  private JobPostingRepository jobPostingRepository;
+
+  private final ScoringPlanCompiler scoringPlanCompiler = new ScoringPlanCompiler(List.of(
+      new EducationRule(), new ExperienceRule(), new CertificateRule(), new PortfolioRule(),
+      new TechStackRule(), new CareerRule()));
+
+  private final List<TechStack> jobPostingTechStacks = List.of(TechStack.JAVA,
+      TechStack.SPRING_BOOT, TechStack.MYSQL);
+
+  // 이력서 키 - JAVA 채점에 사용할 채점용 이력서 정보
+  private final Map<String, ResumeFeatureEntity> resumeFeatures = new HashMap<>();
+
+  private JobPostingEntity jobPosting(String jobPostingKey, Education education, int career,
+      List<PriorityType> priority) {
+
+    JobPostingEntity jobPostingEntity = JobPostingEntity.builder()
+        .jobPostingKey(jobPostingKey)
+        .companyKey("companyKey")
+        .title("제목")
+        .jobCategory(JobCategory.BACKEND)
+        .education(education)
+        .startDate(LocalDate.parse("2025-04-02"))
+        .endDate(LocalDate.parse("2025-04-05"))
+        .passingNumber(2)
+        .career(career)
+        .salary(30000000L)
+        .workTime("무관")
+        .workLocation("주소")
+        .employmentType("인턴")
+        .priority(priority)
+        .build();
+
+    entityManager.persist(jobPostingEntity);
+    jobPostingTechStacks.forEach(e -> entityManager.persist(
+        JobPostingTechStackEntity.builder().jobPostingKey(jobPostingKey).techName(e).build()));
+
+    return jobPostingEntity;
+  }
+
+  private void resume(String candidateKey, Education education, String portfolio,
+      List<TechStack> techStacks, int certificateCount, int experienceCount,
+      List<ResumeCareerEntity> careers) {
+
+    String resumeKey = "resume-" + candidateKey;
+
+    ResumeEntity resumeEntity = ResumeEntity.builder()
+        .resumeKey(resumeKey)
+        .candidateKey(candidateKey)
+        .education(education)
+        .portfolio(portfolio)
+        .build();
+    entityManager.persist(resumeEntity);
+
+    techStacks.forEach(e -> entityManager.persist(
+        ResumeTechStackEntity.builder().resumeKey(resumeKey).techStackName(e).build()));
+
+    for (int i = 0; i < certificateCount; i++) {
+      entityManager.persist(ResumeCertificateEntity.builder().resumeKey(resumeKey)
+          .certificateName("자격증" + i).build());
+    }
+
+    for (int i = 0; i < experienceCount; i++) {
+      entityManager.persist(ResumeExperienceEntity.builder().resumeKey(resumeKey)
+          .experienceName("경험" + i).startDate(LocalDate.now()).endDate(LocalDate.now()).build());
+    }
+
+    List<ResumeCareerEntity> resumeCareers = new ArrayList<>();
+    for (ResumeCareerEntity career : careers) {
+      ResumeCareerEntity resumeCareer = ResumeCareerEntity.builder()
+          .resumeKey(resumeKey)
+          .jobCategory(career.getJobCategory())
+          .calculatedCareer(career.getCalculatedCareer())
+          .build();
+      entityManager.persist(resumeCareer);
+      resumeCareers.add(resumeCareer);
+    }
+
+    resumeFeatures.put(candidateKey, ResumeFeatureEntity.of(resumeEntity, techStacks,
+        certificateCount, experienceCount, resumeCareers));
+  }
+
+  private ResumeCareerEntity career(JobCategory jobCategory, int calculatedCareer) {
+
+    return ResumeCareerEntity.builder()
+        .jobCategory(jobCategory)
+        .calculatedCareer(calculatedCareer)
+        .build();
+  }
+
+  // 공통 이력서 fixture
+  private void resumes() {
+    resume("candidate1", Education.MASTER, "https://portfolio",
+        List.of(TechStack.JAVA, TechStack.MYSQL, TechStack.REACT), 2, 1,
+        List.of(career(JobCategory.BACKEND, 3), career(JobCategory.BACKEND, 1),
+            career(JobCategory.FRONTEND, 5)));
+    resume("candidate2", Education.HIGH_SCHOOL, "", List.of(TechStack.PYTHON), 0, 0,
+        List.of());
+    resume("candidate3", Education.BACHELOR, null,
+        List.of(TechStack.JAVA, TechStack.SPRING_BOOT), 3, 2,
+        List.of(career(JobCategory.BACKEND, 2), career(JobCategory.BACKEND, 6)));
+    resume("candidate4", Education.DOCTORATE, "https://portfolio", List.of(), 1, 0,
+        List.of(career(JobCategory.FULL, 4)));
+  }
+
+  private List<ApplicantEntity> apply(String jobPostingKey) {
+
+    List<ApplicantEntity> applicantEntities = new ArrayList<>();
+
+    for (String candidateKey : List.of("candidate1", "candidate2", "candidate3", "candidate4",
+        "noResume")) {
+      ApplicantEntity applicantEntity = ApplicantEntity.builder()
+          .jobPostingKey(jobPostingKey)
+          .candidateKey(candidateKey)
+          .build();
+      entityManager.persist(applicantEntity);
+      applicantEntities.add(applicantEntity);
+    }
+
+    return applicantEntities;
+  }
+
+  // SQL 채점 결과가 JAVA 채점 계획의 점수와 같은지 확인
+  private void assertSameAsJavaScoring(JobPostingEntity jobPostingEntity) {
+    List<ApplicantEntity> applicantEntities = apply(jobPostingEntity.getJobPostingKey());
+    entityManager.flush();
+
+    int updatedCount = applicantRepository.updateScoresInDatabase(jobPostingEntity,
+        scoringPlanCompiler.getWeight(jobPostingEntity, PriorityType.EDUCATION),
+        scoringPlanCompiler.getWeight(jobPostingEntity, PriorityType.TECH_STACK),
+        scoringPlanCompiler.getWeight(jobPostingEntity, PriorityType.CAREER));
+    entityManager.clear();
+
+    ScoringPlan scoringPlan = scoringPlanCompiler.compile(jobPostingEntity,
+        TechStack.toMask(jobPostingTechStacks));
+
+    assertEquals(resumeFeatures.size(), updatedCount);
+
+    for (ApplicantEntity applicantEntity : applicantEntities) {
+      ApplicantEntity scored = entityManager.find(ApplicantEntity.class, applicantEntity.getId());
+      ResumeFeatureEntity resumeFeature = resumeFeatures.get(scored.getCandidateKey());
+
+      if (resumeFeature == null) {
+        // 이력서가 없는 지원자는 채점하지 않음
+        assertNull(scored.getScoredAt());
+        assertEquals(0, scored.getScore());
+      } else {
+        assertNotNull(scored.getScoredAt());
+        assertEquals(scoringPlan.total(scoringPlan.breakdown(resumeFeature)), scored.getScore(),
+            scored.getCandidateKey());
+
+        // 재채점에 쓰이는 항목별 점수도 JAVA 채점과 같아야 함
+        ScoreBreakdown expected = scoringPlan.breakdown(resumeFeature);
+        ScoreBreakdown actual = scored.getScoreBreakdown();
+        assertEquals(expected.getBaseScore(), actual.getBaseScore());
+        assertEquals(expected.getEducationScore(), actual.getEducationScore());
+        assertEquals(expected.getCareerScore(), actual.getCareerScore());
+        assertEquals(expected.getTechStackScore(), actual.getTechStackScore());
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("SQL 채점 : JAVA 채점과 같은 점수 - 학력, 경력 조건이 있는 채용 공고")
+  void updateScoresInDatabase_SameAsJava() {
+    resumes();
+
+    assertSameAsJavaScoring(jobPosting("jobPosting1", Education.BACHELOR, 2, List.of()));
+  }
+
+  @Test
+  @DisplayName("SQL 채점 : JAVA 채점과 같은 점수 - 우선순위 가중치 적용")
+  void updateScoresInDatabase_SameAsJava_Priority() {
+    resumes();
+
+    assertSameAsJavaScoring(jobPosting("jobPosting2", Education.ASSOCIATE, 1,
+        List.of(PriorityType.CAREER, PriorityType.TECH_STACK, PriorityType.EDUCATION)));
+  }
+
+  @Test
+  @DisplayName("SQL 채점 : JAVA 채점과 같은 점수 - 학력 무관, 경력 무관")
+  void updateScoresInDatabase_SameAsJava_NoRequirements() {
+    resumes();
+
+    assertSameAsJavaScoring(jobPosting("jobPosting3", Education.NONE, -1,
+        List.of(PriorityType.EDUCATION)));
+  }
+
+  @Test
+  @DisplayName("SQL 채점 : 지원 시점 점수가 유효한 지원자는 다시 계산하지 않음")
+  void updateScoresInDatabase_SkipFreshScores() {
+    resumes();
+    JobPostingEntity jobPostingEntity = jobPosting("jobPosting4", Education.BACHELOR, 2,
+        List.of());
+
+    ApplicantEntity applicantEntity = ApplicantEntity.builder()
+        .jobPostingKey("jobPosting4")
+        .candidateKey("candidate1")
+        .score(7)
+        // 같은 초에 채점된 지원자도 총점이 덮어써지지 않음
+        .scoredAt(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS))
+        .build();
+    entityManager.persistAndFlush(applicantEntity);
+
+    int updatedCount = applicantRepository.updateScoresInDatabase(jobPostingEntity, 1, 1, 1);
+    entityManager.clear();
+
+    assertEquals(0, updatedCount);
+    assertEquals(7, entityManager.find(ApplicantEntity.class, applicantEntity.getId()).getScore());
+  }
+
+  @Test
+  @DisplayName("점수 분포 집계 : 점수별 개수로 히스토그램 생성")
+  void aggregateScoreHistogram() {
+    for (int score : new int[]{3, 3, 12, 400}) {
+      entityManager.persist(ApplicantEntity.builder()
+          .jobPostingKey("jobPosting5")
+          .candidateKey("candidate" + score)
+          .score(score)
+          .build());
+    }
+    entityManager.flush();
+
+    ScoreHistogram scoreHistogram = applicantRepository.aggregateScoreHistogram("jobPosting5");
+
+    assertEquals(4, scoreHistogram.getScoreCount());
+    assertEquals(418, scoreHistogram.getScoreSum());
+    assertEquals(3, scoreHistogram.getMinScore());
+    assertEquals(400, scoreHistogram.getMaxScore());
+    assertEquals(2, scoreHistogram.getBucketCounts()[0]);
+    assertEquals(1, scoreHistogram.getBucketCounts()[2]);
+    // 마지막 구간은 그 이상의 모든 점수를 포함
+    assertEquals(1, scoreHistogram.getBucketCounts()[ScoreHistogram.BUCKET_COUNT - 1]);
+  }
+
+  @Test
+  @DisplayName("상위 지원자 조회 : 점수가 높은 순서, 같다면 지원한 순서로 등록 가능한 limit 명만 조회")
+  void findTopRankedApplicants() {
+    int[] scores = {50, 90, 70, 90, 60, 100, 95};
+
+    for (int i = 0; i < scores.length; i++) {
+      entityManager.persist(ApplicantEntity.builder()
+          .jobPostingKey("jobPosting6")
+          .candidateKey("candidate" + i)
+          .score(scores[i])
+          .build());
+
+      // 100점 지원자는 탈퇴, 95점 지원자는 지원 정보가 없음
+      if (scores[i] != 100) {
+        entityManager.persist(CandidateEntity.builder()
+            .candidateKey("candidate" + i)
+            .name("name" + i)
+            .email("candidate" + i + "@example.com")
+            .password("Password123!")
+            .phoneNumber("010-0000-0000")
+            .role(UserRole.ROLE_CANDIDATE)
+            .build());
+      }
+      if (scores[i] != 95) {
+        entityManager.persist(AppliedJobPostingEntity.builder()
+            .jobPostingKey("jobPosting6")
+            .candidateKey("candidate" + i)
+            .title("제목")
+            .build());
+      }
+    }
+    entityManager.flush();
+
+    List<ApplicantEntity> topApplicants = applicantRepository
+        .findTopRankedByJobPostingKey("jobPosting6", Limit.of(3));
+
+    assertEquals(List.of(90, 90, 70), topApplicants.stream().map(ApplicantEntity::getScore)
+        .toList());
+    assertTrue(topApplicants.get(0).getId() < topApplicants.get(1).getId());
+  }
+
+  @Test
+  @DisplayName("채용 공고 수정 점수 무효화 : 채점 대상으로 표시하고 바뀐 항목 점수만 지움")
+  void invalidateScores() {
+    ApplicantEntity applicantEntity = ApplicantEntity.builder()
+        .jobPostingKey("jobPosting9")
+        .candidateKey("candidate")
+        .score(46)
+        .scoredAt(LocalDateTime.now())
+        .scoreBreakdown(new ScoreBreakdown(6, 20, 10, 10))
+        .build();
+    entityManager.persist(applicantEntity);
+    entityManager.persist(ApplicantEntity.builder()
+        .jobPostingKey("jobPosting10")
+        .candidateKey("candidate")
+        .scoredAt(LocalDateTime.now())
+        .build());
+    entityManager.flush();
+
+    assertEquals(1, applicantRepository.invalidateScores("jobPosting9",
+        EnumSet.of(PriorityType.EDUCATION, PriorityType.TECH_STACK)));
+    entityManager.clear();
+
+    ApplicantEntity invalidated = applicantRepository.findById(applicantEntity.getId())
+        .orElseThrow();
+    assertNull(invalidated.getScoredAt());
+    assertEquals(EnumSet.of(PriorityType.EDUCATION, PriorityType.TECH_STACK),
+        invalidated.getScoreBreakdown().clearedComponents());
+    assertEquals(6, invalidated.getScoreBreakdown().getBaseScore());
+    assertEquals(10, invalidated.getScoreBreakdown().getCareerScore());
+    // 다시 채점할 때까지 이전 점수는 유지
+    assertEquals(46, invalidated.getScore());
+  }
+
+  @Test
+  @DisplayName("분산 채점 파티션 : partitionSize 명마다의 마지막 지원자 ID 조회")
+  void findPartitionBoundaries() {
+    List<Long> applicantIds = new ArrayList<>();
+
+    for (int i = 0; i < 5; i++) {
+      ApplicantEntity applicantEntity = ApplicantEntity.builder()
+          .jobPostingKey("jobPosting7")
+          .candidateKey("candidate" + i)
+          .build();
+      entityManager.persist(applicantEntity);
+      applicantIds.add(applicantEntity.getId());
+    }
+    entityManager.persist(ApplicantEntity.builder()
+        .jobPostingKey("jobPosting8")
+        .candidateKey("candidate")
+        .build());
+    entityManager.flush();
+
+    // 5명을 2명씩 나누면 2번째, 4번째 지원자 ID, 남은 1명은 마지막 파티션
+    assertEquals(List.of(applicantIds.get(1), applicantIds.get(3)),
+        applicantRepository.findPartitionBoundaries("jobPosting7", 2));
+  }
+
+  @Test
+  @DisplayName("이력서 삭제 : OPEN 채용 공고의 지원 점수만 0점으로 되돌리고 마감 후 채점 대상으로 표시")
+  void resetOpenScoresByCandidateKey() {
+    jobPosting("jobPosting9", Education.NONE, -1, List.of());
+    jobPosting("jobPosting10", Education.NONE, -1, List.of());
+    entityManager.flush();
+    jobPostingRepository.updateStatus("jobPosting10", JobPostingStatus.OPEN,
+        JobPostingStatus.CLOSED);
+
+    ScoreBreakdown scoreBreakdown = new ScoreBreakdown(3, 5, 10, 10);
+    List<Long> applicantIds = new ArrayList<>();
+
+    for (String jobPostingKey : List.of("jobPosting9", "jobPosting10")) {
+      ApplicantEntity applicantEntity = ApplicantEntity.builder()
+          .jobPostingKey(jobPostingKey)
+          .candidateKey("candidate1")
+          .score(28)
+          .scoreBreakdown(scoreBreakdown)
+          .scoredAt(LocalDateTime.now())
+          .build();
+      entityManager.persist(applicantEntity);
+      applicantIds.add(applicantEntity.getId());
+    }
+    entityManager.flush();
+
+    // 마감일과 상관없이 OPEN 상태인 채용 공고만 조회
+    assertEquals(List.of(applicantIds.get(0)),
+        applicantRepository.findAllOpenByCandidateKey("candidate1").stream()
+            .map(ApplicantEntity::getId).toList());
+
+    assertEquals(1, applicantRepository.resetOpenScoresByCandidateKey("candidate1"));
+    entityManager.clear();
+
+    ApplicantEntity reset = entityManager.find(ApplicantEntity.class, applicantIds.get(0));
+    assertEquals(0, reset.getScore());
+    assertNull(reset.getScoredAt());
+    assertNull(reset.getScoreBreakdown());
+
+    // 마감 처리 중인 채용 공고의 점수는 그대로 유지
+    ApplicantEntity closed = entityManager.find(ApplicantEntity.class, applicantIds.get(1));
+    assertEquals(28, closed.getScore());
+    assertNotNull(closed.getScoredAt());
+  }
+}
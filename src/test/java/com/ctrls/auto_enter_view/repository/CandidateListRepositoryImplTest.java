@@ -0,0 +1,96 @@
+package com.ctrls.auto_enter_view.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import com.ctrls.auto_enter_view.entity.AppliedJobPostingEntity;
+import com.ctrls.auto_enter_view.entity.CandidateEntity;
+import com.ctrls.auto_enter_view.entity.CandidateListEntity;
+import com.ctrls.auto_enter_view.enums.UserRole;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+@DataJpaTest
+class CandidateListRepositoryImplTest {
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private CandidateListRepository candidateListRepository;
+
+  @Autowired
+  private CandidateRepository candidateRepository;
+
+  @Autowired
+  private AppliedJobPostingRepository appliedJobPostingRepository;
+
+  private void apply(String candidateKey, String jobPostingKey) {
+
+    entityManager.persist(CandidateEntity.builder()
+        .candidateKey(candidateKey)
+        .name("name-" + candidateKey)
+        .email(candidateKey + "@example.com")
+        .password("Password123!")
+        .phoneNumber("010-0000-0000")
+        .role(UserRole.ROLE_CANDIDATE)
+        .build());
+    entityManager.persist(AppliedJobPostingEntity.builder()
+        .candidateKey(candidateKey)
+        .jobPostingKey(jobPostingKey)
+        .stepName("지원 완료")
+        .build());
+  }
+
+  @Test
+  @DisplayName("합격자 일괄 등록 : 이름 IN 조회, batch INSERT, 단계명 일괄 UPDATE")
+  void promoteCandidatesInBulk() {
+    apply("candidate1", "jobPosting1");
+    apply("candidate2", "jobPosting1");
+    apply("candidate3", "jobPosting1");
+    entityManager.flush();
+
+    List<String> candidateKeys = List.of("candidate1", "candidate3");
+
+    Map<String, String> candidateNames = new HashMap<>();
+    for (Object[] row : candidateRepository.findCandidateNamesByCandidateKeyIn(candidateKeys)) {
+      candidateNames.put((String) row[0], (String) row[1]);
+    }
+
+    candidateListRepository.batchInsert(candidateKeys.stream()
+        .map(e -> CandidateListEntity.builder()
+            .candidateListKey("list-" + e)
+            .jobPostingStepId(1L)
+            .jobPostingKey("jobPosting1")
+            .candidateKey(e)
+            .candidateName(candidateNames.get(e))
+            .build())
+        .toList());
+
+    int updatedCount = appliedJobPostingRepository.updateStepNameByJobPostingKeyAndCandidateKeyIn(
+        "서류 단계", "jobPosting1", candidateKeys);
+    entityManager.clear();
+
+    assertEquals(2, updatedCount);
+
+    List<CandidateListEntity> candidateLists = candidateListRepository
+        .findAllByJobPostingKeyAndJobPostingStepId("jobPosting1", 1L);
+    assertEquals(2, candidateLists.size());
+    assertEquals("name-candidate1", candidateListRepository.findById("list-candidate1")
+        .orElseThrow().getCandidateName());
+    assertNotNull(candidateLists.get(0).getCreatedAt());
+
+    assertEquals("서류 단계", appliedJobPostingRepository
+        .findByCandidateKeyAndJobPostingKey("candidate3", "jobPosting1").orElseThrow()
+        .getStepName());
+    assertEquals("지원 완료", appliedJobPostingRepository
+        .findByCandidateKeyAndJobPostingKey("candidate2", "jobPosting1").orElseThrow()
+        .getStepName());
+  }
+}
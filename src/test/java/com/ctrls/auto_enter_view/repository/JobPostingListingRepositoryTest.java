@@ -0,0 +1,87 @@
+package com.ctrls.auto_enter_view.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.ctrls.auto_enter_view.entity.JobPostingListingEntity;
+import com.ctrls.auto_enter_view.enums.Education;
+import com.ctrls.auto_enter_view.enums.JobCategory;
+import com.ctrls.auto_enter_view.enums.TechStack;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+@DataJpaTest
+class JobPostingListingRepositoryTest {
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private JobPostingListingRepository jobPostingListingRepository;
+
+  private void persistListing(String jobPostingKey, String companyKey, LocalDate endDate) {
+
+    entityManager.persist(JobPostingListingEntity.builder()
+        .jobPostingKey(jobPostingKey)
+        .companyKey(companyKey)
+        .companyName("회사")
+        .title("제목")
+        .jobCategory(JobCategory.BACKEND)
+        .education(Education.BACHELOR)
+        .endDate(endDate)
+        .techStack(List.of(TechStack.JAVA, TechStack.SPRING_BOOT))
+        .build());
+  }
+
+  private List<String> keys(List<JobPostingListingEntity> listings) {
+
+    return listings.stream()
+        .map(JobPostingListingEntity::getJobPostingKey)
+        .toList();
+  }
+
+  @Test
+  @DisplayName("채용 공고 목록 커서 조회 : 마감일이 같으면 채용 공고 키 순서로 이어서 조회하고, 마감일이 지난 채용 공고는 제외")
+  void findAllAfterCursor() {
+    LocalDate currentDate = LocalDate.parse("2025-04-10");
+    persistListing("jobPosting1", "companyKey", currentDate.plusDays(1));
+    persistListing("jobPosting2", "companyKey", currentDate);
+    persistListing("jobPosting3", "companyKey", currentDate.plusDays(1));
+    persistListing("jobPosting4", "companyKey", currentDate.plusDays(2));
+    persistListing("jobPosting5", "companyKey", currentDate.minusDays(1));
+    entityManager.flush();
+    entityManager.clear();
+
+    assertEquals(List.of("jobPosting2", "jobPosting1"), keys(jobPostingListingRepository
+        .findAllAfterCursor(currentDate, currentDate, "", Limit.of(2))));
+    assertEquals(List.of("jobPosting3", "jobPosting4"), keys(jobPostingListingRepository
+        .findAllAfterCursor(currentDate, currentDate.plusDays(1), "jobPosting1", Limit.of(2))));
+    assertEquals(4, jobPostingListingRepository.countByEndDateGreaterThanEqual(currentDate));
+
+    // 기술 스택은 순서를 유지한 채 저장
+    assertEquals(List.of(TechStack.JAVA, TechStack.SPRING_BOOT),
+        jobPostingListingRepository.findById("jobPosting1").orElseThrow().getTechStack());
+  }
+
+  @Test
+  @DisplayName("채용 공고 목록 삭제 : 탈퇴한 회사와 마감일이 지난 채용 공고만 삭제")
+  void deleteAllByCompanyKeyAndEndDateBefore() {
+    LocalDate currentDate = LocalDate.parse("2025-04-10");
+    persistListing("jobPosting1", "companyKey1", currentDate);
+    persistListing("jobPosting2", "companyKey2", currentDate);
+    persistListing("jobPosting3", "companyKey2", currentDate.minusDays(1));
+    persistListing("jobPosting4", "companyKey1", currentDate.minusDays(1));
+    entityManager.flush();
+    entityManager.clear();
+
+    assertEquals(2, jobPostingListingRepository.deleteAllByCompanyKey("companyKey1"));
+    assertEquals(1, jobPostingListingRepository.deleteAllByEndDateBefore(currentDate));
+
+    assertEquals(List.of("jobPosting2"), keys(jobPostingListingRepository.findAll()));
+  }
+}
@@ -0,0 +1,153 @@
+package com.ctrls.auto_enter_view.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.ctrls.auto_enter_view.dto.jobPosting.JobPostingDto;
+import com.ctrls.auto_enter_view.entity.JobPostingEntity;
+import com.ctrls.auto_enter_view.entity.ScoringProgressEntity;
+import com.ctrls.auto_enter_view.enums.Education;
+import com.ctrls.auto_enter_view.enums.JobCategory;
+import com.ctrls.auto_enter_view.enums.JobPostingStatus;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+@DataJpaTest
+class JobPostingRepositoryTest {
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private JobPostingRepository jobPostingRepository;
+
+  private void persistJobPosting(String jobPostingKey, LocalDate endDate) {
+
+    entityManager.persist(JobPostingEntity.builder()
+        .jobPostingKey(jobPostingKey)
+        .companyKey("companyKey")
+        .title("제목")
+        .jobCategory(JobCategory.BACKEND)
+        .education(Education.BACHELOR)
+        .startDate(endDate.minusDays(7))
+        .endDate(endDate)
+        .passingNumber(2)
+        .salary(30000000L)
+        .workTime("무관")
+        .workLocation("주소")
+        .employmentType("인턴")
+        .build());
+  }
+
+  private JobPostingStatus getStatus(String jobPostingKey) {
+
+    return jobPostingRepository.findByJobPostingKey(jobPostingKey).orElseThrow().getStatus();
+  }
+
+  @Test
+  @DisplayName("채용 공고 상태 : 마감일이 지난 채용 공고만 마감되고, 이전 상태가 일치할 때만 다음 상태로 변경")
+  void closeAndAdvanceStatus() {
+    LocalDate currentDate = LocalDate.parse("2025-04-10");
+    persistJobPosting("jobPosting1", currentDate.minusDays(1));
+    persistJobPosting("jobPosting2", currentDate.minusDays(2));
+    persistJobPosting("jobPosting3", currentDate);
+    entityManager.flush();
+    entityManager.clear();
+
+    assertEquals(2, jobPostingRepository.closeExpiredJobPostings(currentDate));
+    // 이미 마감된 채용 공고는 다시 변경되지 않음
+    assertEquals(0, jobPostingRepository.closeExpiredJobPostings(currentDate));
+
+    assertEquals(List.of("jobPosting1", "jobPosting2"), jobPostingRepository
+        .findAllJobPostingKeysByStatusIn(List.of(JobPostingStatus.CLOSED), "", Limit.of(10)));
+    assertEquals(List.of("jobPosting2"), jobPostingRepository
+        .findAllJobPostingKeysByStatusIn(List.of(JobPostingStatus.CLOSED), "jobPosting1",
+            Limit.of(10)));
+
+    assertEquals(1, jobPostingRepository.updateStatus("jobPosting1", JobPostingStatus.CLOSED,
+        JobPostingStatus.SCORED));
+    assertEquals(1, jobPostingRepository.updateStatus("jobPosting1", JobPostingStatus.SCORED,
+        JobPostingStatus.FILTERED));
+    // 이미 필터링된 채용 공고와 채점되지 않은 채용 공고는 필터링 상태로 변경되지 않음
+    assertEquals(0, jobPostingRepository.updateStatus("jobPosting1", JobPostingStatus.SCORED,
+        JobPostingStatus.FILTERED));
+    assertEquals(0, jobPostingRepository.updateStatus("jobPosting2", JobPostingStatus.SCORED,
+        JobPostingStatus.FILTERED));
+
+    // 채점이나 필터링이 끝나지 않은 채용 공고만 조회
+    assertEquals(List.of("jobPosting2"), jobPostingRepository.findAllJobPostingKeysByStatusIn(
+        List.of(JobPostingStatus.CLOSED, JobPostingStatus.SCORED), "", Limit.of(10)));
+    entityManager.clear();
+
+    assertEquals(JobPostingStatus.FILTERED, getStatus("jobPosting1"));
+    assertEquals(JobPostingStatus.CLOSED, getStatus("jobPosting2"));
+    assertEquals(JobPostingStatus.OPEN, getStatus("jobPosting3"));
+  }
+
+  @Test
+  @DisplayName("마감 처리 대상 조회 : 마감 처리에 maxFailureCount 번 실패한 채용 공고는 제외")
+  void findAllRetryableJobPostingKeys() {
+    LocalDate currentDate = LocalDate.parse("2025-04-10");
+    persistJobPosting("jobPosting1", currentDate.minusDays(1));
+    persistJobPosting("jobPosting2", currentDate.minusDays(1));
+    persistJobPosting("jobPosting3", currentDate.minusDays(1));
+    entityManager.persist(ScoringProgressEntity.builder()
+        .jobPostingKey("jobPosting1")
+        .failureCount(2)
+        .build());
+    entityManager.persist(ScoringProgressEntity.builder()
+        .jobPostingKey("jobPosting2")
+        .failureCount(3)
+        .build());
+    entityManager.flush();
+    jobPostingRepository.closeExpiredJobPostings(currentDate);
+
+    assertEquals(List.of("jobPosting1", "jobPosting3"), jobPostingRepository
+        .findAllRetryableJobPostingKeysByStatusIn(List.of(JobPostingStatus.CLOSED), 3, "",
+            Limit.of(10)));
+    assertEquals(List.of("jobPosting3"), jobPostingRepository
+        .findAllRetryableJobPostingKeysByStatusIn(List.of(JobPostingStatus.CLOSED), 2,
+            "", Limit.of(10)));
+  }
+
+  @Test
+  @DisplayName("채용 공고 상태 : 읽어 둔 채용 공고를 수정해도 마감 처리에서 변경한 상태를 덮어쓰지 않음")
+  void editDoesNotOverwriteStatus() {
+    LocalDate currentDate = LocalDate.parse("2025-04-10");
+    persistJobPosting("jobPosting1", currentDate);
+    entityManager.flush();
+    entityManager.clear();
+
+    JobPostingEntity jobPostingEntity = jobPostingRepository.findByJobPostingKey("jobPosting1")
+        .orElseThrow();
+
+    // 수정하는 동안 마감 처리가 상태를 변경
+    assertEquals(1, jobPostingRepository.updateStatus("jobPosting1", JobPostingStatus.OPEN,
+        JobPostingStatus.CLOSED));
+
+    jobPostingEntity.updateEntity(JobPostingDto.Request.builder()
+        .title("수정된 제목")
+        .jobCategory(JobCategory.BACKEND)
+        .education(Education.BACHELOR)
+        .startDate(currentDate.minusDays(7))
+        .endDate(currentDate.plusDays(7))
+        .passingNumber(2)
+        .salary(30000000L)
+        .workTime("무관")
+        .workLocation("주소")
+        .employmentType("인턴")
+        .build());
+    entityManager.flush();
+    entityManager.clear();
+
+    JobPostingEntity edited = jobPostingRepository.findByJobPostingKey("jobPosting1")
+        .orElseThrow();
+    assertEquals("수정된 제목", edited.getTitle());
+    assertEquals(JobPostingStatus.CLOSED, edited.getStatus());
+  }
+}
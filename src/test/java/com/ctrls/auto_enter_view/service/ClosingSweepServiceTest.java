@@ -0,0 +1,91 @@
+package com.ctrls.auto_enter_view.service;
+
+import static com.ctrls.auto_enter_view.enums.JobPostingStatus.CLOSED;
+import static com.ctrls.auto_enter_view.enums.JobPostingStatus.FILTERED;
+import static com.ctrls.auto_enter_view.enums.JobPostingStatus.SCORED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ctrls.auto_enter_view.component.ClosingPipelineExecutor;
+import com.ctrls.auto_enter_view.component.ClosingPipelineExecutor.Result;
+import com.ctrls.auto_enter_view.enums.JobPostingStatus;
+import com.ctrls.auto_enter_view.repository.JobPostingRepository;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ClosingSweepServiceTest {
+
+  @Mock
+  private ClosingPipelineExecutor closingPipelineExecutor;
+
+  @Mock
+  private JobPostingRepository jobPostingRepository;
+
+  @InjectMocks
+  private ClosingSweepService closingSweepService;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(closingSweepService, "batchSize", 2);
+    ReflectionTestUtils.setField(closingSweepService, "maxFailureCount", 5);
+  }
+
+  private Result result(String jobPostingKey, JobPostingStatus status) {
+
+    return Result.builder().jobPostingKey(jobPostingKey).status(status).build();
+  }
+
+  @Test
+  @DisplayName("마감 처리 : 성공 - 마감된 채용 공고를 묶음 단위로 채점하고 바로 필터링")
+  void testSweep_Success() {
+    LocalDate currentDate = LocalDate.now();
+
+    when(jobPostingRepository.closeExpiredJobPostings(currentDate)).thenReturn(3);
+    when(jobPostingRepository.findAllRetryableJobPostingKeysByStatusIn(EnumSet.of(CLOSED, SCORED), 5, "",
+        Limit.of(2))).thenReturn(List.of("jobPosting1", "jobPosting2"));
+    when(jobPostingRepository.findAllRetryableJobPostingKeysByStatusIn(EnumSet.of(CLOSED, SCORED),
+        5, "jobPosting2", Limit.of(2))).thenReturn(List.of("jobPosting3"));
+    when(closingPipelineExecutor.runAll(List.of("jobPosting1", "jobPosting2")))
+        .thenReturn(List.of(result("jobPosting1", FILTERED), result("jobPosting2", FILTERED)));
+    when(closingPipelineExecutor.runAll(List.of("jobPosting3")))
+        .thenReturn(List.of(result("jobPosting3", FILTERED)));
+
+    int filteredCount = closingSweepService.sweep();
+
+    assertEquals(3, filteredCount);
+  }
+
+  @Test
+  @DisplayName("마감 처리 : 성공 - 채점이나 필터링에 실패한 채용 공고는 상태를 유지하고 다음 실행에서 다시 처리")
+  void testSweep_SkipFailures() {
+    LocalDate currentDate = LocalDate.now();
+
+    when(jobPostingRepository.closeExpiredJobPostings(currentDate)).thenReturn(0);
+    when(jobPostingRepository.findAllRetryableJobPostingKeysByStatusIn(EnumSet.of(CLOSED, SCORED), 5, "",
+        Limit.of(2))).thenReturn(List.of("jobPosting1", "jobPosting2"));
+    when(jobPostingRepository.findAllRetryableJobPostingKeysByStatusIn(eq(EnumSet.of(CLOSED, SCORED)),
+        eq(5), eq("jobPosting2"), any(Limit.class))).thenReturn(List.of());
+    when(closingPipelineExecutor.runAll(List.of("jobPosting1", "jobPosting2")))
+        .thenReturn(List.of(result("jobPosting1", CLOSED), result("jobPosting2", SCORED)));
+
+    int filteredCount = closingSweepService.sweep();
+
+    assertEquals(0, filteredCount);
+    verify(closingPipelineExecutor, never()).runAll(List.of());
+  }
+}
@@ -19,6 +19,8 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.ctrls.auto_enter_view.component.CacheGeneration;
+import com.ctrls.auto_enter_view.component.JobPostingListingUpdater;
 import com.ctrls.auto_enter_view.component.KeyGenerator;
 import com.ctrls.auto_enter_view.component.MailComponent;
 import com.ctrls.auto_enter_view.dto.common.SignInDto;
@@ -27,9 +29,11 @@ import com.ctrls.auto_enter_view.entity.CompanyEntity;
 import com.ctrls.auto_enter_view.enums.ErrorCode;
 import com.ctrls.auto_enter_view.enums.UserRole;
 import com.ctrls.auto_enter_view.exception.CustomException;
+import com.ctrls.auto_enter_view.repository.ApplicantRepository;
 import com.ctrls.auto_enter_view.repository.CandidateRepository;
 import com.ctrls.auto_enter_view.repository.CompanyInfoRepository;
 import com.ctrls.auto_enter_view.repository.CompanyRepository;
+import com.ctrls.auto_enter_view.repository.ResumeFeatureRepository;
 import com.ctrls.auto_enter_view.repository.ResumeRepository;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -49,9 +53,15 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @ExtendWith(MockitoExtension.class)
 class CommonUserServiceTest {
 
+  @Mock
+  private ApplicantRepository applicantRepository;
+
   @Mock
   private CompanyInfoRepository companyInfoRepository;
 
+  @Mock
+  private ResumeFeatureRepository resumeFeatureRepository;
+
   @Mock
   private ResumeRepository resumeRepository;
 
@@ -79,6 +89,12 @@ class CommonUserServiceTest {
   @Mock
   private KeyGenerator keyGenerator;
 
+  @Mock
+  private JobPostingListingUpdater jobPostingListingUpdater;
+
+  @Mock
+  private CacheGeneration cacheGeneration;
+
   @InjectMocks
   private CommonUserService commonUserService;
 
@@ -495,6 +511,8 @@ class CommonUserServiceTest {
     //then
     verify(candidateRepository, times(1)).delete(candidateEntity);
     verify(resumeRepository, times(1)).deleteByCandidateKey(key);
+    verify(resumeFeatureRepository, times(1)).deleteByCandidateKey(key);
+    verify(applicantRepository, times(1)).resetOpenScoresByCandidateKey(key);
 
   }
 
@@ -523,6 +541,8 @@ class CommonUserServiceTest {
     //then
     verify(companyRepository, times(1)).delete(companyEntity);
     verify(companyInfoRepository, times(1)).deleteByCompanyKey(key);
+    verify(jobPostingListingUpdater, times(1)).deleteAllByCompanyKey(key);
+    verify(cacheGeneration, times(1)).invalidate("mainJobPostings");
 
   }
 
@@ -2,14 +2,17 @@ package com.ctrls.auto_enter_view.service;
 
 
 import static com.ctrls.auto_enter_view.enums.ErrorCode.COMPANY_NOT_FOUND;
+import static com.ctrls.auto_enter_view.enums.ErrorCode.INVALID_CURSOR;
 import static com.ctrls.auto_enter_view.enums.ErrorCode.JOB_POSTING_HAS_CANDIDATES;
 import static com.ctrls.auto_enter_view.enums.ErrorCode.JOB_POSTING_NOT_FOUND;
 import static com.ctrls.auto_enter_view.enums.ErrorCode.JOB_POSTING_STEP_NOT_FOUND;
 import static com.ctrls.auto_enter_view.enums.ErrorCode.NO_AUTHORITY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.contains;
@@ -22,12 +25,16 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.ctrls.auto_enter_view.component.CacheGeneration;
+import com.ctrls.auto_enter_view.component.JobPostingListingUpdater;
 import com.ctrls.auto_enter_view.component.KeyGenerator;
 import com.ctrls.auto_enter_view.component.MailComponent;
+import com.ctrls.auto_enter_view.component.TwoTierCache;
 import com.ctrls.auto_enter_view.dto.common.JobPostingDetailDto;
 import com.ctrls.auto_enter_view.dto.common.MainJobPostingDto;
 import com.ctrls.auto_enter_view.dto.jobPosting.JobPostingDto;
 import com.ctrls.auto_enter_view.dto.jobPosting.JobPostingDto.Request;
+import com.ctrls.auto_enter_view.dto.jobPosting.ScoreDistributionDto;
 import com.ctrls.auto_enter_view.entity.ApplicantEntity;
 import com.ctrls.auto_enter_view.entity.AppliedJobPostingEntity;
 import com.ctrls.auto_enter_view.entity.CandidateEntity;
@@ -35,11 +42,16 @@ import com.ctrls.auto_enter_view.entity.CandidateListEntity;
 import com.ctrls.auto_enter_view.entity.CompanyEntity;
 import com.ctrls.auto_enter_view.entity.JobPostingEntity;
 import com.ctrls.auto_enter_view.entity.JobPostingImageEntity;
+import com.ctrls.auto_enter_view.entity.JobPostingListingEntity;
 import com.ctrls.auto_enter_view.entity.JobPostingStepEntity;
 import com.ctrls.auto_enter_view.entity.JobPostingTechStackEntity;
+import com.ctrls.auto_enter_view.entity.ScoreDistributionEntity;
+import com.ctrls.auto_enter_view.entity.ScoreHistogram;
 import com.ctrls.auto_enter_view.enums.Education;
 import com.ctrls.auto_enter_view.enums.ErrorCode;
 import com.ctrls.auto_enter_view.enums.JobCategory;
+import com.ctrls.auto_enter_view.enums.JobPostingStatus;
+import com.ctrls.auto_enter_view.enums.PriorityType;
 import com.ctrls.auto_enter_view.enums.TechStack;
 import com.ctrls.auto_enter_view.enums.UserRole;
 import com.ctrls.auto_enter_view.exception.CustomException;
@@ -49,17 +61,21 @@ import com.ctrls.auto_enter_view.repository.CandidateListRepository;
 import com.ctrls.auto_enter_view.repository.CandidateRepository;
 import com.ctrls.auto_enter_view.repository.CompanyRepository;
 import com.ctrls.auto_enter_view.repository.JobPostingImageRepository;
+import com.ctrls.auto_enter_view.repository.JobPostingListingRepository;
 import com.ctrls.auto_enter_view.repository.JobPostingRepository;
 import com.ctrls.auto_enter_view.repository.JobPostingStepRepository;
 import com.ctrls.auto_enter_view.repository.JobPostingTechStackRepository;
+import com.ctrls.auto_enter_view.repository.ScoreDistributionRepository;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -67,13 +83,12 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -91,7 +106,7 @@ class JobPostingServiceTest {
   private JobPostingTechStackRepository jobPostingTechStackRepository;
 
   @Mock
-  private FilteringService filteringService;
+  private ScoringService scoringService;
 
   @Mock
   private CandidateListRepository candidateListRepository;
@@ -108,6 +123,9 @@ class JobPostingServiceTest {
   @Mock
   private ApplicantRepository applicantRepository;
 
+  @Mock
+  private ScoreDistributionRepository scoreDistributionRepository;
+
   @Mock
   private AppliedJobPostingRepository appliedJobPostingRepository;
 
@@ -118,7 +136,16 @@ class JobPostingServiceTest {
   private KeyGenerator keyGenerator;
 
   @Mock
-  private RedisTemplate<String, Object> redisObjectTemplate;
+  private JobPostingListingRepository jobPostingListingRepository;
+
+  @Mock
+  private JobPostingListingUpdater jobPostingListingUpdater;
+
+  @Mock
+  private CacheGeneration cacheGeneration;
+
+  @Mock
+  private TwoTierCache twoTierCache;
 
   @InjectMocks
   private JobPostingService jobPostingService;
@@ -155,11 +182,9 @@ class JobPostingServiceTest {
 
     when(companyRepository.findByCompanyKey(companyKey)).thenReturn(
         Optional.of(companyEntity));
+    when(jobPostingRepository.save(any(JobPostingEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
     // Redis 관련 mock 설정
-    Set<String> mockCacheKeys = new HashSet<>();
-    mockCacheKeys.add("mainJobPostings:1");
-    when(redisObjectTemplate.keys(anyString())).thenReturn(mockCacheKeys);
 
     ArgumentCaptor<JobPostingEntity> captor = ArgumentCaptor.forClass(JobPostingEntity.class);
 
@@ -184,9 +209,11 @@ class JobPostingServiceTest {
     assertEquals(request.getJobPostingContent(), captorValue.getJobPostingContent());
     assertEquals(request.getPassingNumber(), captorValue.getPassingNumber());
 
+    // 목록 읽기 모델 갱신 검증
+    verify(jobPostingListingUpdater, times(1)).refresh(captorValue);
+
     // 캐시 무효화 검증
-    verify(redisObjectTemplate, times(1)).keys("mainJobPostings:*");
-    verify(redisObjectTemplate, times(1)).delete(mockCacheKeys);
+    verify(cacheGeneration, times(1)).invalidate("mainJobPostings");
   }
 
   @Test
@@ -298,16 +325,10 @@ class JobPostingServiceTest {
     when(jobPostingStepRepository.findFirstByJobPostingKeyOrderByIdAsc(jobPostingKey))
         .thenReturn(Optional.of(jobPostingStepEntity));
 
-    doNothing().when(filteringService).unscheduleResumeScoringJob(jobPostingKey);
-    doNothing().when(filteringService)
-        .scheduleResumeScoringJob(jobPostingKey, request.getEndDate());
     doNothing().when(mailComponent)
         .sendHtmlMail(anyString(), anyString(), anyString(), anyBoolean());
 
     // Redis 캐시 관련 설정 추가
-    Set<String> mockCacheKeys = new HashSet<>();
-    mockCacheKeys.add("mainJobPostings:1");
-    when(redisObjectTemplate.keys(anyString())).thenReturn(mockCacheKeys);
 
     jobPostingService.editJobPosting(userDetails, jobPostingKey, request);
 
@@ -315,9 +336,6 @@ class JobPostingServiceTest {
     verify(companyRepository, times(1)).findByEmail(userDetails.getUsername());
     verify(candidateListRepository, times(1)).findAllByJobPostingKeyAndJobPostingStepId(
         eq(jobPostingKey), eq(1L));
-    verify(filteringService, times(1)).unscheduleResumeScoringJob(jobPostingKey);
-    verify(filteringService, times(1)).scheduleResumeScoringJob(jobPostingKey,
-        request.getEndDate());
     verify(mailComponent, times(1)).sendHtmlMail(
         eq("candidate@example.com"),
         eq("채용 공고 수정 알림 : " + jobPostingEntity.getTitle()),
@@ -325,10 +343,128 @@ class JobPostingServiceTest {
         eq(true)
     );
 
+    // 목록 읽기 모델 갱신 검증
+    verify(jobPostingListingUpdater, times(1)).refresh(jobPostingEntity);
+
     // Redis 캐시 무효화 검증 추가
-    verify(redisObjectTemplate, times(1)).keys("mainJobPostings:*");
-    verify(redisObjectTemplate, times(1)).delete(mockCacheKeys);
+    verify(cacheGeneration, times(1)).invalidate("mainJobPostings");
+
+  }
+
+  @Test
+  @DisplayName("채용 공고 수정하기 : 성공 - 우선순위를 입력하지 않아도 저장된 우선순위가 없으면 재채점하지 않음")
+  void editJobPosting_NoPriority_NoRescore() {
+    String jobPostingKey = "jobPostingKey";
+
+    UserDetails userDetails = mock(UserDetails.class);
+    when(userDetails.getUsername()).thenReturn("test@example.com");
+
+    // DB 에서 읽은 우선순위 없는 채용 공고는 빈 목록
+    JobPostingEntity jobPostingEntity = JobPostingEntity.builder()
+        .jobPostingKey(jobPostingKey)
+        .companyKey("companyKey")
+        .jobCategory(JobCategory.BACKEND)
+        .career(0)
+        .education(Education.BACHELOR)
+        .endDate(LocalDate.now().plusDays(7))
+        .priority(List.of())
+        .build();
+
+    JobPostingDto.Request request = JobPostingDto.Request.builder()
+        .jobCategory(JobCategory.BACKEND)
+        .career(0)
+        .education(Education.BACHELOR)
+        .endDate(LocalDate.now().plusDays(7))
+        .build();
+
+    when(jobPostingRepository.findByJobPostingKey(jobPostingKey))
+        .thenReturn(Optional.of(jobPostingEntity));
+    when(jobPostingStepRepository.findFirstByJobPostingKeyOrderByIdAsc(jobPostingKey))
+        .thenReturn(Optional.of(JobPostingStepEntity.builder().id(1L).build()));
+    when(candidateListRepository.findAllByJobPostingKeyAndJobPostingStepId(jobPostingKey, 1L))
+        .thenReturn(Collections.emptyList());
+    when(companyRepository.findByEmail("test@example.com"))
+        .thenReturn(Optional.of(CompanyEntity.builder().companyKey("companyKey").build()));
+
+    jobPostingService.editJobPosting(userDetails, jobPostingKey, request);
+
+    verify(scoringService, never()).invalidateScores(any(), any());
+    assertEquals(List.of(), jobPostingEntity.getPriority());
+  }
+
+  @Test
+  @DisplayName("채용 공고 수정하기 : 성공 - 학력 조건이 바뀌면 다시 채점하지 않고 학력 점수만 무효화")
+  void editJobPosting_EducationChanged_InvalidateScores() {
+    String jobPostingKey = "jobPostingKey";
+
+    UserDetails userDetails = mock(UserDetails.class);
+    when(userDetails.getUsername()).thenReturn("test@example.com");
+
+    JobPostingEntity jobPostingEntity = JobPostingEntity.builder()
+        .jobPostingKey(jobPostingKey)
+        .companyKey("companyKey")
+        .jobCategory(JobCategory.BACKEND)
+        .career(0)
+        .education(Education.BACHELOR)
+        .endDate(LocalDate.now().plusDays(7))
+        .priority(List.of())
+        .build();
 
+    JobPostingDto.Request request = JobPostingDto.Request.builder()
+        .jobCategory(JobCategory.BACKEND)
+        .career(0)
+        .education(Education.MASTER)
+        .endDate(LocalDate.now().plusDays(7))
+        .build();
+
+    when(jobPostingRepository.findByJobPostingKey(jobPostingKey))
+        .thenReturn(Optional.of(jobPostingEntity));
+    when(jobPostingStepRepository.findFirstByJobPostingKeyOrderByIdAsc(jobPostingKey))
+        .thenReturn(Optional.of(JobPostingStepEntity.builder().id(1L).build()));
+    when(candidateListRepository.findAllByJobPostingKeyAndJobPostingStepId(jobPostingKey, 1L))
+        .thenReturn(Collections.emptyList());
+    when(companyRepository.findByEmail("test@example.com"))
+        .thenReturn(Optional.of(CompanyEntity.builder().companyKey("companyKey").build()));
+
+    jobPostingService.editJobPosting(userDetails, jobPostingKey, request);
+
+    verify(scoringService, times(1)).invalidateScores(jobPostingKey,
+        EnumSet.of(PriorityType.EDUCATION));
+  }
+
+  @Test
+  @DisplayName("채용 공고 수정하기 : 실패 - JOB_POSTING_CLOSED")
+  void editJobPosting_ClosedFailure() {
+    String jobPostingKey = "jobPostingKey";
+
+    UserDetails userDetails = mock(UserDetails.class);
+    when(userDetails.getUsername()).thenReturn("test@example.com");
+
+    JobPostingEntity jobPostingEntity = JobPostingEntity.builder()
+        .jobPostingKey(jobPostingKey)
+        .companyKey("companyKey")
+        .endDate(LocalDate.now().minusDays(1))
+        .status(JobPostingStatus.CLOSED)
+        .build();
+
+    JobPostingDto.Request request = JobPostingDto.Request.builder()
+        .endDate(LocalDate.now().plusDays(7))
+        .build();
+
+    when(jobPostingRepository.findByJobPostingKey(jobPostingKey))
+        .thenReturn(Optional.of(jobPostingEntity));
+    when(jobPostingStepRepository.findFirstByJobPostingKeyOrderByIdAsc(jobPostingKey))
+        .thenReturn(Optional.of(JobPostingStepEntity.builder().id(1L).build()));
+    when(candidateListRepository.findAllByJobPostingKeyAndJobPostingStepId(jobPostingKey, 1L))
+        .thenReturn(Collections.emptyList());
+    when(companyRepository.findByEmail("test@example.com"))
+        .thenReturn(Optional.of(CompanyEntity.builder().companyKey("companyKey").build()));
+
+    CustomException exception = assertThrows(CustomException.class,
+        () -> jobPostingService.editJobPosting(userDetails, jobPostingKey, request));
+
+    assertEquals(ErrorCode.JOB_POSTING_CLOSED, exception.getErrorCode());
+    verify(jobPostingListingUpdater, never()).refresh(any(JobPostingEntity.class));
   }
 
   @Test
@@ -459,9 +595,6 @@ class JobPostingServiceTest {
         Optional.of(jobPostingStepEntity));
 
     // Redis 캐시 관련 설정 추가
-    Set<String> mockCacheKeys = new HashSet<>();
-    mockCacheKeys.add("mainJobPostings:1");
-    when(redisObjectTemplate.keys(anyString())).thenReturn(mockCacheKeys);
 
     //when
     jobPostingService.deleteJobPosting(userDetails, jobPostingKey);
@@ -469,10 +602,10 @@ class JobPostingServiceTest {
     //then
     verify(jobPostingRepository, times(1)).deleteByJobPostingKey(jobPostingKey);
     assertEquals(companyEntity.getCompanyKey(), jobPostingEntity.getCompanyKey());
+    verify(jobPostingListingUpdater, times(1)).delete(jobPostingKey);
 
     // Redis 캐시 무효화 검증 추가
-    verify(redisObjectTemplate, times(1)).keys("mainJobPostings:*");
-    verify(redisObjectTemplate, times(1)).delete(mockCacheKeys);
+    verify(cacheGeneration, times(1)).invalidate("mainJobPostings");
 
   }
 
@@ -676,101 +809,51 @@ class JobPostingServiceTest {
     assertEquals(NO_AUTHORITY, customException.getErrorCode());
   }
 
+  // 캐시가 없는 경우 : 캐시가 loader 를 실행하여 DB 에서 조회
+  private void givenMainJobPostingsCacheMiss() {
+    when(twoTierCache.get(eq("mainJobPostings"), eq("1-10"), eq(MainJobPostingDto.Response.class),
+        any(Duration.class), any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(4)).get());
+  }
+
   @Test
   @DisplayName("Main 화면 채용 공고 조회 - 성공 : 캐시 데이터가 없는 경우")
   void getAllJobPosting_success() {
     // given
     int page = 1;
     int size = 10;
-    Pageable pageable = PageRequest.of(page - 1, size, Sort.by("endDate").ascending());
+    Pageable pageable = PageRequest.of(page - 1, size,
+        Sort.by("endDate").ascending().and(Sort.by("jobPostingKey")));
     LocalDate currentDate = LocalDate.now();
 
-    JobPostingEntity jobPosting1 = JobPostingEntity.builder()
+    JobPostingListingEntity listing1 = JobPostingListingEntity.builder()
         .jobPostingKey("jobPostingKey1")
         .companyKey("companyKey1")
+        .companyName("테스트 회사 1")
         .title("테스트 채용 공고 1")
         .jobCategory(JobCategory.BACKEND)
-        .career(3)
-        .workLocation("서울")
         .education(Education.BACHELOR)
-        .employmentType("정규직")
-        .salary(50000000L)
-        .workTime("유연근무제")
-        .startDate(LocalDate.now())
-        .endDate(LocalDate.now().plusDays(30))
-        .passingNumber(5)
-        .jobPostingContent("상세 내용 1")
+        .career(3)
+        .endDate(LocalDate.now().plusDays(20))
+        .techStack(List.of(TechStack.HTML5, TechStack.PYTHON))
         .build();
 
-    JobPostingEntity jobPosting2 = JobPostingEntity.builder()
+    JobPostingListingEntity listing2 = JobPostingListingEntity.builder()
         .jobPostingKey("jobPostingKey2")
         .companyKey("companyKey2")
+        .companyName("테스트 회사 2")
         .title("테스트 채용 공고 2")
         .jobCategory(JobCategory.FRONTEND)
-        .career(2)
-        .workLocation("서울")
         .education(Education.BACHELOR)
-        .employmentType("정규직")
-        .salary(45000000L)
-        .workTime("유연근무제")
-        .startDate(LocalDate.now())
-        .endDate(LocalDate.now().plusDays(20))
-        .passingNumber(3)
-        .jobPostingContent("상세 내용 2")
+        .career(2)
+        .endDate(LocalDate.now().plusDays(30))
+        .techStack(List.of(TechStack.REACT, TechStack.CPP))
         .build();
 
-    List<JobPostingEntity> jobPostings = Arrays.asList(jobPosting1, jobPosting2);
-    Page<JobPostingEntity> jobPostingPage = new PageImpl<>(jobPostings, pageable, jobPostings.size());
+    List<JobPostingListingEntity> listings = Arrays.asList(listing1, listing2);
+    Page<JobPostingListingEntity> listingPage = new PageImpl<>(listings, pageable, listings.size());
 
-    CompanyEntity company1 = CompanyEntity.builder()
-        .companyKey("companyKey1")
-        .email("test1@company.com")
-        .password("password1")
-        .companyName("테스트 회사 1")
-        .companyNumber("123-456-7890")
-        .role(UserRole.ROLE_COMPANY)
-        .build();
-
-    CompanyEntity company2 = CompanyEntity.builder()
-        .companyKey("companyKey2")
-        .email("test2@company.com")
-        .password("password2")
-        .companyName("테스트 회사 2")
-        .companyNumber("987-654-3210")
-        .role(UserRole.ROLE_COMPANY)
-        .build();
-
-    List<JobPostingTechStackEntity> techStacks1 = Arrays.asList(
-        JobPostingTechStackEntity.builder()
-            .jobPostingKey("jobPostingKey1")
-            .techName(TechStack.HTML5)
-            .build(),
-        JobPostingTechStackEntity.builder()
-            .jobPostingKey("jobPostingKey1")
-            .techName(TechStack.PYTHON)
-            .build()
-    );
-
-    List<JobPostingTechStackEntity> techStacks2 = Arrays.asList(
-        JobPostingTechStackEntity.builder()
-            .jobPostingKey("jobPostingKey2")
-            .techName(TechStack.REACT)
-            .build(),
-        JobPostingTechStackEntity.builder()
-            .jobPostingKey("jobPostingKey2")
-            .techName(TechStack.CPP)
-            .build()
-    );
-
-    when(jobPostingRepository.findByEndDateGreaterThanEqual(currentDate, pageable)).thenReturn(jobPostingPage);
-    when(companyRepository.findByCompanyKey("companyKey1")).thenReturn(Optional.of(company1));
-    when(companyRepository.findByCompanyKey("companyKey2")).thenReturn(Optional.of(company2));
-    when(jobPostingTechStackRepository.findAllByJobPostingKey("jobPostingKey1")).thenReturn(techStacks1);
-    when(jobPostingTechStackRepository.findAllByJobPostingKey("jobPostingKey2")).thenReturn(techStacks2);
-
-    ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
-    when(redisObjectTemplate.opsForValue()).thenReturn(valueOperations);
-    when(valueOperations.get(anyString())).thenReturn(null);
+    when(jobPostingListingRepository.findAllByEndDateGreaterThanEqual(currentDate, pageable)).thenReturn(listingPage);
+    givenMainJobPostingsCacheMiss();
 
     // when
     MainJobPostingDto.Response response = jobPostingService.getAllJobPosting(page, size);
@@ -785,31 +868,23 @@ class JobPostingServiceTest {
     assertEquals("jobPostingKey1", firstJobPosting.getJobPostingKey());
     assertEquals("테스트 회사 1", firstJobPosting.getCompanyName());
     assertEquals("테스트 채용 공고 1", firstJobPosting.getTitle());
-    assertEquals(LocalDate.now().plusDays(30), firstJobPosting.getEndDate());
-    assertEquals(2, firstJobPosting.getTechStack().size());
-    assertTrue(firstJobPosting.getTechStack().contains(TechStack.HTML5));
-    assertTrue(firstJobPosting.getTechStack().contains(TechStack.PYTHON));
+    assertEquals(LocalDate.now().plusDays(20), firstJobPosting.getEndDate());
+    assertEquals(List.of(TechStack.HTML5, TechStack.PYTHON), firstJobPosting.getTechStack());
 
     MainJobPostingDto.JobPostingMainInfo secondJobPosting = response.getJobPostingsList().get(1);
     assertEquals("jobPostingKey2", secondJobPosting.getJobPostingKey());
     assertEquals("테스트 회사 2", secondJobPosting.getCompanyName());
     assertEquals("테스트 채용 공고 2", secondJobPosting.getTitle());
-    assertEquals(LocalDate.now().plusDays(20), secondJobPosting.getEndDate());
-    assertEquals(2, secondJobPosting.getTechStack().size());
-    assertTrue(secondJobPosting.getTechStack().contains(TechStack.REACT));
-    assertTrue(secondJobPosting.getTechStack().contains(TechStack.CPP));
-
-    // Redis 캐시 저장 확인
-    ArgumentCaptor<MainJobPostingDto.Response> responseCaptor = ArgumentCaptor.forClass(MainJobPostingDto.Response.class);
-    verify(redisObjectTemplate.opsForValue()).set(
-        eq("mainJobPostings:1-10"),
-        responseCaptor.capture(),
-        eq(30L),
-        eq(TimeUnit.MINUTES)
-    );
+    assertEquals(LocalDate.now().plusDays(30), secondJobPosting.getEndDate());
+    assertEquals(List.of(TechStack.REACT, TechStack.CPP), secondJobPosting.getTechStack());
+
+    // 목록 읽기 모델만 조회하고 회사, 기술 스택은 조회하지 않음
+    verify(companyRepository, never()).findByCompanyKey(anyString());
+    verify(jobPostingTechStackRepository, never()).findAllByJobPostingKey(anyString());
 
-    MainJobPostingDto.Response capturedResponse = responseCaptor.getValue();
-    assertEquals(response, capturedResponse);
+    // 캐시 조회 확인
+    verify(twoTierCache).get(eq("mainJobPostings"), eq("1-10"), eq(MainJobPostingDto.Response.class),
+        eq(Duration.ofMinutes(30)), any());
   }
 
   @Test
@@ -818,17 +893,16 @@ class JobPostingServiceTest {
     // given
     int page = 1;
     int size = 10;
-    Pageable pageable = PageRequest.of(page - 1, size, Sort.by("endDate").ascending());
+    Pageable pageable = PageRequest.of(page - 1, size,
+        Sort.by("endDate").ascending().and(Sort.by("jobPostingKey")));
     LocalDate currentDate = LocalDate.now();
 
-    Page<JobPostingEntity> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
+    Page<JobPostingListingEntity> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
 
-    when(jobPostingRepository.findByEndDateGreaterThanEqual(currentDate, pageable)).thenReturn(emptyPage);
+    when(jobPostingListingRepository.findAllByEndDateGreaterThanEqual(currentDate, pageable)).thenReturn(emptyPage);
 
-    // Redis 관련 모의 객체 설정
-    ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
-    when(redisObjectTemplate.opsForValue()).thenReturn(valueOperations);
-    when(valueOperations.get(anyString())).thenReturn(null);
+    // 캐시 모의 객체 설정
+    givenMainJobPostingsCacheMiss();
 
     // when
     MainJobPostingDto.Response response = jobPostingService.getAllJobPosting(page, size);
@@ -839,17 +913,9 @@ class JobPostingServiceTest {
     assertEquals(0, response.getTotalPages());
     assertEquals(0, response.getTotalElements());
 
-    // Redis 캐시 저장 확인
-    ArgumentCaptor<MainJobPostingDto.Response> responseCaptor = ArgumentCaptor.forClass(MainJobPostingDto.Response.class);
-    verify(valueOperations).set(
-        eq("mainJobPostings:1-10"),
-        responseCaptor.capture(),
-        eq(30L),
-        eq(TimeUnit.MINUTES)
-    );
-
-    MainJobPostingDto.Response capturedResponse = responseCaptor.getValue();
-    assertEquals(response, capturedResponse);
+    // 캐시 조회 확인
+    verify(twoTierCache).get(eq("mainJobPostings"), eq("1-10"), eq(MainJobPostingDto.Response.class),
+        eq(Duration.ofMinutes(30)), any());
 
   }
 
@@ -859,7 +925,6 @@ class JobPostingServiceTest {
     // given
     int page = 1;
     int size = 10;
-    String cacheKey = "mainJobPostings:1-10";
 
     MainJobPostingDto.JobPostingMainInfo cachedJobPosting = MainJobPostingDto.JobPostingMainInfo.builder()
         .jobPostingKey("cachedJobPostingKey")
@@ -875,9 +940,8 @@ class JobPostingServiceTest {
         .totalElements(1)
         .build();
 
-    ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
-    when(redisObjectTemplate.opsForValue()).thenReturn(valueOperations);
-    when(valueOperations.get(cacheKey)).thenReturn(cachedResponse);
+    when(twoTierCache.get(eq("mainJobPostings"), eq("1-10"), eq(MainJobPostingDto.Response.class),
+        any(Duration.class), any())).thenReturn(cachedResponse);
 
     // when
     MainJobPostingDto.Response response = jobPostingService.getAllJobPosting(page, size);
@@ -886,9 +950,7 @@ class JobPostingServiceTest {
     assertNotNull(response);
     assertEquals(cachedResponse, response);
 
-
-    verify(valueOperations).get(cacheKey);
-    verify(valueOperations, never()).set(eq(cacheKey), eq(cachedResponse), eq(30L), eq(TimeUnit.MINUTES));
+    verify(jobPostingListingRepository, never()).findAllByEndDateGreaterThanEqual(any(), any());
   }
 
   @Test
@@ -897,7 +959,6 @@ class JobPostingServiceTest {
     // given
     int page = 1;
     int size = 10;
-    String cacheKey = "mainJobPostings:1-10";
 
     MainJobPostingDto.Response cachedEmptyResponse = MainJobPostingDto.Response.builder()
         .jobPostingsList(Collections.emptyList())
@@ -905,9 +966,8 @@ class JobPostingServiceTest {
         .totalElements(0)
         .build();
 
-    ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
-    when(redisObjectTemplate.opsForValue()).thenReturn(valueOperations);
-    when(valueOperations.get(cacheKey)).thenReturn(cachedEmptyResponse);
+    when(twoTierCache.get(eq("mainJobPostings"), eq("1-10"), eq(MainJobPostingDto.Response.class),
+        any(Duration.class), any())).thenReturn(cachedEmptyResponse);
 
     // when
     MainJobPostingDto.Response response = jobPostingService.getAllJobPosting(page, size);
@@ -916,9 +976,83 @@ class JobPostingServiceTest {
     assertNotNull(response);
     assertEquals(cachedEmptyResponse, response);
 
-    verify(valueOperations).get(cacheKey);
+    verify(jobPostingListingRepository, never()).findAllByEndDateGreaterThanEqual(any(), any());
+  }
+
+  @Test
+  @DisplayName("Main 화면 채용 공고 커서 조회 - 성공 : 다음 페이지 커서로 이어서 조회")
+  void getAllJobPostingByCursor_success() {
+    // given
+    LocalDate currentDate = LocalDate.now();
+    List<JobPostingListingEntity> listings = new ArrayList<>();
+    for (int i = 1; i <= 3; i++) {
+      listings.add(JobPostingListingEntity.builder()
+          .jobPostingKey("jobPostingKey" + i)
+          .companyKey("companyKey1")
+          .companyName("테스트 회사 1")
+          .title("테스트 채용 공고 " + i)
+          .endDate(currentDate.plusDays(1))
+          .techStack(List.of(TechStack.JAVA))
+          .build());
+    }
+
+    when(twoTierCache.get(eq("mainJobPostings"), anyString(), eq(MainJobPostingDto.CursorResponse.class),
+        any(Duration.class), any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(4)).get());
+    when(jobPostingListingRepository.findAllAfterCursor(currentDate, currentDate, "", Limit.of(3)))
+        .thenReturn(listings);
+    when(jobPostingListingRepository.findAllAfterCursor(currentDate, currentDate.plusDays(1), "jobPostingKey2", Limit.of(3)))
+        .thenReturn(listings.subList(2, 3));
+
+    // when
+    MainJobPostingDto.CursorResponse firstPage = jobPostingService.getAllJobPostingByCursor(null, 2, false);
+    MainJobPostingDto.CursorResponse secondPage = jobPostingService.getAllJobPostingByCursor(firstPage.getNextCursor(), 2, false);
+
+    // then
+    assertEquals(2, firstPage.getJobPostingsList().size());
+    assertEquals("jobPostingKey1", firstPage.getJobPostingsList().get(0).getJobPostingKey());
+    assertNotNull(firstPage.getNextCursor());
+    assertNull(firstPage.getTotalElements());
+
+    assertEquals(1, secondPage.getJobPostingsList().size());
+    assertEquals("jobPostingKey3", secondPage.getJobPostingsList().get(0).getJobPostingKey());
+    assertNull(secondPage.getNextCursor());
+
+    verify(jobPostingListingRepository, never()).countByEndDateGreaterThanEqual(any());
+  }
+
+  @Test
+  @DisplayName("Main 화면 채용 공고 커서 조회 - 성공 : 전체 수는 따로 캐싱된 값 사용")
+  void getAllJobPostingByCursor_withTotal() {
+    // given
+    MainJobPostingDto.CursorResponse cachedResponse = MainJobPostingDto.CursorResponse.builder()
+        .jobPostingsList(Collections.emptyList())
+        .build();
+
+    when(twoTierCache.get(eq("mainJobPostings"), eq("cursor-24-"), eq(MainJobPostingDto.CursorResponse.class),
+        any(Duration.class), any())).thenReturn(cachedResponse);
+    when(twoTierCache.get(eq("mainJobPostings"), eq("count"), eq(Long.class), any(Duration.class), any()))
+        .thenReturn(120L);
+
+    // when
+    MainJobPostingDto.CursorResponse response = jobPostingService.getAllJobPostingByCursor(null, 24, true);
+
+    // then
+    assertEquals(120L, response.getTotalElements());
+    // 캐시된 페이지에는 전체 수를 저장하지 않음
+    assertNull(cachedResponse.getTotalElements());
+    verify(jobPostingListingRepository, never()).countByEndDateGreaterThanEqual(any());
+  }
+
+  @Test
+  @DisplayName("Main 화면 채용 공고 커서 조회 - 실패 : 잘못된 커서")
+  void getAllJobPostingByCursor_invalidCursor() {
+    // when
+    CustomException customException = assertThrows(CustomException.class,
+        () -> jobPostingService.getAllJobPostingByCursor("not-a-cursor", 24, false));
 
-    verify(valueOperations, never()).set(eq(cacheKey), eq(cachedEmptyResponse), eq(30L), eq(TimeUnit.MINUTES));
+    // then
+    assertEquals(INVALID_CURSOR, customException.getErrorCode());
+    verify(twoTierCache, never()).get(anyString(), anyString(), any(), any(), any());
   }
 
   @Test
@@ -973,7 +1107,7 @@ class JobPostingServiceTest {
         .build();
 
     when(jobPostingRepository.findByJobPostingKey(jobPostingKey)).thenReturn(Optional.of(jobPosting));
-    when(jobPostingRepository.existsByJobPostingKeyAndEndDateGreaterThanEqual(jobPostingKey, currentDate)).thenReturn(true);
+    when(jobPostingRepository.existsByJobPostingKeyAndStatusAndEndDateGreaterThanEqual(jobPostingKey, JobPostingStatus.OPEN, currentDate)).thenReturn(true);
     when(jobPostingTechStackRepository.findAllByJobPostingKey(jobPostingKey)).thenReturn(techStacks);
     when(jobPostingStepRepository.findByJobPostingKey(jobPostingKey)).thenReturn(steps);
     when(jobPostingImageRepository.findByJobPostingKey(jobPostingKey)).thenReturn(Optional.of(imageEntity));
@@ -1002,7 +1136,7 @@ class JobPostingServiceTest {
     assertEquals("http://example.com/image.jpg", response.getImage());
 
     verify(jobPostingRepository, times(1)).findByJobPostingKey(jobPostingKey);
-    verify(jobPostingRepository, times(1)).existsByJobPostingKeyAndEndDateGreaterThanEqual(jobPostingKey, currentDate);
+    verify(jobPostingRepository, times(1)).existsByJobPostingKeyAndStatusAndEndDateGreaterThanEqual(jobPostingKey, JobPostingStatus.OPEN, currentDate);
     verify(jobPostingTechStackRepository, times(1)).findAllByJobPostingKey(jobPostingKey);
     verify(jobPostingStepRepository, times(1)).findByJobPostingKey(jobPostingKey);
     verify(jobPostingImageRepository, times(1)).findByJobPostingKey(jobPostingKey);
@@ -1039,7 +1173,7 @@ class JobPostingServiceTest {
         .build();
 
     when(jobPostingRepository.findByJobPostingKey(jobPostingKey)).thenReturn(Optional.of(jobPosting));
-    when(jobPostingRepository.existsByJobPostingKeyAndEndDateGreaterThanEqual(jobPostingKey, currentDate)).thenReturn(false);
+    when(jobPostingRepository.existsByJobPostingKeyAndStatusAndEndDateGreaterThanEqual(jobPostingKey, JobPostingStatus.OPEN, currentDate)).thenReturn(false);
 
     // when
     CustomException exception = assertThrows(CustomException.class, () ->
@@ -1049,7 +1183,7 @@ class JobPostingServiceTest {
     // then
     assertEquals(ErrorCode.JOB_POSTING_EXPIRED, exception.getErrorCode());
     verify(jobPostingRepository, times(1)).findByJobPostingKey(jobPostingKey);
-    verify(jobPostingRepository, times(1)).existsByJobPostingKeyAndEndDateGreaterThanEqual(jobPostingKey, currentDate);
+    verify(jobPostingRepository, times(1)).existsByJobPostingKeyAndStatusAndEndDateGreaterThanEqual(jobPostingKey, JobPostingStatus.OPEN, currentDate);
   }
 
   @Test
@@ -1079,6 +1213,7 @@ class JobPostingServiceTest {
     verify(appliedJobPostingRepository, times(1)).save(appliedJobPostingCaptor.capture());
 
     ApplicantEntity capturedApplicant = applicantCaptor.getValue();
+    verify(scoringService, times(1)).scoreApplicant(jobPostingEntity, capturedApplicant);
     assertEquals(jobPostingKey, capturedApplicant.getJobPostingKey());
     assertEquals(candidateKey, capturedApplicant.getCandidateKey());
     assertEquals(0, capturedApplicant.getScore());
@@ -1149,4 +1284,98 @@ class JobPostingServiceTest {
     ));
   }
 
-}
\ No newline at end of file
+  @Test
+  @DisplayName("채용 공고 지원 실패 - 마감 처리가 시작된 채용 공고")
+  void applyJobPosting_closed() {
+    // given
+    String jobPostingKey = "jobPostingKey";
+    String candidateKey = "candidateKey";
+    JobPostingEntity jobPostingEntity = JobPostingEntity.builder()
+        .jobPostingKey(jobPostingKey)
+        .title("테스트 채용 공고")
+        .status(JobPostingStatus.CLOSED)
+        .build();
+
+    when(jobPostingRepository.findByJobPostingKey(jobPostingKey)).thenReturn(
+        Optional.of(jobPostingEntity));
+
+    // when
+    CustomException exception = assertThrows(CustomException.class, () ->
+        jobPostingService.applyJobPosting(jobPostingKey, candidateKey)
+    );
+
+    // then
+    assertEquals(ErrorCode.JOB_POSTING_EXPIRED, exception.getErrorCode());
+    verify(applicantRepository, never()).existsByCandidateKeyAndJobPostingKey(any(), any());
+    verify(applicantRepository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("점수 분포 조회 : 성공 - 히스토그램으로 백분위와 합격 인원 기준 점수 추정")
+  void testGetScoreDistribution_Success() {
+    UserDetails userDetails = mock(UserDetails.class);
+    when(userDetails.getUsername()).thenReturn("email");
+
+    JobPostingEntity jobPostingEntity = JobPostingEntity.builder()
+        .jobPostingKey("jobPostingKey")
+        .companyKey("companyKey")
+        .passingNumber(3)
+        .build();
+    CompanyEntity companyEntity = CompanyEntity.builder()
+        .companyKey("companyKey")
+        .build();
+
+    // 0, 5, 10, ..., 45 점 지원자 10명
+    ScoreHistogram scoreHistogram = ScoreHistogram.empty();
+    for (int score = 0; score < 50; score += 5) {
+      scoreHistogram.add(score);
+    }
+
+    when(jobPostingRepository.findByJobPostingKey("jobPostingKey")).thenReturn(
+        Optional.of(jobPostingEntity));
+    when(companyRepository.findByEmail("email")).thenReturn(Optional.of(companyEntity));
+    when(scoreDistributionRepository.findById("jobPostingKey")).thenReturn(Optional.of(
+        ScoreDistributionEntity.builder()
+            .jobPostingKey("jobPostingKey")
+            .scoreHistogram(scoreHistogram)
+            .build()));
+
+    ScoreDistributionDto.Response response = jobPostingService.getScoreDistribution(userDetails,
+        "jobPostingKey");
+
+    assertEquals(10, response.getApplicantCount());
+    assertEquals(0, response.getMinScore());
+    assertEquals(45, response.getMaxScore());
+    assertEquals(22.5, response.getAverageScore());
+    assertEquals(10, response.getBuckets().size());
+    // 상위 3명의 마지막 점수 35 점이 속한 35 ~ 39 구간에서 추정
+    assertTrue(response.getPassingScore() >= 35 && response.getPassingScore() <= 39);
+    // 중앙값 20 점이 속한 20 ~ 24 구간에서 추정
+    assertTrue(response.getPercentiles().get(50) >= 20 && response.getPercentiles().get(50) <= 24);
+  }
+
+  @Test
+  @DisplayName("점수 분포 조회 : 실패 - 채점 전이면 SCORE_DISTRIBUTION_NOT_FOUND")
+  void testGetScoreDistribution_NotScored() {
+    UserDetails userDetails = mock(UserDetails.class);
+    when(userDetails.getUsername()).thenReturn("email");
+
+    JobPostingEntity jobPostingEntity = JobPostingEntity.builder()
+        .jobPostingKey("jobPostingKey")
+        .companyKey("companyKey")
+        .build();
+    CompanyEntity companyEntity = CompanyEntity.builder()
+        .companyKey("companyKey")
+        .build();
+
+    when(jobPostingRepository.findByJobPostingKey("jobPostingKey")).thenReturn(
+        Optional.of(jobPostingEntity));
+    when(companyRepository.findByEmail("email")).thenReturn(Optional.of(companyEntity));
+    when(scoreDistributionRepository.findById("jobPostingKey")).thenReturn(Optional.empty());
+
+    CustomException exception = assertThrows(CustomException.class,
+        () -> jobPostingService.getScoreDistribution(userDetails, "jobPostingKey"));
+
+    assertEquals(ErrorCode.SCORE_DISTRIBUTION_NOT_FOUND, exception.getErrorCode());
+  }
+}
@@ -13,6 +13,7 @@ import static com.ctrls.auto_enter_view.enums.JobCategory.BACKEND;
 import static com.ctrls.auto_enter_view.enums.UserRole.ROLE_CANDIDATE;
 import static com.ctrls.auto_enter_view.enums.UserRole.ROLE_COMPANY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -24,7 +25,9 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -43,6 +46,7 @@ import com.ctrls.auto_enter_view.exception.CustomException;
 import com.ctrls.auto_enter_view.repository.CandidateListRepository;
 import com.ctrls.auto_enter_view.repository.CandidateRepository;
 import com.ctrls.auto_enter_view.repository.CompanyRepository;
+import com.ctrls.auto_enter_view.repository.InterviewScheduleParticipantsRepository;
 import com.ctrls.auto_enter_view.repository.InterviewScheduleRepository;
 import com.ctrls.auto_enter_view.repository.JobPostingRepository;
 import com.ctrls.auto_enter_view.repository.JobPostingStepRepository;
@@ -52,8 +56,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -63,10 +69,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.ObjectAlreadyExistsException;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.quartz.Trigger;
 import org.quartz.TriggerKey;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
 import org.springframework.security.core.userdetails.UserDetails;
 
 @ExtendWith(MockitoExtension.class)
@@ -93,6 +103,9 @@ class MailAlarmInfoServiceTest {
   @Mock
   private InterviewScheduleRepository interviewScheduleRepository;
 
+  @Mock
+  private InterviewScheduleParticipantsRepository interviewScheduleParticipantsRepository;
+
   @Mock
   private MailComponent mailComponent;
 
@@ -873,8 +886,8 @@ class MailAlarmInfoServiceTest {
   }
 
   @Test
-  @DisplayName("면접 일정 이메일 발송 : 실패 - USER_NOT_FOUND ")
-  void sendInterviewMailToCandidates_UserNotFoundFailure() {
+  @DisplayName("면접 일정 이메일 발송 : 성공 - 탈퇴한 지원자는 건너뜀")
+  void sendInterviewMailToCandidates_SkipUserNotFound() {
     MailAlarmInfoEntity mailAlarmInfoEntity = MailAlarmInfoEntity.builder()
         .jobPostingKey("jobPostingKey")
         .jobPostingStepId(1L)
@@ -906,11 +919,11 @@ class MailAlarmInfoServiceTest {
     when(candidateRepository.findByCandidateKey(participant.getCandidateKey()))
         .thenReturn(Optional.empty());
 
-    CustomException thrownException = assertThrows(CustomException.class, () -> {
-      mailAlarmInfoService.sendInterviewMailToCandidates(
-          Collections.singletonList(participant), mailAlarmInfoEntity);
-    });
-    assertEquals(USER_NOT_FOUND, thrownException.getErrorCode());
+    // 예외로 예약 메일 전체가 다시 발송되지 않도록 탈퇴한 지원자만 건너뜀
+    assertEquals(0, mailAlarmInfoService.sendInterviewMailToCandidates(
+        Collections.singletonList(participant), mailAlarmInfoEntity));
+    verify(mailComponent, never()).sendHtmlMail(anyString(), anyString(), anyString(),
+        anyBoolean());
   }
 
   @Test
@@ -985,6 +998,122 @@ class MailAlarmInfoServiceTest {
     );
   }
 
+  @Test
+  @DisplayName("과제 일정 이메일 발송 : 성공 - 발송에 실패한 지원자는 건너뛰고 나머지 지원자에게 발송")
+  void sendTaskMailToCandidates_PartialFailure() {
+    MailAlarmInfoEntity mailAlarmInfoEntity = MailAlarmInfoEntity.builder()
+        .id(1L)
+        .jobPostingKey("jobPostingKey")
+        .jobPostingStepId(1L)
+        .interviewScheduleKey("interviewScheduleKey")
+        .mailContent("메일 내용")
+        .build();
+
+    when(jobPostingRepository.findByJobPostingKey("jobPostingKey"))
+        .thenReturn(Optional.of(JobPostingEntity.builder().title("제목").build()));
+    when(jobPostingStepRepository.findById(1L))
+        .thenReturn(Optional.of(JobPostingStepEntity.builder().id(1L).step("과제").build()));
+    when(interviewScheduleRepository.findByInterviewScheduleKey("interviewScheduleKey"))
+        .thenReturn(Optional.of(InterviewScheduleEntity.builder()
+            .lastInterviewDate(LocalDate.of(2025, 5, 1))
+            .build()));
+
+    List<CandidateListEntity> participants = new ArrayList<>();
+    for (int i = 1; i <= 3; i++) {
+      participants.add(CandidateListEntity.builder().candidateKey("candidateKey" + i).build());
+      when(candidateRepository.findByCandidateKey("candidateKey" + i))
+          .thenReturn(Optional.of(CandidateEntity.builder()
+              .email("candidate" + i + "@example.com")
+              .build()));
+    }
+
+    doNothing().when(mailComponent)
+        .sendHtmlMail(anyString(), anyString(), anyString(), anyBoolean());
+    doThrow(new RuntimeException("Failed to send email")).when(mailComponent)
+        .sendHtmlMail(eq("candidate1@example.com"), anyString(), anyString(), anyBoolean());
+
+    // 첫번째 지원자가 실패해도 예외를 던지지 않고 나머지 지원자에게 발송
+    assertEquals(2, mailAlarmInfoService.sendTaskMailToCandidates(participants,
+        mailAlarmInfoEntity));
+
+    verify(mailComponent, times(1)).sendHtmlMail(eq("candidate2@example.com"), anyString(),
+        anyString(), eq(true));
+    verify(mailComponent, times(1)).sendHtmlMail(eq("candidate3@example.com"), anyString(),
+        anyString(), eq(true));
+  }
+
+  private List<CandidateListEntity> stubTaskMail(MailAlarmInfoEntity mailAlarmInfoEntity) {
+
+    when(jobPostingRepository.findByJobPostingKey(mailAlarmInfoEntity.getJobPostingKey()))
+        .thenReturn(Optional.of(JobPostingEntity.builder().title("제목").build()));
+    when(jobPostingStepRepository.findById(mailAlarmInfoEntity.getJobPostingStepId()))
+        .thenReturn(Optional.of(JobPostingStepEntity.builder().id(1L).step("과제").build()));
+    when(interviewScheduleRepository.findByInterviewScheduleKey(
+        mailAlarmInfoEntity.getInterviewScheduleKey()))
+        .thenReturn(Optional.of(InterviewScheduleEntity.builder()
+            .lastInterviewDate(LocalDate.of(2025, 5, 1))
+            .build()));
+
+    List<CandidateListEntity> participants = new ArrayList<>();
+    for (int i = 1; i <= 3; i++) {
+      participants.add(CandidateListEntity.builder().candidateKey("candidateKey" + i).build());
+      // 발송을 중단하면 조회하지 않는 지원자가 있으므로 엄격하지 않게 스터빙
+      lenient().when(candidateRepository.findByCandidateKey("candidateKey" + i))
+          .thenReturn(Optional.of(CandidateEntity.builder()
+              .email("candidate" + i + "@example.com")
+              .build()));
+    }
+
+    return participants;
+  }
+
+  @Test
+  @DisplayName("과제 일정 이메일 발송 : 실패 - 아무에게도 발송하기 전에 메일 서버 연결에 실패하면 다시 발송할 수 있도록 예외")
+  void sendTaskMailToCandidates_ConnectionFailure() {
+    MailAlarmInfoEntity mailAlarmInfoEntity = MailAlarmInfoEntity.builder()
+        .id(1L)
+        .jobPostingKey("jobPostingKey")
+        .jobPostingStepId(1L)
+        .interviewScheduleKey("interviewScheduleKey")
+        .mailContent("메일 내용")
+        .build();
+    List<CandidateListEntity> participants = stubTaskMail(mailAlarmInfoEntity);
+
+    doThrow(new MailSendException("Mail server connection failed")).when(mailComponent)
+        .sendHtmlMail(anyString(), anyString(), anyString(), anyBoolean());
+
+    assertThrows(MailSendException.class,
+        () -> mailAlarmInfoService.sendTaskMailToCandidates(participants, mailAlarmInfoEntity));
+
+    // 나머지 지원자에게는 발송을 시도하지 않음
+    verify(mailComponent, times(1)).sendHtmlMail(anyString(), anyString(), anyString(),
+        anyBoolean());
+  }
+
+  @Test
+  @DisplayName("과제 일정 이메일 발송 : 성공 - 한 명에게 발송한 뒤 메일 서버 인증에 실패하면 중복 발송하지 않도록 예외 없이 중단")
+  void sendTaskMailToCandidates_AuthenticationFailureAfterSent() {
+    MailAlarmInfoEntity mailAlarmInfoEntity = MailAlarmInfoEntity.builder()
+        .id(1L)
+        .jobPostingKey("jobPostingKey")
+        .jobPostingStepId(1L)
+        .interviewScheduleKey("interviewScheduleKey")
+        .mailContent("메일 내용")
+        .build();
+    List<CandidateListEntity> participants = stubTaskMail(mailAlarmInfoEntity);
+
+    doNothing().when(mailComponent)
+        .sendHtmlMail(anyString(), anyString(), anyString(), anyBoolean());
+    doThrow(new MailAuthenticationException("Authentication failed")).when(mailComponent)
+        .sendHtmlMail(eq("candidate2@example.com"), anyString(), anyString(), anyBoolean());
+
+    assertEquals(1, mailAlarmInfoService.sendTaskMailToCandidates(participants,
+        mailAlarmInfoEntity));
+
+    verify(mailComponent, never()).sendHtmlMail(eq("candidate3@example.com"), anyString(),
+        anyString(), anyBoolean());
+  }
+
   @Test
   @DisplayName("과제 일정 이메일 발송 : 실패 - JOB_POSTING_NOT_FOUND")
   void sendTaskMailToCandidates_JobPostingNotFoundFailure() {
@@ -1089,8 +1218,8 @@ class MailAlarmInfoServiceTest {
   }
 
   @Test
-  @DisplayName("과제 일정 이메일 발송 : 실패 - USER_NOT_FOUND")
-  void sendTaskMailToCandidates_UserNotFoundFailure() {
+  @DisplayName("과제 일정 이메일 발송 : 성공 - 탈퇴한 지원자는 건너뜀")
+  void sendTaskMailToCandidates_SkipUserNotFound() {
     String jobPostingKey = "jobPostingKey";
     String interviewScheduleKey = "interviewScheduleKey";
     String candidateKey = "candidateKey";
@@ -1133,13 +1262,10 @@ class MailAlarmInfoServiceTest {
     when(candidateRepository.findByCandidateKey(candidateKey))
         .thenReturn(Optional.empty());
 
-    CustomException thrownException = assertThrows(CustomException.class, () ->
-        mailAlarmInfoService.sendTaskMailToCandidates(
-            Collections.singletonList(participant), mailAlarmInfoEntity
-        )
-    );
-
-    assertEquals(USER_NOT_FOUND, thrownException.getErrorCode());
+    assertEquals(0, mailAlarmInfoService.sendTaskMailToCandidates(
+        Collections.singletonList(participant), mailAlarmInfoEntity));
+    verify(mailComponent, never()).sendHtmlMail(anyString(), anyString(), anyString(),
+        anyBoolean());
   }
 
   @Test
@@ -1396,4 +1522,95 @@ class MailAlarmInfoServiceTest {
 
     assertEquals(USER_NOT_FOUND, thrownException.getErrorCode());
   }
+
+  @Test
+  @DisplayName("예약 메일 복구 성공 - 작업이 없는 예약 메일만 다시 스케줄링")
+  void testRescheduleMissingMailJobs_Success() throws SchedulerException {
+    MailAlarmInfoEntity scheduledMail = MailAlarmInfoEntity.builder()
+        .id(1L)
+        .mailSendDateTime(LocalDateTime.now().plusDays(1))
+        .build();
+    MailAlarmInfoEntity missingMail = MailAlarmInfoEntity.builder()
+        .id(2L)
+        .mailSendDateTime(LocalDateTime.now().plusDays(2))
+        .build();
+
+    when(mailAlarmInfoRepository.findAllByMailSendDateTimeAfter(any(LocalDateTime.class)))
+        .thenReturn(List.of(scheduledMail, missingMail));
+    when(scheduler.checkExists(JobKey.jobKey("mailJob1", "mailGroup"))).thenReturn(true);
+    when(scheduler.checkExists(JobKey.jobKey("mailJob2", "mailGroup"))).thenReturn(false);
+
+    int rescheduledCount = mailAlarmInfoService.rescheduleMissingMailJobs();
+
+    assertEquals(1, rescheduledCount);
+
+    ArgumentCaptor<JobDetail> jobDetailCaptor = ArgumentCaptor.forClass(JobDetail.class);
+    verify(scheduler, times(1)).scheduleJob(jobDetailCaptor.capture(), any(Trigger.class));
+    assertEquals(JobKey.jobKey("mailJob2", "mailGroup"), jobDetailCaptor.getValue().getKey());
+    assertEquals(2L, jobDetailCaptor.getValue().getJobDataMap().getLong("mailId"));
+  }
+
+  @Test
+  @DisplayName("예약 메일 복구 성공 - 다른 노드에서 먼저 등록한 예약 메일은 건너뜀")
+  void testRescheduleMissingMailJobs_AlreadyScheduledByOtherNode() throws SchedulerException {
+    MailAlarmInfoEntity missingMail = MailAlarmInfoEntity.builder()
+        .id(2L)
+        .mailSendDateTime(LocalDateTime.now().plusDays(2))
+        .build();
+
+    when(mailAlarmInfoRepository.findAllByMailSendDateTimeAfter(any(LocalDateTime.class)))
+        .thenReturn(List.of(missingMail));
+    when(scheduler.checkExists(JobKey.jobKey("mailJob2", "mailGroup"))).thenReturn(false);
+    when(scheduler.scheduleJob(any(JobDetail.class), any(Trigger.class)))
+        .thenThrow(new ObjectAlreadyExistsException("mailJob2"));
+
+    int rescheduledCount = mailAlarmInfoService.rescheduleMissingMailJobs();
+
+    assertEquals(0, rescheduledCount);
+  }
+
+  @Test
+  @DisplayName("예약 메일 발송 : 성공 - 이미 발송된 예약 메일은 다시 발송하지 않음")
+  void testSendMailAlarm_AlreadySent() {
+    MailAlarmInfoEntity mailAlarmInfo = MailAlarmInfoEntity.builder()
+        .id(1L)
+        .interviewScheduleKey("interviewScheduleKey")
+        .build();
+
+    when(mailAlarmInfoRepository.findById(1L)).thenReturn(Optional.of(mailAlarmInfo));
+    when(mailAlarmInfoRepository.markSent(eq(1L), any(LocalDateTime.class))).thenReturn(0);
+
+    assertFalse(mailAlarmInfoService.sendMailAlarm(1L));
+
+    verify(interviewScheduleRepository, never()).findByInterviewScheduleKey(anyString());
+  }
+
+  @Test
+  @DisplayName("예약 메일 발송 : 실패 - 발송에 실패하면 다시 발송할 수 있도록 발송 기록 삭제")
+  void testSendMailAlarm_FailureClearsSent() {
+    MailAlarmInfoEntity mailAlarmInfo = MailAlarmInfoEntity.builder()
+        .id(1L)
+        .interviewScheduleKey("interviewScheduleKey")
+        .build();
+
+    when(mailAlarmInfoRepository.findById(1L)).thenReturn(Optional.of(mailAlarmInfo));
+    when(mailAlarmInfoRepository.markSent(eq(1L), any(LocalDateTime.class))).thenReturn(1);
+    when(interviewScheduleRepository.findByInterviewScheduleKey("interviewScheduleKey"))
+        .thenThrow(new IllegalStateException("DB 오류"));
+
+    assertThrows(IllegalStateException.class, () -> mailAlarmInfoService.sendMailAlarm(1L));
+
+    verify(mailAlarmInfoRepository, times(1)).clearSent(1L);
+  }
+
+  @Test
+  @DisplayName("예약 메일 발송 : 실패 - MAIL_ALARM_INFO_NOT_FOUND")
+  void testSendMailAlarm_NotFound() {
+    when(mailAlarmInfoRepository.findById(1L)).thenReturn(Optional.empty());
+
+    CustomException exception = assertThrows(CustomException.class,
+        () -> mailAlarmInfoService.sendMailAlarm(1L));
+
+    assertEquals(MAIL_ALARM_INFO_NOT_FOUND, exception.getErrorCode());
+  }
 }
@@ -22,6 +22,7 @@ import com.ctrls.auto_enter_view.entity.ResumeCareerEntity;
 import com.ctrls.auto_enter_view.entity.ResumeCertificateEntity;
 import com.ctrls.auto_enter_view.entity.ResumeEntity;
 import com.ctrls.auto_enter_view.entity.ResumeExperienceEntity;
+import com.ctrls.auto_enter_view.entity.ResumeFeatureEntity;
 import com.ctrls.auto_enter_view.entity.ResumeTechStackEntity;
 import com.ctrls.auto_enter_view.enums.ErrorCode;
 import com.ctrls.auto_enter_view.enums.TechStack;
@@ -34,6 +35,7 @@ import com.ctrls.auto_enter_view.repository.JobPostingRepository;
 import com.ctrls.auto_enter_view.repository.ResumeCareerRepository;
 import com.ctrls.auto_enter_view.repository.ResumeCertificateRepository;
 import com.ctrls.auto_enter_view.repository.ResumeExperienceRepository;
+import com.ctrls.auto_enter_view.repository.ResumeFeatureRepository;
 import com.ctrls.auto_enter_view.repository.ResumeImageRepository;
 import com.ctrls.auto_enter_view.repository.ResumeRepository;
 import com.ctrls.auto_enter_view.repository.ResumeTechStackRepository;
@@ -79,6 +81,9 @@ class ResumeServiceTest {
   @Mock
   private ResumeExperienceRepository resumeExperienceRepository;
 
+  @Mock
+  private ResumeFeatureRepository resumeFeatureRepository;
+
   @Mock
   private ResumeRepository resumeRepository;
 
@@ -88,6 +93,9 @@ class ResumeServiceTest {
   @Mock
   private ResumeTechStackRepository resumeTechStackRepository;
 
+  @Mock
+  private ScoringService scoringService;
+
   @Captor
   ArgumentCaptor<ResumeEntity> resumeCaptor;
 
@@ -103,6 +111,9 @@ class ResumeServiceTest {
   @Captor
   ArgumentCaptor<List<ResumeCertificateEntity>> resumeCertificateCaptor;
 
+  @Captor
+  ArgumentCaptor<ResumeFeatureEntity> resumeFeatureCaptor;
+
   @InjectMocks
   private ResumeService resumeService;
 
@@ -149,8 +160,13 @@ class ResumeServiceTest {
     verify(resumeExperienceRepository, times(1)).saveAll(resumeExperienceCaptor.capture());
     verify(resumeTechStackRepository, times(1)).saveAll(resumeTechStackCaptor.capture());
     verify(resumeCertificateRepository, times(1)).saveAll(resumeCertificateCaptor.capture());
+    verify(resumeFeatureRepository, times(1)).save(resumeFeatureCaptor.capture());
 
     assertEquals(candidateKey, resumeCaptor.getValue().getCandidateKey());
+    assertEquals(resumeKey, resumeFeatureCaptor.getValue().getResumeKey());
+    assertEquals(TechStack.ORACLE.bit(), resumeFeatureCaptor.getValue().getTechStackMask());
+    assertEquals(1, resumeFeatureCaptor.getValue().getExperienceCount());
+    assertEquals(1, resumeFeatureCaptor.getValue().getCertificateCount());
     assertEquals(resumeKey, resumeCareerCaptor.getValue().get(0).getResumeKey());
     assertEquals(resumeKey, resumeExperienceCaptor.getValue().get(0).getResumeKey());
     assertEquals(resumeKey, resumeTechStackCaptor.getValue().get(0).getResumeKey());
@@ -373,6 +389,7 @@ class ResumeServiceTest {
 
     // then
     assertEquals(newTitle, resumeEntity.getTitle());
+    verify(scoringService, times(1)).rescoreCandidate(candidateKey);
   }
 
   @Test
@@ -427,6 +444,8 @@ class ResumeServiceTest {
     resumeService.deleteResume(candidateDetails, candidateKey);
 
     verify(resumeRepository, times(1)).deleteByCandidateKey(candidateKey);
+    verify(resumeFeatureRepository, times(1)).deleteByCandidateKey(candidateKey);
+    verify(applicantRepository, times(1)).resetOpenScoresByCandidateKey(candidateKey);
     verify(resumeTechStackRepository, times(1)).deleteAllByResumeKey(resumeKey);
     verify(resumeCareerRepository, times(1)).deleteAllByResumeKey(resumeKey);
     verify(resumeExperienceRepository, times(1)).deleteAllByResumeKey(resumeKey);
@@ -0,0 +1,718 @@
+package com.ctrls.auto_enter_view.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ctrls.auto_enter_view.component.ScoringPartitionQueue;
+import com.ctrls.auto_enter_view.component.scoring.CareerRule;
+import com.ctrls.auto_enter_view.component.scoring.CertificateRule;
+import com.ctrls.auto_enter_view.component.scoring.EducationRule;
+import com.ctrls.auto_enter_view.component.scoring.ExperienceRule;
+import com.ctrls.auto_enter_view.component.scoring.PortfolioRule;
+import com.ctrls.auto_enter_view.component.scoring.ScoringPlanCompiler;
+import com.ctrls.auto_enter_view.component.scoring.TechStackRule;
+import com.ctrls.auto_enter_view.entity.ApplicantEntity;
+import com.ctrls.auto_enter_view.entity.JobPostingEntity;
+import com.ctrls.auto_enter_view.entity.JobPostingTechStackEntity;
+import com.ctrls.auto_enter_view.entity.ResumeCareerEntity;
+import com.ctrls.auto_enter_view.entity.ResumeEntity;
+import com.ctrls.auto_enter_view.entity.ResumeFeatureEntity;
+import com.ctrls.auto_enter_view.entity.ResumeTechStackEntity;
+import com.ctrls.auto_enter_view.entity.ScoreBreakdown;
+import com.ctrls.auto_enter_view.entity.ScoreDistributionEntity;
+import com.ctrls.auto_enter_view.entity.ScoreHistogram;
+import com.ctrls.auto_enter_view.entity.ScoringPartitionEntity;
+import com.ctrls.auto_enter_view.entity.ScoringProgressEntity;
+import com.ctrls.auto_enter_view.enums.Education;
+import com.ctrls.auto_enter_view.enums.ErrorCode;
+import com.ctrls.auto_enter_view.enums.JobCategory;
+import com.ctrls.auto_enter_view.enums.PriorityType;
+import com.ctrls.auto_enter_view.enums.ScoringMode;
+import com.ctrls.auto_enter_view.enums.TechStack;
+import com.ctrls.auto_enter_view.exception.CustomException;
+import com.ctrls.auto_enter_view.repository.ApplicantRepository;
+import com.ctrls.auto_enter_view.repository.JobPostingRepository;
+import com.ctrls.auto_enter_view.repository.JobPostingTechStackRepository;
+import com.ctrls.auto_enter_view.repository.ResumeCareerRepository;
+import com.ctrls.auto_enter_view.repository.ResumeCertificateRepository;
+import com.ctrls.auto_enter_view.repository.ResumeExperienceRepository;
+import com.ctrls.auto_enter_view.repository.ResumeFeatureRepository;
+import com.ctrls.auto_enter_view.repository.ResumeRepository;
+import com.ctrls.auto_enter_view.repository.ResumeTechStackRepository;
+import com.ctrls.auto_enter_view.repository.ScoreDistributionRepository;
+import com.ctrls.auto_enter_view.repository.ScoringPartitionRepository;
+import com.ctrls.auto_enter_view.repository.ScoringProgressRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ScoringServiceTest {
+
+  @Mock
+  private ApplicantRepository applicantRepository;
+
+  @Mock
+  private JobPostingRepository jobPostingRepository;
+
+  @Mock
+  private JobPostingTechStackRepository jobPostingTechStackRepository;
+
+  @Mock
+  private ResumeCareerRepository resumeCareerRepository;
+
+  @Mock
+  private ResumeCertificateRepository resumeCertificateRepository;
+
+  @Mock
+  private ResumeExperienceRepository resumeExperienceRepository;
+
+  @Mock
+  private ResumeFeatureRepository resumeFeatureRepository;
+
+  @Mock
+  private ResumeRepository resumeRepository;
+
+  @Mock
+  private ResumeTechStackRepository resumeTechStackRepository;
+
+  @Mock
+  private ScoreDistributionRepository scoreDistributionRepository;
+
+  @Mock
+  private ScoringPartitionQueue scoringPartitionQueue;
+
+  @Mock
+  private ScoringPartitionRepository scoringPartitionRepository;
+
+  @Mock
+  private ScoringProgressRepository scoringProgressRepository;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  @Spy
+  private ScoringPlanCompiler scoringPlanCompiler = new ScoringPlanCompiler(List.of(
+      new EducationRule(), new ExperienceRule(), new CertificateRule(), new PortfolioRule(),
+      new TechStackRule(), new CareerRule()));
+
+  @InjectMocks
+  private ScoringService scoringService;
+
+  @Captor
+  private ArgumentCaptor<Map<Long, ScoreBreakdown>> scoreBreakdownsCaptor;
+
+  @Captor
+  private ArgumentCaptor<ToIntFunction<ScoreBreakdown>> totalScoreCaptor;
+
+  private final String jobPostingKey = "jobPostingKey";
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(scoringService, "chunkSize", 2);
+  }
+
+  // 저장된 점수 분포가 없는 채용 공고
+  private ScoreDistributionEntity stubScoreDistribution() {
+
+    ScoreDistributionEntity scoreDistribution = ScoreDistributionEntity.builder()
+        .jobPostingKey(jobPostingKey)
+        .build();
+
+    when(scoreDistributionRepository.findById(jobPostingKey)).thenReturn(
+        Optional.of(scoreDistribution));
+
+    return scoreDistribution;
+  }
+
+  // 트랜잭션 콜백을 바로 실행
+  @SuppressWarnings("unchecked")
+  private void runTransactionCallbacks() {
+    doAnswer(invocation -> {
+      invocation.getArgument(0, Consumer.class).accept(null);
+      return null;
+    }).when(transactionTemplate).executeWithoutResult(any());
+    when(transactionTemplate.execute(any())).thenAnswer(
+        invocation -> invocation.getArgument(0, TransactionCallback.class)
+            .doInTransaction((TransactionStatus) null));
+  }
+
+  private JobPostingEntity jobPosting() {
+
+    return JobPostingEntity.builder()
+        .jobPostingKey(jobPostingKey)
+        .companyKey("companyKey")
+        .title("제목")
+        .jobCategory(JobCategory.BACKEND)
+        .education(Education.BACHELOR)
+        .startDate(LocalDate.parse("2025-04-02"))
+        .endDate(LocalDate.parse("2025-04-05"))
+        .passingNumber(2)
+        .career(2)
+        .salary(30000000L)
+        .workTime("무관")
+        .workLocation("주소")
+        .employmentType("인턴")
+        .jobPostingContent("공고 내용")
+        .build();
+  }
+
+  @Test
+  @DisplayName("지원자 점수 채점 : 성공 - 청크 단위로 이력서 정보를 묶음으로 조회하여 점수 저장")
+  void testScoreApplicants_Success() {
+    ApplicantEntity applicant1 = ApplicantEntity.builder()
+        .id(1L).jobPostingKey(jobPostingKey).candidateKey("candidateKey1").build();
+    ApplicantEntity applicant2 = ApplicantEntity.builder()
+        .id(2L).jobPostingKey(jobPostingKey).candidateKey("candidateKey2").build();
+    ApplicantEntity applicant3 = ApplicantEntity.builder()
+        .id(3L).jobPostingKey(jobPostingKey).candidateKey("candidateKey3").build();
+
+    ResumeEntity resume1 = ResumeEntity.builder()
+        .resumeKey("resumeKey1")
+        .candidateKey("candidateKey1")
+        .education(Education.MASTER)
+        .portfolio("https://portfolio")
+        .build();
+
+    ResumeEntity resume3 = ResumeEntity.builder()
+        .resumeKey("resumeKey3")
+        .candidateKey("candidateKey3")
+        .education(Education.HIGH_SCHOOL)
+        .portfolio("")
+        .build();
+
+    when(jobPostingRepository.findByJobPostingKey(jobPostingKey)).thenReturn(
+        Optional.of(jobPosting()));
+    when(jobPostingTechStackRepository.findAllByJobPostingKey(jobPostingKey)).thenReturn(List.of(
+        JobPostingTechStackEntity.builder().jobPostingKey(jobPostingKey).techName(TechStack.JAVA)
+            .build(),
+        JobPostingTechStackEntity.builder().jobPostingKey(jobPostingKey)
+            .techName(TechStack.SPRING_BOOT).build(),
+        JobPostingTechStackEntity.builder().jobPostingKey(jobPostingKey).techName(TechStack.AWS)
+            .build()));
+    ScoringProgressEntity progress = ScoringProgressEntity.builder()
+        .jobPostingKey(jobPostingKey)
+        .build();
+
+    runTransactionCallbacks();
+    ScoreDistributionEntity scoreDistribution = stubScoreDistribution();
+    when(scoringProgressRepository.findById(jobPostingKey)).thenReturn(Optional.of(progress));
+    when(applicantRepository.findAllByJobPostingKeyAndIdGreaterThanOrderByIdAsc(eq(jobPostingKey),
+        eq(0L), any(Limit.class))).thenReturn(List.of(applicant1, applicant2));
+    when(applicantRepository.findAllByJobPostingKeyAndIdGreaterThanOrderByIdAsc(eq(jobPostingKey),
+        eq(2L), any(Limit.class))).thenReturn(List.of(applicant3));
+    when(resumeRepository.findAllByCandidateKeyIn(anyCollection())).thenReturn(
+        List.of(resume1, resume3));
+    when(resumeCertificateRepository.countAllByResumeKeyIn(anyCollection())).thenReturn(
+        List.<Object[]>of(new Object[]{"resumeKey1", 2L}));
+    when(resumeExperienceRepository.countAllByResumeKeyIn(anyCollection())).thenReturn(
+        List.<Object[]>of(new Object[]{"resumeKey1", 1L}));
+    when(resumeTechStackRepository.findAllByResumeKeyIn(anyCollection())).thenReturn(List.of(
+        ResumeTechStackEntity.builder().resumeKey("resumeKey1").techStackName(TechStack.JAVA)
+            .build(),
+        ResumeTechStackEntity.builder().resumeKey("resumeKey1").techStackName(TechStack.AWS)
+            .build(),
+        ResumeTechStackEntity.builder().resumeKey("resumeKey1").techStackName(TechStack.REACT)
+            .build()));
+    when(resumeCareerRepository.findAllByResumeKeyIn(anyCollection())).thenReturn(List.of(
+        ResumeCareerEntity.builder().resumeKey("resumeKey1").jobCategory(JobCategory.BACKEND)
+            .calculatedCareer(3).build(),
+        ResumeCareerEntity.builder().resumeKey("resumeKey1").jobCategory(JobCategory.BACKEND)
+            .calculatedCareer(1).build(),
+        ResumeCareerEntity.builder().resumeKey("resumeKey1").jobCategory(JobCategory.FRONTEND)
+            .calculatedCareer(5).build()));
+
+    scoringService.scoreApplicants(jobPostingKey);
+
+    verify(applicantRepository, times(2)).batchUpdateScores(scoreBreakdownsCaptor.capture(),
+        totalScoreCaptor.capture());
+    Map<Long, ScoreBreakdown> firstChunk = scoreBreakdownsCaptor.getAllValues().get(0);
+    Map<Long, ScoreBreakdown> secondChunk = scoreBreakdownsCaptor.getAllValues().get(1);
+    ToIntFunction<ScoreBreakdown> totalScore = totalScoreCaptor.getValue();
+
+    // 학력 20 + 경험 1 + 자격증 2 + 포트폴리오 3 + 기술스택 2 * 5 + 경력 (3 - 2 + 1) * 5
+    assertEquals(46, totalScore.applyAsInt(firstChunk.get(1L)));
+    assertEquals(6, firstChunk.get(1L).getBaseScore());
+    assertEquals(10, firstChunk.get(1L).getTechStackScore());
+    // 이력서가 없는 지원자는 점수를 저장하지 않음
+    assertFalse(firstChunk.containsKey(2L));
+    // 학력 미달, 추가 정보 없음
+    assertEquals(0, totalScore.applyAsInt(secondChunk.get(3L)));
+
+    // 채점용 이력서 정보가 없던 이력서는 만들어서 저장
+    verify(resumeFeatureRepository, times(2)).saveAll(anyCollection());
+
+    // 마지막 청크까지 커밋된 진행 상황
+    assertEquals(3L, progress.getLastApplicantId());
+    assertEquals(3, progress.getScoredCount());
+    assertTrue(progress.isCompleted());
+
+    // 청크별 점수 분포를 합친 전체 지원자의 분포
+    ScoreHistogram scoreHistogram = scoreDistribution.getScoreHistogram();
+    assertEquals(3, scoreHistogram.getScoreCount());
+    assertEquals(0, scoreHistogram.getMinScore());
+    assertEquals(46, scoreHistogram.getMaxScore());
+    assertEquals(2, scoreHistogram.getBucketCounts()[0]);
+    assertEquals(1, scoreHistogram.getBucketCounts()[46 / ScoreHistogram.BUCKET_WIDTH]);
+  }
+
+  @Test
+  @DisplayName("지원자 점수 채점 : 성공 - 마지막으로 커밋된 청크 이후부터 재개")
+  void testScoreApplicants_ResumeFromCheckpoint() {
+    ApplicantEntity applicant3 = ApplicantEntity.builder()
+        .id(3L).jobPostingKey(jobPostingKey).candidateKey("candidateKey3").build();
+
+    ScoringProgressEntity progress = ScoringProgressEntity.builder()
+        .jobPostingKey(jobPostingKey)
+        .lastApplicantId(2L)
+        .scoredCount(2)
+        .build();
+
+    runTransactionCallbacks();
+    ScoreDistributionEntity scoreDistribution = stubScoreDistribution();
+    when(jobPostingRepository.findByJobPostingKey(jobPostingKey)).thenReturn(
+        Optional.of(jobPosting()));
+    when(scoringProgressRepository.findById(jobPostingKey)).thenReturn(Optional.of(progress));
+    when(applicantRepository.findAllByJobPostingKeyAndIdGreaterThanOrderByIdAsc(eq(jobPostingKey),
+        eq(2L), any(Limit.class))).thenReturn(List.of(applicant3));
+
+    scoringService.scoreApplicants(jobPostingKey);
+
+    verify(applicantRepository, never()).findAllByJobPostingKeyAndIdGreaterThanOrderByIdAsc(
+        eq(jobPostingKey), eq(0L), any(Limit.class));
+    assertEquals(3L, progress.getLastApplicantId());
+    assertEquals(3, progress.getScoredCount());
+    assertTrue(progress.isCompleted());
+    // 재개한 청크의 분포만 저장된 분포에 합쳐짐
+    assertEquals(1, scoreDistribution.getScoreHistogram().getScoreCount());
+  }
+
+  @Test
+  @DisplayName("지원자 점수 채점 : 성공 - 지원 시점에 계산된 점수가 유효한 지원자는 다시 계산하지 않음")
+  void testScoreApplicants_SkipFreshScores() {
+    ApplicantEntity applicant1 = ApplicantEntity.builder()
+        .id(1L).jobPostingKey(jobPostingKey).candidateKey("candidateKey1")
+        .score(30).scoredAt(LocalDateTime.now()).build();
+
+    ScoringProgressEntity progress = ScoringProgressEntity.builder()
+        .jobPostingKey(jobPostingKey)
+        .build();
+
+    runTransactionCallbacks();
+    ScoreDistributionEntity scoreDistribution = stubScoreDistribution();
+    when(jobPostingRepository.findByJobPostingKey(jobPostingKey)).thenReturn(
+        Optional.of(jobPosting()));
+    when(scoringProgressRepository.findById(jobPostingKey)).thenReturn(Optional.of(progress));
+    when(applicantRepository.findAllByJobPostingKeyAndIdGreaterThanOrderByIdAsc(eq(jobPostingKey),
+        eq(0L), any(Limit.class))).thenReturn(List.of(applicant1));
+
+    scoringService.scoreApplicants(jobPostingKey);
+
+    verify(resumeRepository, never()).findAllByCandidateKeyIn(anyCollection());
+    verify(applicantRepository, never()).batchUpdateScores(any(), any());
+    assertEquals(1, progress.getScoredCount());
+    assertTrue(progress.isCompleted());
+    assertEquals(30, scoreDistribution.getScoreHistogram().getMaxScore());
+  }
+
+  private ResumeFeatureEntity resumeFeature() {
+
+    int[][] careerYears = new int[JobCategory.values().length][0];
+    careerYears[JobCategory.BACKEND.ordinal()] = new int[]{3, 1};
+    careerYears[JobCategory.FRONTEND.ordinal()] = new int[]{5};
+
+    return ResumeFeatureEntity.builder()
+        .resumeKey("resumeKey1")
+        .candidateKey("candidateKey1")
+        .education(Education.MASTER)
+        .hasPortfolio(true)
+        .techStackMask(TechStack.toMask(List.of(TechStack.JAVA, TechStack.AWS, TechStack.REACT)))
+        .certificateCount(2)
+        .experienceCount(1)
+        .careerYears(careerYears)
+        .build();
+  }
+
+  private void stubJobPostingTechStacks() {
+    when(jobPostingTechStackRepository.findAllByJobPostingKey(jobPostingKey)).thenReturn(List.of(
+        JobPostingTechStackEntity.builder().jobPostingKey(jobPostingKey).techName(TechStack.JAVA)
+            .build(),
+        JobPostingTechStackEntity.builder().jobPostingKey(jobPostingKey)
+            .techName(TechStack.SPRING_BOOT).build(),
+        JobPostingTechStackEntity.builder().jobPostingKey(jobPostingKey).techName(TechStack.AWS)
+            .build()));
+  }
+
+  @Test
+  @DisplayName("지원 시점 점수 계산 : 성공 - 채용 공고 우선순위 가중치 적용")
+  void testScoreApplicant_PriorityWeights() {
+    JobPostingEntity jobPostingEntity = JobPostingEntity.builder()
+        .jobPostingKey(jobPostingKey)
+        .jobCategory(JobCategory.BACKEND)
+        .education(Education.BACHELOR)
+        .career(2)
+        .priority(List.of(PriorityType.TECH_STACK, PriorityType.CAREER, PriorityType.EDUCATION))
+        .build();
+    ApplicantEntity applicant = ApplicantEntity.builder()
+        .id(1L).jobPostingKey(jobPostingKey).candidateKey("candidateKey1").build();
+
+    stubJobPostingTechStacks();
+    when(resumeFeatureRepository.findAllByCandidateKeyIn(anyCollection())).thenReturn(
+        List.of(resumeFeature()));
+
+    scoringService.scoreApplicant(jobPostingEntity, applicant);
+
+    // 학력 20 * 2 + 경험 1 + 자격증 2 + 포트폴리오 3 + 기술스택 2 * 5 * 4 + 경력 (3 - 2 + 1) * 5 * 3
+    assertEquals(116, applicant.getScore());
+  }
+
+  @Test
+  @DisplayName("지원 시점 점수 계산 : 성공 - 채점용 이력서 정보 한 행으로 계산")
+  void testScoreApplicant_UseResumeFeature() {
+    JobPostingEntity jobPostingEntity = jobPosting();
+    ApplicantEntity applicant = ApplicantEntity.builder()
+        .id(1L).jobPostingKey(jobPostingKey).candidateKey("candidateKey1").build();
+
+    ResumeFeatureEntity resumeFeature = resumeFeature();
+
+    when(jobPostingTechStackRepository.findAllByJobPostingKey(jobPostingKey)).thenReturn(List.of(
+        JobPostingTechStackEntity.builder().jobPostingKey(jobPostingKey).techName(TechStack.JAVA)
+            .build(),
+        JobPostingTechStackEntity.builder().jobPostingKey(jobPostingKey)
+            .techName(TechStack.SPRING_BOOT).build(),
+        JobPostingTechStackEntity.builder().jobPostingKey(jobPostingKey).techName(TechStack.AWS)
+            .build()));
+    when(resumeFeatureRepository.findAllByCandidateKeyIn(anyCollection())).thenReturn(
+        List.of(resumeFeature));
+
+    scoringService.scoreApplicant(jobPostingEntity, applicant);
+
+    // 학력 20 + 경험 1 + 자격증 2 + 포트폴리오 3 + 기술스택 2 * 5 + 경력 (3 - 2 + 1) * 5
+    assertEquals(46, applicant.getScore());
+    verify(resumeRepository, never()).findAllByCandidateKeyIn(anyCollection());
+    verify(resumeTechStackRepository, never()).findAllByResumeKeyIn(anyCollection());
+  }
+
+  @Test
+  @DisplayName("지원 시점 점수 계산 : 성공")
+  void testScoreApplicant_Success() {
+    JobPostingEntity jobPostingEntity = jobPosting();
+    ApplicantEntity applicant = ApplicantEntity.builder()
+        .id(1L).jobPostingKey(jobPostingKey).candidateKey("candidateKey1").build();
+
+    ResumeEntity resume = ResumeEntity.builder()
+        .resumeKey("resumeKey1")
+        .candidateKey("candidateKey1")
+        .education(Education.BACHELOR)
+        .portfolio("https://portfolio")
+        .build();
+
+    when(jobPostingTechStackRepository.findAllByJobPostingKey(jobPostingKey)).thenReturn(List.of(
+        JobPostingTechStackEntity.builder().jobPostingKey(jobPostingKey).techName(TechStack.JAVA)
+            .build()));
+    when(resumeRepository.findAllByCandidateKeyIn(anyCollection())).thenReturn(List.of(resume));
+    when(resumeTechStackRepository.findAllByResumeKeyIn(anyCollection())).thenReturn(List.of(
+        ResumeTechStackEntity.builder().resumeKey("resumeKey1").techStackName(TechStack.JAVA)
+            .build()));
+
+    scoringService.scoreApplicant(jobPostingEntity, applicant);
+
+    // 학력 + 포트폴리오 3 + 기술스택 1 * 5
+    assertEquals(Education.BACHELOR.getScore() + 3 + 5, applicant.getScore());
+    assertNotNull(applicant.getScoredAt());
+  }
+
+  @Test
+  @DisplayName("지원자 점수 채점 : 성공 - SQL 채점 모드는 지원자를 읽지 않고 DB 에서 계산")
+  @SuppressWarnings("unchecked")
+  void testScoreApplicants_SqlMode() {
+    ReflectionTestUtils.setField(scoringService, "scoringMode", ScoringMode.SQL);
+
+    JobPostingEntity jobPostingEntity = jobPosting();
+    ScoringProgressEntity progress = ScoringProgressEntity.builder()
+        .jobPostingKey(jobPostingKey)
+        .build();
+
+    doAnswer(invocation -> {
+      invocation.getArgument(0, Consumer.class).accept(null);
+      return null;
+    }).when(transactionTemplate).executeWithoutResult(any());
+    when(jobPostingRepository.findByJobPostingKey(jobPostingKey)).thenReturn(
+        Optional.of(jobPostingEntity));
+    when(scoringProgressRepository.findById(jobPostingKey)).thenReturn(Optional.of(progress));
+    when(applicantRepository.updateScoresInDatabase(jobPostingEntity, 1, 1, 1)).thenReturn(3);
+
+    ScoreDistributionEntity scoreDistribution = stubScoreDistribution();
+    ScoreHistogram aggregated = ScoreHistogram.empty();
+    aggregated.add(20, 3);
+    when(applicantRepository.aggregateScoreHistogram(jobPostingKey)).thenReturn(aggregated);
+
+    scoringService.scoreApplicants(jobPostingKey);
+
+    verify(applicantRepository, never()).findAllByJobPostingKeyAndIdGreaterThanOrderByIdAsc(
+        eq(jobPostingKey), any(), any(Limit.class));
+    verify(resumeFeatureRepository, never()).findAllByCandidateKeyIn(anyCollection());
+    assertTrue(progress.isCompleted());
+    assertEquals(3, scoreDistribution.getScoreHistogram().getScoreCount());
+  }
+
+  // 채용 공고 수정으로 무효화된 지원자 한 명을 마감 후 채점
+  private void stubInvalidatedApplicant(JobPostingEntity jobPostingEntity,
+      ApplicantEntity applicantEntity) {
+
+    runTransactionCallbacks();
+    stubScoreDistribution();
+    stubJobPostingTechStacks();
+    when(jobPostingRepository.findByJobPostingKey(jobPostingKey)).thenReturn(
+        Optional.of(jobPostingEntity));
+    when(scoringProgressRepository.findById(jobPostingKey)).thenReturn(Optional.of(
+        ScoringProgressEntity.builder().jobPostingKey(jobPostingKey).build()));
+    when(applicantRepository.findAllByJobPostingKeyAndIdGreaterThanOrderByIdAsc(eq(jobPostingKey),
+        eq(0L), any(Limit.class))).thenReturn(List.of(applicantEntity));
+  }
+
+  @Test
+  @DisplayName("채용 공고 수정 : 성공 - 점수를 다시 계산하지 않고 바뀐 항목만 지워 무효화")
+  void testInvalidateScores() {
+    when(applicantRepository.invalidateScores(jobPostingKey, EnumSet.of(PriorityType.TECH_STACK)))
+        .thenReturn(3);
+
+    scoringService.invalidateScores(jobPostingKey, EnumSet.of(PriorityType.TECH_STACK));
+
+    verify(applicantRepository, never()).findAllByJobPostingKeyAndIdGreaterThanOrderByIdAsc(
+        any(), any(), any(Limit.class));
+    verify(resumeFeatureRepository, never()).findAllByCandidateKeyIn(anyCollection());
+  }
+
+  @Test
+  @DisplayName("마감 후 채점 : 성공 - 채용 공고 수정으로 지워진 기술 스택 점수만 다시 계산")
+  void testScoreApplicants_RecomputeClearedComponents() {
+    // 이전 공고 기준 항목별 점수 : 기본 6, 학력 20, 경력 10, 기술스택은 수정으로 지워짐
+    ApplicantEntity invalidated = ApplicantEntity.builder()
+        .id(1L).jobPostingKey(jobPostingKey).candidateKey("candidateKey1")
+        .score(36)
+        .scoreBreakdown(new ScoreBreakdown(6, 20, 10, null))
+        .build();
+
+    stubInvalidatedApplicant(jobPosting(), invalidated);
+    when(resumeFeatureRepository.findAllByCandidateKeyIn(List.of("candidateKey1"))).thenReturn(
+        List.of(resumeFeature()));
+
+    scoringService.scoreApplicants(jobPostingKey);
+
+    verify(applicantRepository).batchUpdateScores(scoreBreakdownsCaptor.capture(),
+        totalScoreCaptor.capture());
+
+    // 기술스택만 2 * 5 로 다시 계산하고 나머지 항목은 유지
+    ScoreBreakdown scoreBreakdown = scoreBreakdownsCaptor.getValue().get(1L);
+    assertEquals(6, scoreBreakdown.getBaseScore());
+    assertEquals(20, scoreBreakdown.getEducationScore());
+    assertEquals(10, scoreBreakdown.getCareerScore());
+    assertEquals(10, scoreBreakdown.getTechStackScore());
+    assertEquals(46, totalScoreCaptor.getValue().applyAsInt(scoreBreakdown));
+  }
+
+  @Test
+  @DisplayName("마감 후 채점 : 성공 - 채용 공고 수정으로 우선순위만 바뀌면 이력서를 읽지 않고 가중치만 다시 적용")
+  void testScoreApplicants_ReapplyWeights() {
+    JobPostingEntity jobPostingEntity = JobPostingEntity.builder()
+        .jobPostingKey(jobPostingKey)
+        .jobCategory(JobCategory.BACKEND)
+        .education(Education.BACHELOR)
+        .career(2)
+        .priority(List.of(PriorityType.TECH_STACK, PriorityType.CAREER, PriorityType.EDUCATION))
+        .build();
+    ApplicantEntity invalidated = ApplicantEntity.builder()
+        .id(1L).jobPostingKey(jobPostingKey).candidateKey("candidateKey1")
+        .score(46)
+        .scoreBreakdown(new ScoreBreakdown(6, 20, 10, 10))
+        .build();
+
+    stubInvalidatedApplicant(jobPostingEntity, invalidated);
+
+    scoringService.scoreApplicants(jobPostingKey);
+
+    verify(resumeFeatureRepository, never()).findAllByCandidateKeyIn(anyCollection());
+    verify(applicantRepository).batchUpdateScores(scoreBreakdownsCaptor.capture(),
+        totalScoreCaptor.capture());
+
+    // 기본 6 + 학력 20 * 2 + 경력 10 * 3 + 기술스택 10 * 4
+    assertEquals(116, totalScoreCaptor.getValue()
+        .applyAsInt(scoreBreakdownsCaptor.getValue().get(1L)));
+  }
+
+  @Test
+  @DisplayName("지원자 점수 채점 : 실패 - JOB_POSTING_NOT_FOUND")
+  void testScoreApplicants_JobPostingNotFound() {
+    when(jobPostingRepository.findByJobPostingKey(jobPostingKey)).thenReturn(Optional.empty());
+
+    CustomException exception = assertThrows(CustomException.class,
+        () -> scoringService.scoreApplicants(jobPostingKey));
+
+    assertEquals(ErrorCode.JOB_POSTING_NOT_FOUND, exception.getErrorCode());
+    verify(applicantRepository, never()).findAllByJobPostingKeyAndIdGreaterThanOrderByIdAsc(
+        eq(jobPostingKey), any(), any(Limit.class));
+  }
+
+  @Test
+  @DisplayName("분산 채점 : 성공 - 지원자 ID 범위로 나눈 파티션을 발행하고 모두 끝난 뒤 점수 분포 집계")
+  void testScoreApplicants_Partitioned() {
+    ReflectionTestUtils.setField(scoringService, "partitionEnabled", true);
+    ReflectionTestUtils.setField(scoringService, "partitionMinApplicants", 3L);
+    ReflectionTestUtils.setField(scoringService, "partitionSize", 2);
+    ReflectionTestUtils.setField(scoringService, "partitionProgressIntervalMillis", 1L);
+    ReflectionTestUtils.setField(scoringService, "partitionTimeoutMillis", 10000L);
+
+    ScoringProgressEntity progress = ScoringProgressEntity.builder()
+        .jobPostingKey(jobPostingKey)
+        .build();
+
+    runTransactionCallbacks();
+    ScoreDistributionEntity scoreDistribution = stubScoreDistribution();
+    when(jobPostingRepository.findByJobPostingKey(jobPostingKey)).thenReturn(
+        Optional.of(jobPosting()));
+    when(applicantRepository.countByJobPostingKey(jobPostingKey)).thenReturn(3L);
+    when(scoringProgressRepository.findById(jobPostingKey)).thenReturn(Optional.of(progress));
+    when(scoringPartitionRepository.existsByJobPostingKey(jobPostingKey)).thenReturn(false);
+    when(applicantRepository.findPartitionBoundaries(jobPostingKey, 2)).thenReturn(List.of(2L));
+    when(scoringPartitionRepository.saveAll(anyCollection())).thenAnswer(invocation -> {
+      List<ScoringPartitionEntity> partitions = new ArrayList<>(invocation.getArgument(0));
+
+      assertEquals(2, partitions.size());
+      assertEquals(0L, partitions.get(0).getFromApplicantId());
+      assertEquals(2L, partitions.get(0).getToApplicantId());
+      assertEquals(2L, partitions.get(1).getFromApplicantId());
+      assertEquals(Long.MAX_VALUE, partitions.get(1).getToApplicantId());
+
+      return List.of(ScoringPartitionEntity.builder().id(10L).build(),
+          ScoringPartitionEntity.builder().id(11L).build());
+    });
+    when(scoringPartitionRepository.countByJobPostingKeyAndCompletedFalse(jobPostingKey))
+        .thenReturn(1L, 0L);
+    ScoreHistogram aggregated = ScoreHistogram.empty();
+    aggregated.add(20, 3);
+    when(applicantRepository.aggregateScoreHistogram(jobPostingKey)).thenReturn(aggregated);
+
+    assertTrue(scoringService.scoreApplicants(jobPostingKey));
+
+    verify(scoringPartitionQueue).publish(10L);
+    verify(scoringPartitionQueue).publish(11L);
+    // 이 노드에서 직접 채점하지 않음
+    verify(applicantRepository, never()).findAllByJobPostingKeyAndIdGreaterThanOrderByIdAsc(
+        eq(jobPostingKey), any(), any(Limit.class));
+    assertTrue(progress.isCompleted());
+    assertEquals(3, scoreDistribution.getScoreHistogram().getScoreCount());
+  }
+
+  @Test
+  @DisplayName("지원자 점수 채점 : 성공 - 남은 파티션이 있으면 다시 발행하지 않고 기다리지 않으며 false 반환")
+  void testScoreApplicants_PartitionsPending() {
+    ReflectionTestUtils.setField(scoringService, "partitionEnabled", true);
+    ReflectionTestUtils.setField(scoringService, "partitionMinApplicants", 3L);
+    ReflectionTestUtils.setField(scoringService, "partitionTimeoutMillis", 0L);
+
+    ScoringProgressEntity progress = ScoringProgressEntity.builder()
+        .jobPostingKey(jobPostingKey)
+        .build();
+
+    // 채점이 끝나지 않아 점수 분포를 집계하지 않으므로 파티션을 확인하는 트랜잭션만 실행
+    when(transactionTemplate.execute(any())).thenAnswer(
+        invocation -> invocation.getArgument(0, TransactionCallback.class)
+            .doInTransaction((TransactionStatus) null));
+    when(jobPostingRepository.findByJobPostingKey(jobPostingKey)).thenReturn(
+        Optional.of(jobPosting()));
+    when(applicantRepository.countByJobPostingKey(jobPostingKey)).thenReturn(3L);
+    when(scoringProgressRepository.findById(jobPostingKey)).thenReturn(Optional.of(progress));
+    // 이전 마감 처리에서 발행한 파티션
+    when(scoringPartitionRepository.existsByJobPostingKey(jobPostingKey)).thenReturn(true);
+    when(scoringPartitionRepository.countByJobPostingKeyAndCompletedFalse(jobPostingKey))
+        .thenReturn(1L);
+
+    assertFalse(scoringService.scoreApplicants(jobPostingKey));
+
+    verify(scoringPartitionRepository, never()).saveAll(anyCollection());
+    verify(scoringPartitionQueue, never()).publish(any());
+    verify(applicantRepository, never()).aggregateScoreHistogram(jobPostingKey);
+    assertFalse(progress.isCompleted());
+  }
+
+  @Test
+  @DisplayName("파티션 채점 : 성공 - 파티션의 지원자 ID 범위만 청크 단위로 채점하고 완료 처리")
+  void testScorePartition_Success() {
+    ScoringPartitionEntity partition = ScoringPartitionEntity.builder()
+        .id(10L)
+        .jobPostingKey(jobPostingKey)
+        .fromApplicantId(0L)
+        .toApplicantId(2L)
+        .build();
+    ApplicantEntity applicant1 = ApplicantEntity.builder()
+        .id(1L).jobPostingKey(jobPostingKey).candidateKey("candidateKey1")
+        .score(30).scoredAt(LocalDateTime.now()).build();
+    ApplicantEntity applicant2 = ApplicantEntity.builder()
+        .id(2L).jobPostingKey(jobPostingKey).candidateKey("candidateKey2")
+        .score(40).scoredAt(LocalDateTime.now()).build();
+
+    when(transactionTemplate.execute(any())).thenAnswer(
+        invocation -> invocation.getArgument(0, TransactionCallback.class)
+            .doInTransaction((TransactionStatus) null));
+    when(scoringPartitionRepository.findById(10L)).thenReturn(Optional.of(partition));
+    when(jobPostingRepository.findByJobPostingKey(jobPostingKey)).thenReturn(
+        Optional.of(jobPosting()));
+    when(applicantRepository.findAllByJobPostingKeyAndIdGreaterThanAndIdLessThanEqualOrderByIdAsc(
+        eq(jobPostingKey), eq(0L), eq(2L), any(Limit.class)))
+        .thenReturn(List.of(applicant1, applicant2));
+    when(applicantRepository.findAllByJobPostingKeyAndIdGreaterThanAndIdLessThanEqualOrderByIdAsc(
+        eq(jobPostingKey), eq(2L), eq(2L), any(Limit.class))).thenReturn(List.of());
+
+    assertTrue(scoringService.scorePartition(10L));
+
+    verify(scoringPartitionRepository).complete(10L, 2);
+    verify(applicantRepository, never()).batchUpdateScores(any(), any());
+  }
+
+  @Test
+  @DisplayName("파티션 채점 : 성공 - 이미 완료된 파티션은 다시 채점하지 않음")
+  void testScorePartition_AlreadyCompleted() {
+    when(scoringPartitionRepository.findById(10L)).thenReturn(Optional.of(
+        ScoringPartitionEntity.builder().id(10L).jobPostingKey(jobPostingKey).completed(true)
+            .build()));
+
+    assertFalse(scoringService.scorePartition(10L));
+
+    verify(jobPostingRepository, never()).findByJobPostingKey(jobPostingKey);
+    verify(scoringPartitionRepository, never()).complete(any(), anyInt());
+  }
+}